@@ -0,0 +1,47 @@
+package com.landr.config;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JWT 검증 비용 벤치마크: 매번 서명 검증/파싱하는 경우와 검증 캐시 적중 시를 비교
+ * 여러 스레드가 같은 토큰을 동시에 검증하는 상황(모바일 클라이언트의 30일 토큰 재사용)을 가정합니다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class JwtVerificationBenchmark {
+
+    private static final long THIRTY_DAYS_MILLIS = 2_592_000_000L;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(
+            "benchmark-secret-key-that-is-long-enough-for-hs256", THIRTY_DAYS_MILLIS, 10_000);
+        token = jwtTokenProvider.createToken(42L);
+        // 캐시 적중 측정을 위해 미리 한 번 검증
+        jwtTokenProvider.resolveUserId(token);
+    }
+
+    @Benchmark
+    public Long parseEveryTime() {
+        return jwtTokenProvider.verify(token).getUserId();
+    }
+
+    @Benchmark
+    public Long verifiedCacheHit() {
+        return jwtTokenProvider.resolveUserId(token);
+    }
+}
@@ -0,0 +1,67 @@
+package com.landr.service.schedule;
+
+import com.landr.domain.plan.DayOfWeek;
+import com.landr.domain.plan.DistributionStrategy;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * PERIOD 타입 배분 방식(GREEDY / BALANCED) 비교 벤치마크
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PeriodDistributionBenchmark {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 6);
+
+    @Param({"10", "100", "1000", "10000"})
+    private int lessonCount;
+
+    @Param({"GREEDY", "BALANCED"})
+    private DistributionStrategy strategy;
+
+    private SchedulePlanner schedulePlanner;
+    private int[] adjustedDurations;
+    private int studyDayMask;
+    private int fromEpochDay;
+    private int toEpochDay;
+
+    @Setup
+    public void setUp() {
+        schedulePlanner = new SchedulePlanner(
+            Clock.fixed(TODAY.atStartOfDay(ZONE).toInstant(), ZONE));
+
+        SplittableRandom random = new SplittableRandom(42);
+        int[] durations = new int[lessonCount];
+        for (int i = 0; i < lessonCount; i++) {
+            durations[i] = random.nextInt(10, 91);
+        }
+        adjustedDurations = SchedulePlanner.adjustDurations(durations, 1.5f);
+
+        studyDayMask = SchedulePlanner.studyDayMask(
+            EnumSet.of(DayOfWeek.MON, DayOfWeek.WED, DayOfWeek.FRI, DayOfWeek.SAT));
+        fromEpochDay = (int) TODAY.toEpochDay();
+        toEpochDay = fromEpochDay + Math.max(7, lessonCount / 2);
+    }
+
+    @Benchmark
+    public PlannedSchedule planPeriod() {
+        return schedulePlanner.planPeriod(adjustedDurations, fromEpochDay, toEpochDay, studyDayMask,
+            strategy);
+    }
+}
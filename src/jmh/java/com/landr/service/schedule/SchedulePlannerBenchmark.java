@@ -0,0 +1,71 @@
+package com.landr.service.schedule;
+
+import com.landr.domain.plan.DayOfWeek;
+import com.landr.domain.plan.PlanType;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * SchedulePlanner 배치 계산 벤치마크 (DB 없이 순수 계산 시간만 측정)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchedulePlannerBenchmark {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 6);
+
+    @Param({"10", "100", "1000", "10000"})
+    private int lessonCount;
+
+    @Param({"PERIOD", "TIME"})
+    private PlanType planType;
+
+    private SchedulePlanner schedulePlanner;
+    private int[] durations;
+    private int studyDayMask;
+    private int fromEpochDay;
+    private int toEpochDay;
+
+    @Setup
+    public void setUp() {
+        schedulePlanner = new SchedulePlanner(
+            Clock.fixed(TODAY.atStartOfDay(ZONE).toInstant(), ZONE));
+
+        // 실제 강의와 비슷한 10 ~ 90분 길이의 강의 목록 (고정 시드)
+        SplittableRandom random = new SplittableRandom(42);
+        durations = new int[lessonCount];
+        for (int i = 0; i < lessonCount; i++) {
+            durations[i] = random.nextInt(10, 91);
+        }
+
+        studyDayMask = SchedulePlanner.studyDayMask(
+            EnumSet.of(DayOfWeek.MON, DayOfWeek.TUE, DayOfWeek.WED, DayOfWeek.THU, DayOfWeek.FRI));
+        fromEpochDay = (int) TODAY.toEpochDay();
+        // 강의 수에 비례하는 기간 (하루 평균 3강 정도)
+        toEpochDay = fromEpochDay + Math.max(7, lessonCount / 2);
+    }
+
+    @Benchmark
+    public PlannedSchedule plan() {
+        int[] adjustedDurations = SchedulePlanner.adjustDurations(durations, 1.5f);
+        if (planType == PlanType.PERIOD) {
+            return schedulePlanner.planPeriod(adjustedDurations, fromEpochDay, toEpochDay, studyDayMask);
+        }
+        return schedulePlanner.planTime(adjustedDurations, schedulePlanner.today(), 120, studyDayMask);
+    }
+}
@@ -0,0 +1,54 @@
+package com.landr.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 비동기 스케줄 생성용 스레드 풀
+     * 큐가 가득 차면 작업을 거절하며, 거절된 Plan은 PENDING으로 남아 ScheduleGenerationWorker의 sweep이 다시 넣습니다.
+     */
+    @Bean(name = "scheduleGenerationExecutor")
+    public Executor scheduleGenerationExecutor(
+        @Value("${schedule.generation.pool-size:4}") int poolSize,
+        @Value("${schedule.generation.queue-capacity:500}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("schedule-gen-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * FCM 배치 전송용 스레드 풀
+     * 풀 크기만큼만 FCM 요청을 동시에 보내며, 큐가 가득 차면 호출한 스레드에서 직접 전송합니다.
+     */
+    @Bean(name = "fcmDispatchExecutor")
+    public Executor fcmDispatchExecutor(
+        @Value("${notification.dispatch.pool-size:8}") int poolSize,
+        @Value("${notification.dispatch.queue-capacity:200}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("fcm-dispatch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,17 @@
+package com.landr.config;
+
+import java.time.Clock;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ClockConfig {
+
+    /**
+     * 날짜 계산에 사용하는 Clock (테스트/벤치마크에서는 고정 Clock으로 교체할 수 있습니다)
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
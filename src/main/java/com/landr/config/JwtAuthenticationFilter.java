@@ -1,9 +1,9 @@
 package com.landr.config;
 
 import com.landr.domain.user.User;
-import com.landr.repository.user.UserRepository;
 import com.landr.exception.ExceptionType;
 import com.landr.exception.ApiException;
+import com.landr.service.user.AuthenticatedUserCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,18 +17,17 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
     private final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, AuthenticatedUserCache authenticatedUserCache) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userRepository = userRepository;
+        this.authenticatedUserCache = authenticatedUserCache;
     }
 
     @Override
@@ -51,11 +50,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 throw new ApiException(ExceptionType.INVALID_TOKEN);
             }
 
-            // 토큰 유효성 검증
-            jwtTokenProvider.validateToken(token);
-
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
-            User user = userRepository.findById(userId)
+            // 토큰 유효성 검증과 사용자 ID 추출 (서명 검증은 한 번만 수행)
+            Long userId = jwtTokenProvider.resolveUserId(token);
+            User user = authenticatedUserCache.get(userId)
                     .orElseThrow(() -> new ApiException(ExceptionType.TOKEN_NOT_FOUND_USER));
 
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
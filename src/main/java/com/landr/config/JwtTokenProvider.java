@@ -1,31 +1,54 @@
 package com.landr.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.landr.exception.ApiException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import static com.landr.exception.ExceptionType.INVALID_TOKEN;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final String secretKey;
+    private final long validityInMilliseconds;
 
-    @Value("${jwt.expiration}")
-    private long validityInMilliseconds;
+    // 서명 검증용 파서 (스레드 안전하므로 한 번만 만들어 재사용)
+    private final JwtParser jwtParser;
 
-    @PostConstruct
-    protected void init() {
-        secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
+    // 검증을 통과한 토큰 캐시 (키: 토큰의 SHA-256, 토큰 만료 시각에 함께 만료)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration}") long validityInMilliseconds,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize
+    ) {
+        this.secretKey = Base64.getEncoder().encodeToString(secret.getBytes());
+        this.validityInMilliseconds = validityInMilliseconds;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Base64.getDecoder().decode(secretKey))
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .build();
     }
 
     public String createToken(Long userId) {
@@ -42,22 +65,92 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Long getUserIdFromToken(String token) {
-        String userId = Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    /**
+     * 토큰 서명과 만료를 검증하고 사용자 ID를 꺼냅니다.
+     * 한 번 검증된 토큰은 만료 전까지 캐시에서 바로 사용자 ID를 반환합니다.
+     *
+     * @throws ApiException 유효하지 않은 토큰인 경우 (INVALID_TOKEN)
+     */
+    public Long resolveUserId(String token) {
+        if (token == null) {
+            throw new ApiException(INVALID_TOKEN);
+        }
 
-        return Long.parseLong(userId);
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.getExpiresAtMillis() > System.currentTimeMillis()) {
+            return cached.getUserId();
+        }
+
+        VerifiedToken verified = verify(token);
+        verifiedTokens.put(key, verified);
+        return verified.getUserId();
+    }
+
+    public Long getUserIdFromToken(String token) {
+        return resolveUserId(token);
     }
 
     public boolean validateToken(String token) {
+        resolveUserId(token);
+        return true;
+    }
+
+    /**
+     * 캐시를 거치지 않고 토큰을 파싱해 서명과 만료를 검증합니다.
+     */
+    VerifiedToken verify(String token) {
         try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            // 만료 시각이 없는 토큰은 캐시 기간을 발급 유효 기간으로 제한
+            long expiresAtMillis = claims.getExpiration() != null
+                    ? claims.getExpiration().getTime()
+                    : System.currentTimeMillis() + validityInMilliseconds;
+            return new VerifiedToken(Long.parseLong(claims.getSubject()), expiresAtMillis);
         } catch (JwtException | IllegalArgumentException e) {
             throw new ApiException(INVALID_TOKEN);
         }
     }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static final class VerifiedToken {
+
+        private final Long userId;
+        private final long expiresAtMillis;
+    }
+
+    /**
+     * 캐시 항목을 토큰의 exp 시각에 만료시킵니다. (조회, 갱신으로 수명이 늘어나지 않음)
+     */
+    private static class ExpireAtTokenExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.getExpiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
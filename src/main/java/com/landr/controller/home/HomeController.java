@@ -1,17 +1,10 @@
 package com.landr.controller.home;
 
-import com.landr.controller.dday.dto.DDayDto;
 import com.landr.controller.home.dto.HomeResponse;
 import com.landr.domain.user.User;
-import com.landr.service.dday.DDayService;
-import com.landr.service.dto.WeeklyAchievementDto;
-import com.landr.service.lessonschedule.LessonScheduleService;
-import com.landr.service.schedule.ScheduleService;
-import com.landr.service.dto.DailyScheduleWithLessonsDto;
-import com.landr.service.dto.UserProgressDto;
+import com.landr.service.home.HomeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,30 +18,11 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Home", description = "홈 화면 관련 API")
 public class HomeController {
 
-    private final ScheduleService scheduleService;
-    private final LessonScheduleService lessonScheduleService;
-    private final DDayService dDayService;
+    private final HomeService homeService;
 
     @Operation(summary = "홈 화면 조회")
     @GetMapping()
     public ResponseEntity<HomeResponse> home(@AuthenticationPrincipal User user) {
-        Long userId = user.getId();
-        DailyScheduleWithLessonsDto dailySchedules = scheduleService.getUserDailySchedules(userId,
-            LocalDate.now());
-
-        UserProgressDto userProgress = scheduleService.getUserProgress(userId);
-
-        WeeklyAchievementDto weeklyAchievement = lessonScheduleService.getWeeklyAchievement(userId);
-
-        DDayDto dDay = dDayService.getOneUserDDay(userId);
-
-        return ResponseEntity.ok(
-            HomeResponse.builder()
-                .todaySchedule(dailySchedules)
-                .userProgress(userProgress)
-                .weeklyAchievement(weeklyAchievement)
-                .dDay(dDay)
-                .build()
-        );
+        return ResponseEntity.ok(homeService.getHome(user.getId()));
     }
 }
@@ -3,9 +3,11 @@ package com.landr.controller.lecture;
 import com.landr.controller.lecture.dto.LessonsResponseDto;
 import com.landr.service.dto.lecture.CursorPageResponseDto;
 import com.landr.service.dto.lecture.LectureResponseDto;
+import com.landr.service.dto.lecture.LectureSuggestionDto;
 import com.landr.service.lecture.LectureService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
+import java.util.List;
 import org.springdoc.core.annotations.ParameterObject;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -41,6 +43,18 @@ public class LectureController {
         return lectureService.searchLatestLectures(req);
     }
 
+    /**
+     * 강의 제목/선생님 이름 자동완성
+     */
+    @GetMapping("/autocomplete")
+    @Operation(summary = "강의 자동완성 (title, teacher)", description = "강의명 또는 선생님 이름이 검색어로 시작하는 강의를 최신순으로 최대 10개 조회합니다. 초성(ㅁㅈㅂ)과 입력 중인 한글(밎)도 지원합니다.")
+    public List<LectureSuggestionDto> autocompleteLectures(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return lectureService.autocompleteLectures(query, limit);
+    }
+
     @GetMapping("/{lectureId}/lessons")
     @Operation(summary = "lectureId에 해당하는 강의의 lesson 목록 조회", description = "lectureId에 해당하는 강의의 lesson 목록을 조회합니다.")
     public ResponseEntity<LessonsResponseDto> getLessonsByLectureId(
@@ -7,6 +7,7 @@ import com.landr.service.mypage.dto.MyPageStatistics;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.time.YearMonth;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -43,4 +44,15 @@ public class MyPageController {
         MyPageStatistics statistics = myPageService.getMonthlyStatistics(user.getId(), date);
         return ResponseEntity.ok(statistics);
     }
+
+    // 기간별 월간 공부 시간, 학습 통계 조회
+    @GetMapping("/statistics/range")
+    @Operation(summary = "기간별 공부 기록 통계 조회", description = "시작 월부터 종료 월까지(최대 12개월) 월별 과목별 공부 시간과 주차별 공부 시간을 조회합니다. 날짜 형식은 yyyy-MM (예: 2025-01)")
+    public ResponseEntity<List<MyPageStatistics>> getStatisticsRange(
+        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+        @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(myPageService.getStatistics(user.getId(), from, to));
+    }
 }
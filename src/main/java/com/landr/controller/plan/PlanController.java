@@ -5,9 +5,12 @@ import com.landr.controller.plan.dto.CreatePlanRequest;
 import com.landr.controller.plan.dto.EditLectureNameRequest;
 import com.landr.controller.plan.dto.EditLectureNameResponse;
 import com.landr.controller.plan.dto.UpdatePlanRequest;
+import com.landr.domain.plan.Plan;
 import com.landr.domain.user.User;
 import com.landr.service.dto.PlanDetailResponse;
+import com.landr.service.dto.PlanPreviewResponse;
 import com.landr.service.dto.PlanSummaryDto;
+import com.landr.service.dto.ScheduleStatusResponse;
 import com.landr.service.plan.PlanService;
 import com.landr.service.schedule.ScheduleGeneratorService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -66,6 +69,41 @@ public class PlanController {
         ).build());
     }
 
+    @Operation(summary = "계획 미리보기", description = "계획을 저장하지 않고 스케줄 배분 결과(일수, 날짜별 공부 시간, "
+        + "예상 종료일)만 계산합니다. 요청 형식은 계획 생성과 같습니다.")
+    @PostMapping("/preview")
+    public ResponseEntity<PlanPreviewResponse> previewPlan(
+        @RequestBody @Valid CreatePlanRequest request,
+        @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(planService.previewPlan(request, user));
+    }
+
+    @Operation(summary = "계획 비동기 생성", description = "계획만 먼저 저장하고 스케줄은 백그라운드에서 생성합니다. "
+        + "생성 결과는 /v1/plans/{planId}/schedule-status 로 확인합니다.")
+    @PostMapping("/async")
+    public ResponseEntity<ScheduleStatusResponse> createPlanAsync(
+        @RequestBody @Valid CreatePlanRequest request,
+        @AuthenticationPrincipal User user
+    ) {
+        Plan plan = planService.createPlanAsync(request, user);
+        return ResponseEntity.accepted().body(
+            ScheduleStatusResponse.builder()
+                .planId(plan.getId())
+                .status(plan.resolveScheduleStatus())
+                .build()
+        );
+    }
+
+    @Operation(summary = "계획 스케줄 생성 상태 조회", description = "PENDING: 생성 중, READY: 생성 완료, FAILED: 생성 실패")
+    @GetMapping("/{planId}/schedule-status")
+    public ResponseEntity<ScheduleStatusResponse> getScheduleStatus(
+        @PathVariable Long planId,
+        @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(planService.getScheduleStatus(planId, user.getId()));
+    }
+
     @Operation(summary = "계획 목록 조회(나의 강의실)")
     @GetMapping("/me")
     public ResponseEntity<List<PlanSummaryDto>> getMyPlans(
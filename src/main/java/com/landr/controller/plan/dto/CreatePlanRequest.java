@@ -1,6 +1,7 @@
 package com.landr.controller.plan.dto;
 
 import com.landr.domain.plan.DayOfWeek;
+import com.landr.domain.plan.DistributionStrategy;
 import com.landr.domain.plan.PlanType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
@@ -64,6 +65,14 @@ public class CreatePlanRequest {
     @Schema(description = "강의 속도", example = "1.5", minimum = "1.0", maximum = "2.0", requiredMode = RequiredMode.REQUIRED)
     private Float playbackSpeed;
 
+    @Schema(
+        description = "PERIOD 타입 강의 배분 방식 (GREEDY: 기본 배분, BALANCED: 하루 최대 공부 시간 최소화)",
+        allowableValues = {"GREEDY", "BALANCED"},
+        defaultValue = "GREEDY",
+        requiredMode = RequiredMode.NOT_REQUIRED
+    )
+    private DistributionStrategy distributionStrategy;
+
     @AssertTrue(message = "시작 날짜는 종료 날짜보다 이후일 수 없습니다")
     private boolean isStartDateBeforeEndDate() {
         if (startDate == null || endDate == null) {
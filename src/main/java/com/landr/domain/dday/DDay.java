@@ -10,6 +10,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "ddays")
+@Table(name = "ddays", indexes = {
+    @Index(name = "idx_ddays_goal_date", columnList = "goal_date")
+})
 @Getter
 public class DDay {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,9 @@
+package com.landr.domain.plan;
+
+public enum DistributionStrategy {
+    // 하루 평균 시간의 1.4배까지 앞에서부터 채우는 기본 배분
+    GREEDY,
+
+    // 하루 최대 공부 시간이 최소가 되도록 나누는 균등 배분 (PERIOD 타입 전용)
+    BALANCED
+}
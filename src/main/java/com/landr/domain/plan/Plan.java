@@ -18,6 +18,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -36,7 +37,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Getter
 @Entity
-@Table(name = "plans")
+@Table(name = "plans", indexes = {
+    @Index(name = "idx_plans_schedule_status_created_at", columnList = "schedule_status, created_at")
+})
 public class Plan {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -77,9 +80,27 @@ public class Plan {
     @Column(name = "playback_speed", nullable = false)
     private Float playbackSpeed = 1.0f;
 
+    // PERIOD 타입의 강의 배분 방식 (null이면 GREEDY)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "distribution_strategy")
+    private DistributionStrategy distributionStrategy;
+
+    // 스케줄 생성 상태 (null이면 동기 생성된 계획으로 READY)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "schedule_status")
+    private ScheduleStatus scheduleStatus;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 마지막으로 미완료 강의를 재스케줄링한 시각 (null이면 생성 후 재배치된 적 없음)
+    @Column(name = "rescheduled_at")
+    private LocalDateTime rescheduledAt;
+
+    // rescheduled_at을 기록하는 버전에서 생성된 계획인지 여부 (null이면 그 이전에 생성되어 재배치 이력을 알 수 없음)
+    @Column(name = "reschedule_tracked")
+    private Boolean rescheduleTracked;
+
     @ElementCollection
     @CollectionTable(
         name = "plan_study_days",
@@ -96,6 +117,7 @@ public class Plan {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         isDeleted = false;
+        rescheduleTracked = true;
     }
 
     // 유저별 강의명 수정
@@ -103,6 +125,37 @@ public class Plan {
         this.lectureName = lectureName;
     }
 
+    public DistributionStrategy resolveDistributionStrategy() {
+        return distributionStrategy != null ? distributionStrategy : DistributionStrategy.GREEDY;
+    }
+
+    public ScheduleStatus resolveScheduleStatus() {
+        return scheduleStatus != null ? scheduleStatus : ScheduleStatus.READY;
+    }
+
+    public void markSchedulePending() {
+        this.scheduleStatus = ScheduleStatus.PENDING;
+    }
+
+    public void markScheduleReady() {
+        this.scheduleStatus = ScheduleStatus.READY;
+    }
+
+    public void markRescheduled() {
+        this.rescheduledAt = LocalDateTime.now();
+    }
+
+    public boolean isRescheduled() {
+        return rescheduledAt != null;
+    }
+
+    /**
+     * 스케줄이 생성된 배치 그대로인지 여부 (재배치되었거나 재배치 이력을 알 수 없는 기존 계획이면 false)
+     */
+    public boolean hasGeneratedLayout() {
+        return Boolean.TRUE.equals(rescheduleTracked) && rescheduledAt == null;
+    }
+
     public void delete() {
         isDeleted = true;
     }
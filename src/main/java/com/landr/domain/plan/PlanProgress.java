@@ -0,0 +1,55 @@
+package com.landr.domain.plan;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계획별 진행 현황 집계
+ * 수업 체크/스케줄 생성 시 함께 갱신되어, 진행률 조회 시 lesson_schedules를 다시 세지 않아도 됩니다.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@Table(name = "plan_progress", indexes = {
+    @Index(name = "idx_plan_progress_user_id", columnList = "user_id")
+})
+public class PlanProgress {
+
+    @Id
+    @Column(name = "plan_id")
+    private Long planId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "total_lessons", nullable = false)
+    private int totalLessons;
+
+    @Column(name = "completed_lessons", nullable = false)
+    private int completedLessons;
+
+    @Column(name = "completed_minutes", nullable = false)
+    private long completedMinutes;
+
+    // 마지막으로 수업을 완료한 시각 (완료 취소 시에는 갱신하지 않음)
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    public static PlanProgress initialize(Plan plan, int totalLessons) {
+        return PlanProgress.builder()
+            .planId(plan.getId())
+            .userId(plan.getUser().getId())
+            .totalLessons(totalLessons)
+            .build();
+    }
+}
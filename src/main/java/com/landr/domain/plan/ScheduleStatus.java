@@ -0,0 +1,12 @@
+package com.landr.domain.plan;
+
+public enum ScheduleStatus {
+    // 스케줄 생성 대기 중 (비동기 생성)
+    PENDING,
+
+    // 스케줄 생성 완료
+    READY,
+
+    // 스케줄 생성 실패
+    FAILED
+}
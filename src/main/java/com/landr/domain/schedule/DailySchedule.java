@@ -59,6 +59,11 @@ public class DailySchedule {
         this.totalDuration += additionalDuration;
     }
 
+    public void updateTotals(int totalLessons, int totalDuration) {
+        this.totalLessons = totalLessons;
+        this.totalDuration = totalDuration;
+    }
+
     @Override
     public String toString() {
         return "DailySchedule{" +
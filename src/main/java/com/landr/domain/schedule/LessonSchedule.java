@@ -9,6 +9,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +20,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "lesson_schedules")
+@Table(name = "lesson_schedules", indexes = {
+    @Index(name = "idx_lesson_schedules_updated_at", columnList = "updated_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -55,6 +58,15 @@ public class LessonSchedule {
         return this.completed;
     }
 
+    /**
+     * 미완료 강의를 다른 일정으로 옮기거나 배치 정보를 갱신합니다.
+     */
+    public void reschedule(DailySchedule dailySchedule, int adjustedDuration, int displayOrder) {
+        this.dailySchedule = dailySchedule;
+        this.adjustedDuration = adjustedDuration;
+        this.displayOrder = displayOrder;
+    }
+
     @Override
     public String toString() {
         return "LessonSchedule{" +
@@ -0,0 +1,60 @@
+package com.landr.domain.scheduler;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄 작업 실행권(lease)과 샤드별 완료 기록
+ * (작업, 실행 키, 샤드)마다 한 행이며, 행을 먼저 만든 노드만 해당 샤드를 처리합니다.
+ * 처리 중인 노드가 죽으면 lockedUntil이 지난 뒤 다른 노드가 실행권을 가져갈 수 있습니다.
+ */
+@Entity
+@Table(name = "scheduler_runs", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"job_name", "run_key", "shard_index"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    // 같은 작업의 한 회차를 구분하는 키 (예: 실행 날짜)
+    @Column(name = "run_key", nullable = false, length = 50)
+    private String runKey;
+
+    @Column(name = "shard_index", nullable = false)
+    private int shardIndex;
+
+    @Column(name = "shard_count", nullable = false)
+    private int shardCount;
+
+    // 실행권을 가진 노드
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+}
@@ -0,0 +1,42 @@
+package com.landr.domain.user;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 일일 학습 활동
+ * 하루(epoch day) 동안 완료 처리한 수업 수를 보관하며, 연속 학습일 계산 시 한 번의 조회로 사용합니다.
+ */
+@Entity
+@Table(name = "study_activities", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"user_id", "epoch_day"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 1970-01-01 기준 일 수 (LocalDate.toEpochDay)
+    @Column(name = "epoch_day", nullable = false)
+    private int epochDay;
+
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount;
+}
@@ -0,0 +1,57 @@
+package com.landr.domain.user;
+
+import com.landr.domain.lecture.Subject;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지난 달의 공부 기록 통계 집계
+ * 사용자, 월, 과목, 주차별 완료한 공부 시간과 수업 수를 보관하며, 지난 달 통계 조회 시 원본 대신 사용합니다.
+ */
+@Entity
+@Table(name = "study_statistics_rollups", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"user_id", "stat_month", "subject", "week_start"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyStatisticsRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 해당 월의 1일
+    @Column(name = "stat_month", nullable = false)
+    private LocalDate statMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Subject subject;
+
+    // 해당 주의 월요일 (이전 달에서 시작하는 주는 그 달의 1일)
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "completed_minutes", nullable = false)
+    private long completedMinutes;
+
+    @Column(name = "completed_lessons", nullable = false)
+    private int completedLessons;
+}
@@ -1,12 +1,35 @@
 package com.landr.repository.dday;
 
 import com.landr.domain.dday.DDay;
+import com.landr.repository.dday.dto.DueDDay;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DDayRepository extends JpaRepository<DDay, Long> {
 
     @Query("SELECT d FROM DDay d WHERE d.user.id = :userId")
     List<DDay> findByUserId(Long userId);
+
+    /**
+     * 목표 날짜가 주어진 날짜 중 하나인 D-Day를 ID 순으로 lastId 이후부터 조회합니다. (keyset 페이징)
+     * goal_date 인덱스로 해당 날짜의 행만 읽으며, user_id % shardCount == shardIndex 인 사용자만 조회합니다.
+     */
+    @Query("SELECT new com.landr.repository.dday.dto.DueDDay(d.id, d.user.id, d.title, d.goalDate) " +
+        "FROM DDay d " +
+        "WHERE d.goalDate IN :goalDates " +
+        "AND MOD(d.user.id, :shardCount) = :shardIndex " +
+        "AND d.id > :lastId " +
+        "ORDER BY d.id")
+    List<DueDDay> findDueDDaysAfter(
+        @Param("goalDates") Collection<LocalDate> goalDates,
+        @Param("shardCount") int shardCount,
+        @Param("shardIndex") int shardIndex,
+        @Param("lastId") Long lastId,
+        Pageable pageable
+    );
 }
@@ -0,0 +1,18 @@
+package com.landr.repository.dday.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림을 보낼 D-Day (엔티티 로딩 없이 조회하는 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class DueDDay {
+
+    private Long id;
+    private Long userId;
+    private String title;
+    private LocalDate goalDate;
+}
@@ -0,0 +1,97 @@
+package com.landr.repository.home;
+
+import com.landr.domain.plan.DayOfWeek;
+import com.landr.repository.home.dto.HomeLessonRow;
+import com.landr.repository.home.dto.HomeSummary;
+import com.landr.repository.home.dto.PlanProgressRow;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 홈 화면 조회 전용 저장소입니다.
+ * 엔티티 그래프 대신 필요한 컬럼만 집계/프로젝션하여 홈 화면을 두 번의 쿼리로 구성합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HomeQueryRepository {
+
+    private static final String SELECT_LESSON_ROWS_SQL =
+        "SELECT ds.date, ds.day_of_week, ls.id AS lesson_schedule_id, l.title AS lesson_title, "
+            + "lec.title AS lecture_title, ls.adjusted_duration, ls.display_order, ls.completed "
+            + "FROM daily_schedules ds "
+            + "JOIN plans p ON p.id = ds.plan_id "
+            + "LEFT JOIN lesson_schedules ls ON ls.daily_schedule_id = ds.id "
+            + "LEFT JOIN lessons l ON l.id = ls.lesson_id "
+            + "LEFT JOIN lectures lec ON lec.id = l.lecture_id "
+            + "WHERE p.user_id = ? AND ds.date BETWEEN ? AND ? "
+            + "ORDER BY ds.date, ds.id, ls.display_order";
+
+    private static final String SELECT_SUMMARY_SQL =
+        "SELECT 'PLAN' AS row_type, p.id AS id, p.lecture_name AS text1, lec.title AS text2, "
+            + "pp.total_lessons, pp.completed_lessons, NULL AS goal_date "
+            + "FROM plan_progress pp "
+            + "JOIN plans p ON p.id = pp.plan_id "
+            + "JOIN lectures lec ON lec.id = p.lecture_id "
+            + "WHERE pp.user_id = ? AND pp.total_lessons > 0 "
+            + "UNION ALL "
+            + "(SELECT 'DDAY', d.id, d.title, NULL, NULL, NULL, d.goal_date "
+            + "FROM ddays d WHERE d.user_id = ? ORDER BY d.id DESC LIMIT 1)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자의 기간 내 일자별 수업 일정을 날짜, 표시 순서대로 조회합니다.
+     */
+    public List<HomeLessonRow> findLessonRows(Long userId, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(SELECT_LESSON_ROWS_SQL,
+            (rs, rowNum) -> {
+                long lessonScheduleId = rs.getLong("lesson_schedule_id");
+                boolean hasLesson = !rs.wasNull();
+                return new HomeLessonRow(
+                    rs.getDate("date").toLocalDate(),
+                    DayOfWeek.valueOf(rs.getString("day_of_week")),
+                    hasLesson ? lessonScheduleId : null,
+                    rs.getString("lesson_title"),
+                    rs.getString("lecture_title"),
+                    rs.getInt("adjusted_duration"),
+                    rs.getInt("display_order"),
+                    rs.getBoolean("completed"));
+            },
+            userId, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    /**
+     * 계획별 진행 현황(plan_progress)과 가장 최근에 만든 D-Day를 한 번에 조회합니다.
+     */
+    public HomeSummary findSummary(Long userId) {
+        List<PlanProgressRow> planProgress = new ArrayList<>();
+        Long[] dDayId = new Long[1];
+        String[] dDayTitle = new String[1];
+        LocalDate[] dDayGoalDate = new LocalDate[1];
+
+        jdbcTemplate.query(SELECT_SUMMARY_SQL,
+            rs -> {
+                if ("DDAY".equals(rs.getString("row_type"))) {
+                    dDayId[0] = rs.getLong("id");
+                    dDayTitle[0] = rs.getString("text1");
+                    Date goalDate = rs.getDate("goal_date");
+                    dDayGoalDate[0] = goalDate != null ? goalDate.toLocalDate() : null;
+                    return;
+                }
+                planProgress.add(new PlanProgressRow(
+                    rs.getLong("id"),
+                    rs.getString("text1"),
+                    rs.getString("text2"),
+                    rs.getInt("total_lessons"),
+                    rs.getInt("completed_lessons")));
+            },
+            userId, userId);
+
+        return new HomeSummary(planProgress, dDayId[0], dDayTitle[0], dDayGoalDate[0]);
+    }
+}
@@ -0,0 +1,23 @@
+package com.landr.repository.home.dto;
+
+import com.landr.domain.plan.DayOfWeek;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 홈 화면용 일자별 수업 일정 행 (수업 일정이 없는 DailySchedule은 lessonScheduleId가 null)
+ */
+@Getter
+@AllArgsConstructor
+public class HomeLessonRow {
+
+    private LocalDate date;
+    private DayOfWeek dayOfWeek;
+    private Long lessonScheduleId;
+    private String lessonTitle;
+    private String lectureTitle;
+    private int adjustedDuration;
+    private int displayOrder;
+    private boolean completed;
+}
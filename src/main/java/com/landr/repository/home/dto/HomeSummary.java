@@ -0,0 +1,19 @@
+package com.landr.repository.home.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 계획별 진행 집계와 가장 최근 D-Day (D-Day가 없으면 dDayId가 null)
+ */
+@Getter
+@AllArgsConstructor
+public class HomeSummary {
+
+    private List<PlanProgressRow> planProgress;
+    private Long dDayId;
+    private String dDayTitle;
+    private LocalDate dDayGoalDate;
+}
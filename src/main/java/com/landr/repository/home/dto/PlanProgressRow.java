@@ -0,0 +1,18 @@
+package com.landr.repository.home.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 계획별 수업 진행 집계 행
+ */
+@Getter
+@AllArgsConstructor
+public class PlanProgressRow {
+
+    private Long planId;
+    private String lectureAlias;
+    private String lectureTitle;
+    private int totalLessons;
+    private int completedLessons;
+}
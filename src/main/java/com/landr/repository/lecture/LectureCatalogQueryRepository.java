@@ -0,0 +1,75 @@
+package com.landr.repository.lecture;
+
+import com.landr.domain.lecture.Platform;
+import com.landr.domain.lecture.Subject;
+import com.landr.repository.lecture.dto.CatalogLecture;
+import com.landr.repository.lecture.dto.CatalogLesson;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 강의 카탈로그 스냅샷을 만들기 위한 조회 전용 저장소입니다.
+ * 강의와 수업 전체를 엔티티로 만들지 않고 한 행씩 읽어 전달합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LectureCatalogQueryRepository {
+
+    private static final String SELECT_LECTURES_SQL =
+        "SELECT id, title, teacher, platform, subject, tag, total_lessons, total_duration, created_at "
+            + "FROM lectures ORDER BY id";
+
+    private static final String SELECT_LESSONS_SQL =
+        "SELECT id, lecture_id, `order`, duration, title "
+            + "FROM lessons ORDER BY lecture_id, `order`, id";
+
+    // 강의/수업이 추가되었는지 확인하기 위한 행 수와 최대 ID
+    private static final String SELECT_FINGERPRINT_SQL =
+        "SELECT (SELECT COUNT(*) FROM lectures), (SELECT COALESCE(MAX(id), 0) FROM lectures), "
+            + "(SELECT COUNT(*) FROM lessons), (SELECT COALESCE(MAX(id), 0) FROM lessons)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 강의를 ID 순으로 한 건씩 전달합니다.
+     */
+    public void forEachLecture(Consumer<CatalogLecture> consumer) {
+        jdbcTemplate.query(SELECT_LECTURES_SQL, rs -> {
+            consumer.accept(new CatalogLecture(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("teacher"),
+                Platform.valueOf(rs.getString("platform")),
+                Subject.valueOf(rs.getString("subject")),
+                rs.getString("tag"),
+                rs.getInt("total_lessons"),
+                rs.getInt("total_duration"),
+                rs.getTimestamp("created_at").toLocalDateTime()));
+        });
+    }
+
+    /**
+     * 수업을 (강의 ID, 순서) 순으로 한 건씩 전달합니다.
+     */
+    public void forEachLesson(Consumer<CatalogLesson> consumer) {
+        jdbcTemplate.query(SELECT_LESSONS_SQL, rs -> {
+            consumer.accept(new CatalogLesson(
+                rs.getLong("id"),
+                rs.getLong("lecture_id"),
+                rs.getInt("order"),
+                rs.getInt("duration"),
+                rs.getString("title")));
+        });
+    }
+
+    /**
+     * 강의/수업 테이블의 (행 수, 최대 ID)를 조회합니다. 값이 같으면 카탈로그를 다시 만들 필요가 없습니다.
+     */
+    public List<Long> findFingerprint() {
+        return jdbcTemplate.queryForObject(SELECT_FINGERPRINT_SQL,
+            (rs, rowNum) -> List.of(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)));
+    }
+}
@@ -51,7 +51,8 @@ public class LectureRepositoryImpl implements LectureRepositoryCustom {
         if (req.getSearch() != null && !req.getSearch().isBlank()) {
             BooleanExpression searchCondition =
                     lecture.title.containsIgnoreCase(req.getSearch())
-                            .or(lecture.teacher.containsIgnoreCase(req.getSearch()));
+                            .or(lecture.teacher.containsIgnoreCase(req.getSearch()))
+                            .or(lecture.tag.containsIgnoreCase(req.getSearch()));
             cond.and(searchCondition);
         }
 
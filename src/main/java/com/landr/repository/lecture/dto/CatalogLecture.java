@@ -0,0 +1,25 @@
+package com.landr.repository.lecture.dto;
+
+import com.landr.domain.lecture.Platform;
+import com.landr.domain.lecture.Subject;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 강의 카탈로그의 강의 한 건 (엔티티가 아닌 읽기 전용 값)
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogLecture {
+
+    private Long id;
+    private String title;
+    private String teacher;
+    private Platform platform;
+    private Subject subject;
+    private String tag;
+    private int totalLessons;
+    private int totalDuration;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package com.landr.repository.lecture.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 강의 카탈로그의 수업 한 건 (엔티티가 아닌 읽기 전용 값)
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogLesson {
+
+    private Long id;
+    private Long lectureId;
+    private int order;
+    private int duration;
+    private String title;
+}
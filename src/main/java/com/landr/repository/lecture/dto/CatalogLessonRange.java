@@ -0,0 +1,26 @@
+package com.landr.repository.lecture.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 강의 카탈로그에서 구한 수업 구간 [startOrder, endOrder]의 수업 수와 총 시간
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogLessonRange {
+
+    private Long lectureId;
+    private int startOrder;
+    private int endOrder;
+    private int lessonCount;
+    private long totalDuration;
+
+    /**
+     * 재생 속도를 반영한 총 시간(분)의 추정값입니다.
+     * 스케줄 생성은 수업마다 반올림하므로 실제 합계와 수업당 최대 0.5분까지 차이가 날 수 있습니다.
+     */
+    public long estimateDuration(float playbackSpeed) {
+        return Math.round(totalDuration / (double) playbackSpeed);
+    }
+}
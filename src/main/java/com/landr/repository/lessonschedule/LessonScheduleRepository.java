@@ -1,12 +1,18 @@
 package com.landr.repository.lessonschedule;
 
 import com.landr.domain.schedule.LessonSchedule;
+import com.landr.repository.lessonschedule.dto.CompletedDailySummary;
+import com.landr.repository.lessonschedule.dto.DailyCompletionCount;
+import com.landr.repository.lessonschedule.dto.IncompleteLessonCount;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface LessonScheduleRepository extends JpaRepository<LessonSchedule, Long> {
@@ -37,9 +43,8 @@ public interface LessonScheduleRepository extends JpaRepository<LessonSchedule,
 
 
     @Query("SELECT ls FROM LessonSchedule ls " +
-        "JOIN ls.dailySchedule ds " +
+        "JOIN FETCH ls.dailySchedule ds " +
         "JOIN ds.plan p " +
-        "JOIN p.user u " +
         "WHERE ls.id = :lsId "
         + "AND p.user.id = :userId"
     )
@@ -69,39 +74,6 @@ public interface LessonScheduleRepository extends JpaRepository<LessonSchedule,
     List<LessonSchedule> findByPlanIdAndUserId(@Param("userId") Long userId,
         @Param("planId") Long planId);
 
-    /**
-     * 특정 사용자가 특정 날짜에 완료한 레슨이 있는지 확인
-     */
-    @Query("SELECT COUNT(ls) > 0 FROM LessonSchedule ls " +
-        "JOIN ls.dailySchedule ds " +
-        "JOIN ds.plan p " +
-        "WHERE p.user.id = :userId " +
-        "AND ls.completed = true " +
-        "AND ls.updatedAt BETWEEN :startDateTime AND :endDateTime")
-    boolean existsCompletedLessonOnDate(
-        @Param("userId") Long userId,
-        @Param("startDateTime") LocalDateTime startDateTime,
-        @Param("endDateTime") LocalDateTime endDateTime
-    );
-
-    /**
-     * 특정 사용자의 특정 월에 완료된 레슨 스케줄을 조회
-     */
-    @Query("SELECT ls FROM LessonSchedule ls " +
-        "JOIN FETCH ls.lesson l " +
-        "JOIN FETCH l.lecture lec " +
-        "JOIN FETCH ls.dailySchedule ds " +
-        "JOIN FETCH ds.plan p " +
-        "WHERE p.user.id = :userId " +
-        "AND ds.date BETWEEN :startDate AND :endDate " +
-        "AND ls.completed = true " +
-        "ORDER BY ds.date, ls.displayOrder")
-    List<LessonSchedule> findCompletedLessonSchedulesInMonth(
-        @Param("userId") Long userId,
-        @Param("startDate") LocalDate startDate,
-        @Param("endDate") LocalDate endDate
-    );
-
     @Query("SELECT ls FROM LessonSchedule ls " +
         "JOIN ls.dailySchedule ds " +
         "JOIN ds.plan p " +
@@ -128,25 +100,69 @@ public interface LessonScheduleRepository extends JpaRepository<LessonSchedule,
         @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * 특정 계획의 미완료 수업 일정을 Lesson, DailySchedule과 함께 강의 순서대로 조회합니다.
+     */
     @Query("SELECT ls FROM LessonSchedule ls " +
-        "JOIN ls.dailySchedule ds " +
+        "JOIN FETCH ls.lesson l " +
+        "JOIN FETCH ls.dailySchedule ds " +
         "WHERE ds.plan.id = :planId " +
         "AND ls.completed = false " +
-        "ORDER BY ls.lesson.order")
+        "ORDER BY l.order")
     List<LessonSchedule> findUncompletedLessonSchedulesByPlanId(@Param("planId") Long planId);
 
+    /**
+     * 특정 계획의 DailySchedule별 완료된 수업 수, 시간 합계, 마지막 displayOrder를 집계합니다.
+     */
+    @Query("SELECT new com.landr.repository.lessonschedule.dto.CompletedDailySummary(" +
+        "ds.id, COUNT(ls), SUM(ls.adjustedDuration), MAX(ls.displayOrder)) " +
+        "FROM LessonSchedule ls " +
+        "JOIN ls.dailySchedule ds " +
+        "WHERE ds.plan.id = :planId " +
+        "AND ls.completed = true " +
+        "GROUP BY ds.id")
+    List<CompletedDailySummary> summarizeCompletedByPlanId(@Param("planId") Long planId);
+
+    /**
+     * 특정 사용자의 기간 내 날짜별 전체 수업 수와 완료한 수업 수를 집계합니다.
+     */
+    @Query("SELECT new com.landr.repository.lessonschedule.dto.DailyCompletionCount(" +
+        "ds.date, COUNT(ls), SUM(CASE WHEN ls.completed = true THEN 1 ELSE 0 END)) " +
+        "FROM LessonSchedule ls " +
+        "JOIN ls.dailySchedule ds " +
+        "JOIN ds.plan p " +
+        "WHERE p.user.id = :userId " +
+        "AND ds.date BETWEEN :startDate AND :endDate " +
+        "GROUP BY ds.date")
+    List<DailyCompletionCount> countDailyCompletionByUserIdAndDateRange(
+        @Param("userId") Long userId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
     @Query("SELECT COUNT(ls) FROM LessonSchedule ls WHERE ls.dailySchedule.id = :dailyScheduleId")
     long countByDailyScheduleId(@Param("dailyScheduleId") Long dailyScheduleId);
 
     /**
-     * 특정 날짜의 모든 사용자 레슨 스케줄을 조회합니다.
+     * 특정 날짜에 미완료 수업이 있는 사용자별 미완료 수업 수를 집계합니다.
+     * user_id % shardCount == shardIndex 인 사용자만 집계합니다. (shardCount가 1이면 전체 사용자)
+     * 엔티티를 로딩하지 않고 SQL에서 집계한 결과를 커서로 한 행씩 읽으므로,
+     * 반드시 트랜잭션 안에서 사용하고 try-with-resources로 닫아야 합니다.
      */
-    @Query("SELECT ls FROM LessonSchedule ls " +
-        "JOIN FETCH ls.dailySchedule ds " +
-        "JOIN FETCH ds.plan p " +
-        "JOIN FETCH p.user u " +
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.landr.repository.lessonschedule.dto.IncompleteLessonCount(" +
+        "p.user.id, COUNT(ls)) " +
+        "FROM LessonSchedule ls " +
+        "JOIN ls.dailySchedule ds " +
+        "JOIN ds.plan p " +
         "WHERE ds.date = :date " +
-        "ORDER BY u.id, ls.displayOrder")
-    List<LessonSchedule> findTodayLessonSchedules(@Param("date") LocalDate date);
+        "AND ls.completed = false " +
+        "AND MOD(p.user.id, :shardCount) = :shardIndex " +
+        "GROUP BY p.user.id")
+    Stream<IncompleteLessonCount> streamIncompleteLessonCountsByDate(
+        @Param("date") LocalDate date,
+        @Param("shardCount") int shardCount,
+        @Param("shardIndex") int shardIndex
+    );
 
 }
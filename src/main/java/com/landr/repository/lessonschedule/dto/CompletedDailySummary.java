@@ -0,0 +1,17 @@
+package com.landr.repository.lessonschedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DailySchedule별 완료된 강의 집계 (재스케줄링 시 완료 강의는 건드리지 않고 합계만 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class CompletedDailySummary {
+
+    private Long dailyScheduleId;
+    private Long completedLessons;
+    private Long completedDuration;
+    private Integer maxDisplayOrder;
+}
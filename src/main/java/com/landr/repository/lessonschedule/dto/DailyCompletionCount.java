@@ -0,0 +1,21 @@
+package com.landr.repository.lessonschedule.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 날짜별 전체 수업 수와 완료한 수업 수 집계 (사용자의 모든 계획 합산)
+ */
+@Getter
+@AllArgsConstructor
+public class DailyCompletionCount {
+
+    private LocalDate date;
+    private Long totalLessons;
+    private Long completedLessons;
+
+    public boolean isAllCompleted() {
+        return totalLessons > 0 && completedLessons.equals(totalLessons);
+    }
+}
@@ -0,0 +1,15 @@
+package com.landr.repository.lessonschedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 특정 날짜의 사용자별 미완료 수업 수 집계 (사용자의 모든 계획 합산)
+ */
+@Getter
+@AllArgsConstructor
+public class IncompleteLessonCount {
+
+    private Long userId;
+    private Long incompleteCount;
+}
@@ -2,10 +2,18 @@ package com.landr.repository.plan;
 
 
 import com.landr.domain.plan.Plan;
+import com.landr.domain.plan.ScheduleStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface PlanRepository extends JpaRepository<Plan, Long> {
@@ -17,4 +25,40 @@ public interface PlanRepository extends JpaRepository<Plan, Long> {
         + "WHERE p.user.id = :userId AND p.isDeleted = false"
         + " ORDER BY p.createdAt DESC")
     List<Plan> findByUserIdAndIsDeletedFalseOrderByCreatedAt(@Param("userId") Long userId);
+
+    /**
+     * 스케줄을 생성할 Plan을 쓰기 잠금과 함께 조회합니다.
+     * 다른 워커가 이미 잠근 경우 기다리지 않고 PessimisticLockingFailureException을 던집니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("SELECT p FROM Plan p WHERE p.id = :planId")
+    Optional<Plan> findByIdForUpdate(@Param("planId") Long planId);
+
+    /**
+     * 특정 시각 이전에 생성되었고 스케줄 상태가 status인 Plan의 ID를 조회합니다.
+     */
+    @Query("SELECT p.id FROM Plan p "
+        + "WHERE p.scheduleStatus = :status AND p.createdAt < :createdBefore "
+        + "ORDER BY p.id")
+    List<Long> findIdsByScheduleStatusAndCreatedAtBefore(@Param("status") ScheduleStatus status,
+        @Param("createdBefore") LocalDateTime createdBefore, Pageable pageable);
+
+    /**
+     * Plan의 스케줄 상태가 from일 때만 to로 변경합니다. (이미 다른 워커가 변경했다면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE Plan p SET p.scheduleStatus = :to "
+        + "WHERE p.id = :planId AND p.scheduleStatus = :from")
+    int updateScheduleStatus(@Param("planId") Long planId, @Param("from") ScheduleStatus from,
+        @Param("to") ScheduleStatus to);
+
+    /**
+     * 특정 시각 이전에 생성되었고 스케줄 상태가 from인 Plan을 모두 to로 변경합니다.
+     */
+    @Modifying
+    @Query("UPDATE Plan p SET p.scheduleStatus = :to "
+        + "WHERE p.scheduleStatus = :from AND p.createdAt < :createdBefore")
+    int updateScheduleStatusCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore,
+        @Param("from") ScheduleStatus from, @Param("to") ScheduleStatus to);
 }
@@ -0,0 +1,116 @@
+package com.landr.repository.planprogress;
+
+import com.landr.domain.plan.PlanProgress;
+import com.landr.repository.planprogress.dto.PlanProgressSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface PlanProgressRepository extends JpaRepository<PlanProgress, Long> {
+
+    /**
+     * 수업 완료 시 완료 수와 완료 시간을 원자적으로 증가시킵니다.
+     */
+    @Modifying
+    @Query("UPDATE PlanProgress pp " +
+        "SET pp.completedLessons = pp.completedLessons + 1, " +
+        "pp.completedMinutes = pp.completedMinutes + :minutes, " +
+        "pp.lastCompletedAt = :completedAt " +
+        "WHERE pp.planId = :planId")
+    int incrementCompleted(@Param("planId") Long planId, @Param("minutes") int minutes,
+        @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 수업 완료 취소 시 완료 수와 완료 시간을 원자적으로 감소시킵니다.
+     */
+    @Modifying
+    @Query("UPDATE PlanProgress pp " +
+        "SET pp.completedLessons = pp.completedLessons - 1, " +
+        "pp.completedMinutes = pp.completedMinutes - :minutes " +
+        "WHERE pp.planId = :planId")
+    int decrementCompleted(@Param("planId") Long planId, @Param("minutes") int minutes);
+
+    /**
+     * 특정 사용자의 계획별 진행 현황을 강의 이름과 함께 조회합니다. (수업 일정이 있는 계획만)
+     */
+    @Query("SELECT new com.landr.repository.planprogress.dto.PlanProgressSummary(" +
+        "pp.planId, p.lectureName, lec.title, pp.totalLessons, pp.completedLessons) " +
+        "FROM PlanProgress pp " +
+        "JOIN Plan p ON p.id = pp.planId " +
+        "JOIN p.lecture lec " +
+        "WHERE pp.userId = :userId " +
+        "AND pp.totalLessons > 0")
+    List<PlanProgressSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 계획의 진행 현황을 lesson_schedules에서 다시 집계해 저장합니다. (스케줄 복사 등 대량 변경 후 사용)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO plan_progress " +
+        "(plan_id, user_id, total_lessons, completed_lessons, completed_minutes, last_completed_at) " +
+        "SELECT p.id, p.user_id, COUNT(ls.id), " +
+        "COALESCE(SUM(CASE WHEN ls.completed THEN 1 ELSE 0 END), 0), " +
+        "COALESCE(SUM(CASE WHEN ls.completed THEN ls.adjusted_duration ELSE 0 END), 0), " +
+        "MAX(CASE WHEN ls.completed THEN ls.updated_at END) " +
+        "FROM plans p " +
+        "LEFT JOIN daily_schedules ds ON ds.plan_id = p.id " +
+        "LEFT JOIN lesson_schedules ls ON ls.daily_schedule_id = ds.id " +
+        "WHERE p.id = :planId " +
+        "GROUP BY p.id, p.user_id " +
+        "ON DUPLICATE KEY UPDATE " +
+        "total_lessons = VALUES(total_lessons), " +
+        "completed_lessons = VALUES(completed_lessons), " +
+        "completed_minutes = VALUES(completed_minutes), " +
+        "last_completed_at = VALUES(last_completed_at)",
+        nativeQuery = true)
+    int recalculate(@Param("planId") Long planId);
+
+    /**
+     * 진행 현황을 다시 집계할 계획을 조회합니다.
+     * 기준 시각 이후 수업 완료 여부가 바뀐 계획과, 기준 시각 이후 생성되었지만 진행 현황이 없는 계획(스케줄 생성 중인 계획 제외)을 반환합니다.
+     *
+     * @param shardIndex 처리할 샤드 (user_id % shardCount == shardIndex)
+     */
+    @Query(value = "SELECT ds.plan_id FROM lesson_schedules ls " +
+        "JOIN daily_schedules ds ON ds.id = ls.daily_schedule_id " +
+        "JOIN plans p ON p.id = ds.plan_id " +
+        "WHERE ls.updated_at >= :since " +
+        "AND p.is_deleted = FALSE " +
+        "AND MOD(p.user_id, :shardCount) = :shardIndex " +
+        "UNION " +
+        "SELECT p.id FROM plans p " +
+        "WHERE p.created_at >= :since " +
+        "AND p.is_deleted = FALSE " +
+        "AND (p.schedule_status IS NULL OR p.schedule_status <> 'PENDING') " +
+        "AND MOD(p.user_id, :shardCount) = :shardIndex " +
+        "AND NOT EXISTS (SELECT 1 FROM plan_progress pp WHERE pp.plan_id = p.id)",
+        nativeQuery = true)
+    List<Long> findPlanIdsToReconcile(@Param("since") LocalDateTime since,
+        @Param("shardCount") int shardCount, @Param("shardIndex") int shardIndex);
+
+    /**
+     * 진행 현황이 없는 계획의 진행 현황을 lesson_schedules에서 집계해 채웁니다. (기존 데이터 백필)
+     * 여러 노드가 동시에 실행하거나 그 사이 계획이 새로 생성되어 행이 이미 있으면, 기존 행을 그대로 둡니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO plan_progress " +
+        "(plan_id, user_id, total_lessons, completed_lessons, completed_minutes, last_completed_at) " +
+        "SELECT p.id, p.user_id, COUNT(ls.id), " +
+        "COALESCE(SUM(CASE WHEN ls.completed THEN 1 ELSE 0 END), 0), " +
+        "COALESCE(SUM(CASE WHEN ls.completed THEN ls.adjusted_duration ELSE 0 END), 0), " +
+        "MAX(CASE WHEN ls.completed THEN ls.updated_at END) " +
+        "FROM plans p " +
+        "LEFT JOIN daily_schedules ds ON ds.plan_id = p.id " +
+        "LEFT JOIN lesson_schedules ls ON ls.daily_schedule_id = ds.id " +
+        "WHERE NOT EXISTS (SELECT 1 FROM plan_progress pp WHERE pp.plan_id = p.id) " +
+        "GROUP BY p.id, p.user_id " +
+        "ON DUPLICATE KEY UPDATE plan_id = plan_id",
+        nativeQuery = true)
+    int backfillMissing();
+}
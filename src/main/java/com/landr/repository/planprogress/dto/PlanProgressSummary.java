@@ -0,0 +1,18 @@
+package com.landr.repository.planprogress.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 계획별 진행 현황과 강의 이름
+ */
+@Getter
+@AllArgsConstructor
+public class PlanProgressSummary {
+
+    private Long planId;
+    private String lectureAlias;
+    private String lectureTitle;
+    private int totalLessons;
+    private int completedLessons;
+}
@@ -0,0 +1,163 @@
+package com.landr.repository.schedule;
+
+import com.landr.domain.schedule.DailySchedule;
+import com.landr.domain.schedule.LessonSchedule;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 생성된 스케줄을 JDBC 배치로 저장하는 전용 저장소입니다.
+ * DailySchedule, LessonSchedule은 IDENTITY 전략이라 JPA saveAll 시 행마다 INSERT가 발생하므로,
+ * 스케줄 생성처럼 대량 저장이 필요한 경로에서는 이 저장소를 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_DAILY_SCHEDULE_SQL =
+        "INSERT INTO daily_schedules (plan_id, date, day_of_week, total_lessons, total_duration) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_LESSON_SCHEDULE_SQL =
+        "INSERT INTO lesson_schedules "
+            + "(daily_schedule_id, lesson_id, adjusted_duration, display_order, completed, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_DAILY_SCHEDULE_IDS_SQL =
+        "SELECT id, date FROM daily_schedules WHERE plan_id = ?";
+
+    private static final String COPY_DAILY_SCHEDULES_SQL =
+        "INSERT INTO daily_schedules (plan_id, date, day_of_week, total_lessons, total_duration) "
+            + "SELECT ?, ds.date, ds.day_of_week, ds.total_lessons, ds.total_duration "
+            + "FROM daily_schedules ds WHERE ds.plan_id = ?";
+
+    private static final String COPY_LESSON_SCHEDULES_SQL =
+        "INSERT INTO lesson_schedules "
+            + "(daily_schedule_id, lesson_id, adjusted_duration, display_order, completed, updated_at) "
+            + "SELECT target.id, ls.lesson_id, ls.adjusted_duration, ls.display_order, FALSE, NULL "
+            + "FROM lesson_schedules ls "
+            + "JOIN daily_schedules source ON source.id = ls.daily_schedule_id "
+            + "JOIN daily_schedules target ON target.plan_id = ? AND target.date = source.date "
+            + "WHERE source.plan_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일일 스케줄과 강의 스케줄을 배치 INSERT로 저장합니다.
+     *
+     * @param planId          스케줄이 속한 Plan ID
+     * @param dailySchedules  저장할 일일 스케줄 목록
+     * @param lessonSchedules 저장할 강의 스케줄 목록 (dailySchedule의 date로 부모를 찾습니다)
+     * @return 저장된 전체 행 수
+     */
+    public int insertSchedules(Long planId, List<DailySchedule> dailySchedules,
+        List<LessonSchedule> lessonSchedules) {
+        if (dailySchedules.isEmpty()) {
+            return 0;
+        }
+
+        Map<LocalDate, Long> dailyScheduleIds = insertDailySchedules(planId, dailySchedules);
+        int lessonRows = insertLessonSchedules(dailyScheduleIds, lessonSchedules);
+
+        return dailySchedules.size() + lessonRows;
+    }
+
+    /**
+     * 일일 스케줄을 날짜 순으로 배치 INSERT 한 뒤, (plan_id, date) 유니크 키로 생성된 ID를 한 번에 조회합니다.
+     *
+     * @return 날짜별 DailySchedule ID
+     */
+    public Map<LocalDate, Long> insertDailySchedules(Long planId,
+        List<DailySchedule> dailySchedules) {
+        List<DailySchedule> ordered = dailySchedules.stream()
+            .sorted(Comparator.comparing(DailySchedule::getDate))
+            .toList();
+
+        jdbcTemplate.batchUpdate(INSERT_DAILY_SCHEDULE_SQL, ordered, BATCH_SIZE, (ps, ds) -> {
+            ps.setLong(1, planId);
+            ps.setDate(2, Date.valueOf(ds.getDate()));
+            ps.setString(3, ds.getDayOfWeek().name());
+            ps.setInt(4, ds.getTotalLessons());
+            ps.setInt(5, ds.getTotalDuration());
+        });
+
+        return findDailyScheduleIds(planId);
+    }
+
+    /**
+     * Plan에 속한 일일 스케줄 ID를 날짜별로 조회합니다.
+     */
+    public Map<LocalDate, Long> findDailyScheduleIds(Long planId) {
+        Map<LocalDate, Long> dailyScheduleIds = new HashMap<>();
+        jdbcTemplate.query(SELECT_DAILY_SCHEDULE_IDS_SQL,
+            rs -> {
+                dailyScheduleIds.put(rs.getDate("date").toLocalDate(), rs.getLong("id"));
+            },
+            planId);
+        return dailyScheduleIds;
+    }
+
+    /**
+     * 강의 스케줄을 (날짜, displayOrder) 순으로 정렬해 배치 INSERT 합니다.
+     *
+     * @param dailyScheduleIds 날짜별 DailySchedule ID
+     * @param lessonSchedules  저장할 강의 스케줄 목록
+     * @return 저장된 강의 스케줄 수
+     */
+    public int insertLessonSchedules(Map<LocalDate, Long> dailyScheduleIds,
+        List<LessonSchedule> lessonSchedules) {
+        List<LessonSchedule> ordered = lessonSchedules.stream()
+            .sorted(Comparator.comparing((LessonSchedule ls) -> ls.getDailySchedule().getDate())
+                .thenComparingInt(LessonSchedule::getDisplayOrder))
+            .toList();
+
+        jdbcTemplate.batchUpdate(INSERT_LESSON_SCHEDULE_SQL, ordered, BATCH_SIZE, (ps, ls) -> {
+            Long dailyScheduleId = dailyScheduleIds.get(ls.getDailySchedule().getDate());
+            if (dailyScheduleId == null) {
+                throw new IllegalStateException(
+                    "DailySchedule ID를 찾을 수 없습니다: " + ls.getDailySchedule().getDate());
+            }
+            ps.setLong(1, dailyScheduleId);
+            ps.setLong(2, ls.getLesson().getId());
+            ps.setInt(3, ls.getAdjustedDuration());
+            ps.setInt(4, ls.getDisplayOrder());
+            ps.setBoolean(5, ls.isCompleted());
+            if (ls.getUpdatedAt() != null) {
+                ps.setTimestamp(6, Timestamp.valueOf(ls.getUpdatedAt()));
+            } else {
+                ps.setNull(6, Types.TIMESTAMP);
+            }
+        });
+
+        return ordered.size();
+    }
+
+    /**
+     * 원본 Plan의 일일 스케줄과 강의 스케줄을 INSERT ... SELECT 두 번으로 새 Plan에 복사합니다.
+     * 강의 스케줄은 (plan_id, date) 유니크 키로 새 일일 스케줄과 연결되며, 완료 여부는 초기화됩니다.
+     *
+     * @param sourcePlanId 복사할 원본 Plan ID
+     * @param targetPlanId 스케줄을 받을 새 Plan ID
+     * @return 복사된 일일 스케줄 수 (0이면 원본에 스케줄이 없음)
+     */
+    public int copySchedules(Long sourcePlanId, Long targetPlanId) {
+        int dailyRows = jdbcTemplate.update(COPY_DAILY_SCHEDULES_SQL, targetPlanId, sourcePlanId);
+        if (dailyRows == 0) {
+            return 0;
+        }
+
+        jdbcTemplate.update(COPY_LESSON_SCHEDULES_SQL, targetPlanId, sourcePlanId);
+        return dailyRows;
+    }
+}
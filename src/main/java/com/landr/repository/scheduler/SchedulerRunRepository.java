@@ -0,0 +1,82 @@
+package com.landr.repository.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 스케줄 작업 실행권(scheduler_runs) 저장소입니다.
+ * 여러 노드가 동시에 호출해도 (job_name, run_key, shard_index) 유니크 키와 조건부 UPDATE로 한 노드만 실행권을 얻습니다.
+ * 시각은 노드 간 시계 차이가 없도록 DB의 NOW()를 기준으로 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerRunRepository {
+
+    private static final String INSERT_RUN_SQL =
+        "INSERT IGNORE INTO scheduler_runs "
+            + "(job_name, run_key, shard_index, shard_count, owner, locked_until, processed_count) "
+            + "VALUES (?, ?, ?, ?, ?, NOW() + INTERVAL ? SECOND, 0)";
+
+    private static final String TAKE_OVER_EXPIRED_SQL =
+        "UPDATE scheduler_runs SET owner = ?, locked_until = NOW() + INTERVAL ? SECOND "
+            + "WHERE job_name = ? AND run_key = ? AND shard_index = ? "
+            + "AND completed_at IS NULL AND locked_until < NOW()";
+
+    private static final String COMPLETE_SQL =
+        "UPDATE scheduler_runs SET completed_at = NOW(), processed_count = ? "
+            + "WHERE job_name = ? AND run_key = ? AND shard_index = ? AND owner = ?";
+
+    private static final String RELEASE_SQL =
+        "UPDATE scheduler_runs SET locked_until = NOW() "
+            + "WHERE job_name = ? AND run_key = ? AND shard_index = ? AND owner = ? "
+            + "AND completed_at IS NULL";
+
+    // 회차가 시작되었고(행이 있고) 완료된 샤드가 shard_count보다 적은지 확인
+    private static final String HAS_INCOMPLETE_SHARDS_SQL =
+        "SELECT COUNT(*) > 0 AND SUM(completed_at IS NOT NULL) < ? FROM scheduler_runs "
+            + "WHERE job_name = ? AND run_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 샤드의 실행권을 얻습니다.
+     * 처음 실행하는 샤드면 행을 만들고, 완료되지 않은 채 lease가 만료된 샤드면 실행권을 넘겨받습니다.
+     *
+     * @return 실행권을 얻었으면 true (이미 완료됐거나 다른 노드가 처리 중이면 false)
+     */
+    public boolean tryAcquire(String jobName, String runKey, int shardIndex, int shardCount,
+        String owner, long leaseSeconds) {
+        int inserted = jdbcTemplate.update(INSERT_RUN_SQL,
+            jobName, runKey, shardIndex, shardCount, owner, leaseSeconds);
+        if (inserted > 0) {
+            return true;
+        }
+        return jdbcTemplate.update(TAKE_OVER_EXPIRED_SQL,
+            owner, leaseSeconds, jobName, runKey, shardIndex) > 0;
+    }
+
+    /**
+     * 샤드 처리 완료를 기록합니다. 완료된 샤드는 다시 실행되지 않습니다.
+     */
+    public void complete(String jobName, String runKey, int shardIndex, String owner,
+        int processedCount) {
+        jdbcTemplate.update(COMPLETE_SQL, processedCount, jobName, runKey, shardIndex, owner);
+    }
+
+    /**
+     * 처리에 실패한 샤드의 lease를 바로 만료시켜 다른 노드나 재실행이 넘겨받을 수 있게 합니다.
+     */
+    public void release(String jobName, String runKey, int shardIndex, String owner) {
+        jdbcTemplate.update(RELEASE_SQL, jobName, runKey, shardIndex, owner);
+    }
+
+    /**
+     * 이미 시작된 회차에 아직 완료되지 않은 샤드가 있는지 확인합니다.
+     * 회차가 시작되지 않았으면(행이 없으면) false를 반환합니다.
+     */
+    public boolean hasIncompleteShards(String jobName, String runKey, int shardCount) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_INCOMPLETE_SHARDS_SQL,
+            Boolean.class, shardCount, jobName, runKey));
+    }
+}
@@ -0,0 +1,50 @@
+package com.landr.repository.statistics;
+
+import com.landr.domain.lecture.Subject;
+import com.landr.repository.statistics.dto.StudyTimeRow;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 공부 기록 통계 조회 전용 저장소입니다.
+ * 완료한 수업 시간을 DB에서 과목, 주차별로 합산해 엔티티를 만들지 않고 집계 행만 반환합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyStatisticsQueryRepository {
+
+    // 주 시작(월요일)과 그 날짜가 속한 달의 1일 중 늦은 날짜를 주차 기준일로 사용
+    static final String WEEK_START_EXPR =
+        "GREATEST(DATE_SUB(ds.date, INTERVAL WEEKDAY(ds.date) DAY), "
+            + "DATE_SUB(ds.date, INTERVAL DAYOFMONTH(ds.date) - 1 DAY))";
+
+    private static final String SELECT_WEEKLY_SUBJECT_MINUTES_SQL =
+        "SELECT lec.subject, " + WEEK_START_EXPR + " AS week_start, "
+            + "SUM(ls.adjusted_duration) AS total_minutes "
+            + "FROM lesson_schedules ls "
+            + "JOIN daily_schedules ds ON ds.id = ls.daily_schedule_id "
+            + "JOIN plans p ON p.id = ds.plan_id "
+            + "JOIN lessons l ON l.id = ls.lesson_id "
+            + "JOIN lectures lec ON lec.id = l.lecture_id "
+            + "WHERE p.user_id = ? AND ds.date BETWEEN ? AND ? AND ls.completed = TRUE "
+            + "GROUP BY lec.subject, week_start";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기간 내 완료한 수업 시간을 과목, 주차별로 합산해 조회합니다.
+     */
+    public List<StudyTimeRow> findWeeklySubjectMinutes(Long userId, LocalDate startDate,
+        LocalDate endDate) {
+        return jdbcTemplate.query(SELECT_WEEKLY_SUBJECT_MINUTES_SQL,
+            (rs, rowNum) -> new StudyTimeRow(
+                Subject.valueOf(rs.getString("subject")),
+                rs.getDate("week_start").toLocalDate(),
+                rs.getLong("total_minutes")),
+            userId, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+}
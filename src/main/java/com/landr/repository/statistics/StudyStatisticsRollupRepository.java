@@ -0,0 +1,112 @@
+package com.landr.repository.statistics;
+
+import static com.landr.repository.statistics.StudyStatisticsQueryRepository.WEEK_START_EXPR;
+
+import com.landr.domain.lecture.Subject;
+import com.landr.repository.statistics.dto.StudyTimeRow;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 지난 달 공부 기록 통계 집계(study_statistics_rollups) 저장소입니다.
+ * 집계는 lesson_schedules에서 INSERT ... SELECT로 만들며, 한 번 집계된 (사용자, 월)은 원본을 다시 읽지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyStatisticsRollupRepository {
+
+    private static final String MONTH_START_EXPR =
+        "DATE_SUB(ds.date, INTERVAL DAYOFMONTH(ds.date) - 1 DAY)";
+
+    private static final String ROLLUP_SELECT_SQL =
+        "SELECT p.user_id, " + MONTH_START_EXPR + " AS stat_month, lec.subject, "
+            + WEEK_START_EXPR + " AS week_start, "
+            + "SUM(ls.adjusted_duration), COUNT(*) "
+            + "FROM lesson_schedules ls "
+            + "JOIN daily_schedules ds ON ds.id = ls.daily_schedule_id "
+            + "JOIN plans p ON p.id = ds.plan_id "
+            + "JOIN lessons l ON l.id = ls.lesson_id "
+            + "JOIN lectures lec ON lec.id = l.lecture_id "
+            + "WHERE ls.completed = TRUE ";
+
+    private static final String ROLLUP_GROUP_BY_SQL =
+        "GROUP BY p.user_id, stat_month, lec.subject, week_start";
+
+    private static final String INSERT_ROLLUP_SQL =
+        "INSERT INTO study_statistics_rollups "
+            + "(user_id, stat_month, subject, week_start, completed_minutes, completed_lessons) ";
+
+    private static final String SEAL_MISSING_SQL =
+        "INSERT IGNORE INTO study_statistics_rollups "
+            + "(user_id, stat_month, subject, week_start, completed_minutes, completed_lessons) "
+            + ROLLUP_SELECT_SQL
+            + "AND ds.date < ? AND MOD(p.user_id, ?) = ? "
+            + "AND NOT EXISTS (SELECT 1 FROM study_statistics_rollups r "
+            + "WHERE r.user_id = p.user_id AND r.stat_month = " + MONTH_START_EXPR + ") "
+            + ROLLUP_GROUP_BY_SQL;
+
+    private static final String REBUILD_USER_MONTH_SQL =
+        INSERT_ROLLUP_SQL + ROLLUP_SELECT_SQL
+            + "AND p.user_id = ? AND ds.date BETWEEN ? AND ? "
+            + ROLLUP_GROUP_BY_SQL;
+
+    private static final String DELETE_USER_MONTH_SQL =
+        "DELETE FROM study_statistics_rollups WHERE user_id = ? AND stat_month = ?";
+
+    private static final String SELECT_PLAN_MONTHS_SQL =
+        "SELECT DISTINCT " + MONTH_START_EXPR + " AS stat_month FROM daily_schedules ds "
+            + "WHERE ds.plan_id = ? AND ds.date < ?";
+
+    private static final String SELECT_ROWS_SQL =
+        "SELECT subject, week_start, completed_minutes FROM study_statistics_rollups "
+            + "WHERE user_id = ? AND stat_month BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기간 내 집계된 과목, 주차별 공부 시간을 조회합니다. (집계되지 않은 월은 결과에 없음)
+     */
+    public List<StudyTimeRow> findRows(Long userId, YearMonth from, YearMonth to) {
+        return jdbcTemplate.query(SELECT_ROWS_SQL,
+            (rs, rowNum) -> new StudyTimeRow(
+                Subject.valueOf(rs.getString("subject")),
+                rs.getDate("week_start").toLocalDate(),
+                rs.getLong("completed_minutes")),
+            userId, Date.valueOf(from.atDay(1)), Date.valueOf(to.atDay(1)));
+    }
+
+    /**
+     * 기준일 이전의 (사용자, 월) 중 아직 집계되지 않은 월을 집계합니다.
+     *
+     * @param before     집계할 날짜의 상한 (보통 이번 달 1일)
+     * @param shardCount 사용자 ID를 나누는 샤드 수
+     * @param shardIndex 처리할 샤드 (user_id % shardCount == shardIndex)
+     * @return 추가된 집계 행 수
+     */
+    public int sealMissing(LocalDate before, int shardCount, int shardIndex) {
+        return jdbcTemplate.update(SEAL_MISSING_SQL, Date.valueOf(before), shardCount, shardIndex);
+    }
+
+    /**
+     * 계획의 일정이 있는 기준일 이전의 월을 조회합니다. (계획 삭제 시 다시 집계할 월)
+     */
+    public List<YearMonth> findMonthsOfPlan(Long planId, LocalDate before) {
+        return jdbcTemplate.query(SELECT_PLAN_MONTHS_SQL,
+            (rs, rowNum) -> YearMonth.from(rs.getDate("stat_month").toLocalDate()),
+            planId, Date.valueOf(before));
+    }
+
+    /**
+     * 특정 사용자의 특정 월 집계를 원본에서 다시 만듭니다. (지난 달 수업의 완료 여부가 바뀐 경우)
+     */
+    public void rebuildUserMonth(Long userId, YearMonth month) {
+        jdbcTemplate.update(DELETE_USER_MONTH_SQL, userId, Date.valueOf(month.atDay(1)));
+        jdbcTemplate.update(REBUILD_USER_MONTH_SQL, userId,
+            Date.valueOf(month.atDay(1)), Date.valueOf(month.atEndOfMonth()));
+    }
+}
@@ -0,0 +1,19 @@
+package com.landr.repository.statistics.dto;
+
+import com.landr.domain.lecture.Subject;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 과목별, 주차별 완료한 공부 시간 집계 행
+ * weekStart는 해당 주의 월요일이며, 주가 이전 달에서 시작하면 그 달의 1일로 잘립니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StudyTimeRow {
+
+    private Subject subject;
+    private LocalDate weekStart;
+    private long totalMinutes;
+}
@@ -0,0 +1,64 @@
+package com.landr.repository.studyactivity;
+
+import com.landr.domain.user.StudyActivity;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface StudyActivityRepository extends JpaRepository<StudyActivity, Long> {
+
+    /**
+     * 해당 날짜의 완료 수를 1 증가시킵니다. (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO study_activities (user_id, epoch_day, completed_count) " +
+        "VALUES (:userId, :epochDay, 1) " +
+        "ON DUPLICATE KEY UPDATE completed_count = completed_count + 1",
+        nativeQuery = true)
+    int incrementCompleted(@Param("userId") Long userId, @Param("epochDay") int epochDay);
+
+    /**
+     * 해당 날짜의 완료 수를 1 감소시킵니다.
+     */
+    @Modifying
+    @Query("UPDATE StudyActivity sa " +
+        "SET sa.completedCount = sa.completedCount - 1 " +
+        "WHERE sa.userId = :userId " +
+        "AND sa.epochDay = :epochDay " +
+        "AND sa.completedCount > 0")
+    int decrementCompleted(@Param("userId") Long userId, @Param("epochDay") int epochDay);
+
+    /**
+     * 기간 내 완료한 수업이 있는 날짜(epoch day)를 조회합니다.
+     */
+    @Query("SELECT sa.epochDay FROM StudyActivity sa " +
+        "WHERE sa.userId = :userId " +
+        "AND sa.epochDay BETWEEN :fromEpochDay AND :toEpochDay " +
+        "AND sa.completedCount > 0")
+    List<Integer> findActiveEpochDays(@Param("userId") Long userId,
+        @Param("fromEpochDay") int fromEpochDay, @Param("toEpochDay") int toEpochDay);
+
+    /**
+     * 완료된 lesson_schedules를 (사용자, 완료 날짜)별로 집계해 활동 기록에 합칩니다. (기존 데이터 백필)
+     * 백필 전에 수업 완료로 같은 날짜의 행이 먼저 생겼거나 다른 노드가 먼저 넣었으면, 두 완료 수 중 큰 값을 남깁니다.
+     *
+     * @param shardIndex 처리할 샤드 (user_id % shardCount == shardIndex)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO study_activities (user_id, epoch_day, completed_count) " +
+        "SELECT p.user_id, DATEDIFF(DATE(ls.updated_at), '1970-01-01'), COUNT(*) " +
+        "FROM lesson_schedules ls " +
+        "JOIN daily_schedules ds ON ds.id = ls.daily_schedule_id " +
+        "JOIN plans p ON p.id = ds.plan_id " +
+        "WHERE ls.completed = TRUE " +
+        "AND ls.updated_at IS NOT NULL " +
+        "AND MOD(p.user_id, :shardCount) = :shardIndex " +
+        "GROUP BY p.user_id, DATEDIFF(DATE(ls.updated_at), '1970-01-01') " +
+        "ON DUPLICATE KEY UPDATE completed_count = GREATEST(completed_count, VALUES(completed_count))",
+        nativeQuery = true)
+    int backfill(@Param("shardCount") int shardCount, @Param("shardIndex") int shardIndex);
+}
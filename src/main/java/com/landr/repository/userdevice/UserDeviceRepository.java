@@ -1,10 +1,13 @@
 package com.landr.repository.userdevice;
 
 import com.landr.domain.user.UserDevice;
+import com.landr.repository.userdevice.dto.LatestDeviceToken;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserDeviceRepository extends JpaRepository<UserDevice, Long> {
 
@@ -17,4 +20,15 @@ public interface UserDeviceRepository extends JpaRepository<UserDevice, Long> {
 
     @Query("SELECT ud FROM UserDevice ud WHERE ud.user.id = :userId ORDER BY ud.createdAt DESC LIMIT 1")
     Optional<UserDevice> findLatestByUserId(Long userId);
+
+    /**
+     * 여러 사용자의 가장 최신 FCM 토큰을 한 번에 조회합니다. (사용자별 created_at 최신 1건)
+     */
+    @Query(value = "SELECT t.user_id AS userId, t.device_identifier AS deviceIdentifier " +
+        "FROM (SELECT ud.user_id, ud.device_identifier, " +
+        "ROW_NUMBER() OVER (PARTITION BY ud.user_id ORDER BY ud.created_at DESC, ud.id DESC) AS rn " +
+        "FROM user_devices ud WHERE ud.user_id IN (:userIds)) t " +
+        "WHERE t.rn = 1",
+        nativeQuery = true)
+    List<LatestDeviceToken> findLatestTokensByUserIds(@Param("userIds") Collection<Long> userIds);
 }
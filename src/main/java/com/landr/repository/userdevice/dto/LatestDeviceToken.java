@@ -0,0 +1,11 @@
+package com.landr.repository.userdevice.dto;
+
+/**
+ * 사용자별 가장 최신 FCM 토큰 (네이티브 쿼리 프로젝션)
+ */
+public interface LatestDeviceToken {
+
+    Long getUserId();
+
+    String getDeviceIdentifier();
+}
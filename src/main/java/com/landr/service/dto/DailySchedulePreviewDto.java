@@ -0,0 +1,19 @@
+package com.landr.service.dto;
+
+import com.landr.domain.plan.DayOfWeek;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySchedulePreviewDto {
+    private LocalDate date;
+    private DayOfWeek dayOfWeek;
+    private int totalLessons;
+    private int totalDuration;
+}
@@ -0,0 +1,24 @@
+package com.landr.service.dto;
+
+import com.landr.domain.plan.PlanType;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanPreviewResponse {
+    private PlanType planType;
+    private int totalLessons;
+    private int totalDuration;
+    private int maxDailyDuration;
+    private int dayCount;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<DailySchedulePreviewDto> dailySchedules;
+}
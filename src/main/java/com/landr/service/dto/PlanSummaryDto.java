@@ -18,6 +18,8 @@ public class PlanSummaryDto {
     private String teacher;
     private Platform platform;
     private int totalLessons;
+    // 재생 속도를 반영한 계획 구간의 총 수강 시간(분) 추정값 (카탈로그에 없는 강의면 null)
+    private Long estimatedDuration;
     private long completedLessons;
     private boolean isStudyGroup;
     private Long studyGroupId;
@@ -0,0 +1,16 @@
+package com.landr.service.dto;
+
+import com.landr.domain.plan.ScheduleStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleStatusResponse {
+    private Long planId;
+    private ScheduleStatus status;
+}
@@ -0,0 +1,13 @@
+package com.landr.service.dto.lecture;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LectureSuggestionDto {
+
+    private Long lectureId;
+    private String title;
+    private String teacher;
+}
@@ -0,0 +1,156 @@
+package com.landr.service.home;
+
+import com.landr.controller.dday.dto.DDayDto;
+import com.landr.controller.home.dto.HomeResponse;
+import com.landr.repository.home.HomeQueryRepository;
+import com.landr.repository.home.dto.HomeLessonRow;
+import com.landr.repository.home.dto.HomeSummary;
+import com.landr.repository.home.dto.PlanProgressRow;
+import com.landr.service.dto.DailyScheduleWithLessonsDto;
+import com.landr.service.dto.LectureProgressDto;
+import com.landr.service.dto.LessonScheduleDto;
+import com.landr.service.dto.UserProgressDto;
+import com.landr.service.dto.WeeklyAchievementDto;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 홈 화면 조회 서비스
+ * 이번 주 수업 일정 1회, 계획별 진행 집계 + D-Day 1회, 총 두 번의 쿼리로 HomeResponse를 구성합니다.
+ * 오늘 일정과 주간 성취는 이번 주 수업 일정에서 계산합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class HomeService {
+
+    private final HomeQueryRepository homeQueryRepository;
+    private final Clock clock;
+
+    public HomeResponse getHome(Long userId) {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate startOfWeek = today.with(java.time.DayOfWeek.MONDAY);
+
+        List<HomeLessonRow> weekRows = homeQueryRepository.findLessonRows(
+            userId, startOfWeek, startOfWeek.plusDays(6));
+        HomeSummary summary = homeQueryRepository.findSummary(userId);
+
+        return HomeResponse.builder()
+            .todaySchedule(buildTodaySchedule(weekRows, today))
+            .userProgress(buildUserProgress(summary.getPlanProgress()))
+            .weeklyAchievement(buildWeeklyAchievement(weekRows, startOfWeek))
+            .dDay(summary.getDDayId() == null ? null : DDayDto.builder()
+                .dDayId(summary.getDDayId())
+                .title(summary.getDDayTitle())
+                .goalDate(summary.getDDayGoalDate())
+                .build())
+            .build();
+    }
+
+    /**
+     * 오늘의 수업 일정 (오늘 일정이 없으면 null)
+     */
+    private DailyScheduleWithLessonsDto buildTodaySchedule(List<HomeLessonRow> weekRows,
+        LocalDate today) {
+        List<HomeLessonRow> todayRows = weekRows.stream()
+            .filter(row -> row.getDate().equals(today))
+            .toList();
+
+        if (todayRows.isEmpty()) {
+            return null;
+        }
+
+        List<LessonScheduleDto> lessonSchedules = todayRows.stream()
+            .filter(row -> row.getLessonScheduleId() != null)
+            .map(row -> LessonScheduleDto.builder()
+                .id(row.getLessonScheduleId())
+                .lessonTitle(row.getLessonTitle())
+                .lectureName(row.getLectureTitle())
+                .adjustedDuration(row.getAdjustedDuration())
+                .displayOrder(row.getDisplayOrder())
+                .completed(row.isCompleted())
+                .build())
+            .toList();
+
+        return DailyScheduleWithLessonsDto.builder()
+            .lessonSchedules(lessonSchedules)
+            .date(today)
+            .totalLessons(lessonSchedules.size())
+            .totalDuration(lessonSchedules.stream().mapToInt(LessonScheduleDto::getAdjustedDuration).sum())
+            .dayOfWeek(todayRows.get(0).getDayOfWeek())
+            .build();
+    }
+
+    /**
+     * 계획별 진행 상황 (완강된 강의 제외, 진행률 낮은 순)
+     */
+    private UserProgressDto buildUserProgress(List<PlanProgressRow> planProgress) {
+        List<LectureProgressDto> lectureProgressList = new ArrayList<>();
+        int totalCompletedLessons = 0;
+        int totalLessons = 0;
+
+        for (PlanProgressRow row : planProgress) {
+            totalCompletedLessons += row.getCompletedLessons();
+            totalLessons += row.getTotalLessons();
+
+            if (row.getCompletedLessons() < row.getTotalLessons()) {
+                lectureProgressList.add(LectureProgressDto.builder()
+                    .planId(row.getPlanId())
+                    .lectureAlias(row.getLectureAlias())
+                    .lectureName(row.getLectureTitle())
+                    .completedLessons(row.getCompletedLessons())
+                    .totalLessons(row.getTotalLessons())
+                    .build());
+            }
+        }
+
+        lectureProgressList.sort(Comparator.comparingDouble(progress ->
+            (double) progress.getCompletedLessons() / progress.getTotalLessons()));
+
+        return UserProgressDto.builder()
+            .lectureProgress(lectureProgressList)
+            .totalCompletedLessons(totalCompletedLessons)
+            .totalLessons(totalLessons)
+            .build();
+    }
+
+    /**
+     * 이번 주 요일별 성취 여부 (해당 날짜의 수업이 1개 이상이고 모두 완료한 경우 true)
+     */
+    private WeeklyAchievementDto buildWeeklyAchievement(List<HomeLessonRow> weekRows,
+        LocalDate startOfWeek) {
+        int[] lessons = new int[7];
+        int[] completed = new int[7];
+
+        for (HomeLessonRow row : weekRows) {
+            if (row.getLessonScheduleId() == null) {
+                continue;
+            }
+            int day = (int) (row.getDate().toEpochDay() - startOfWeek.toEpochDay());
+            lessons[day]++;
+            if (row.isCompleted()) {
+                completed[day]++;
+            }
+        }
+
+        return WeeklyAchievementDto.builder()
+            .mondayAchieved(isAchieved(lessons, completed, 0))
+            .tuesdayAchieved(isAchieved(lessons, completed, 1))
+            .wednesdayAchieved(isAchieved(lessons, completed, 2))
+            .thursdayAchieved(isAchieved(lessons, completed, 3))
+            .fridayAchieved(isAchieved(lessons, completed, 4))
+            .saturdayAchieved(isAchieved(lessons, completed, 5))
+            .sundayAchieved(isAchieved(lessons, completed, 6))
+            .build();
+    }
+
+    private boolean isAchieved(int[] lessons, int[] completed, int day) {
+        return lessons[day] > 0 && lessons[day] == completed[day];
+    }
+}
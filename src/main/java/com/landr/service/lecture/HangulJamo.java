@@ -0,0 +1,119 @@
+package com.landr.service.lecture;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 자동완성 키를 만들기 위한 한글 자모 분해 유틸리티입니다.
+ * 완성형 음절은 초성/중성/종성 호환 자모로, 겹자모(ㄳ, ㅘ 등)는 기본 자모로 풀어서
+ * 입력 중인 글자("밎" → ㅁㅣㅈ)도 완성된 글자("미적" → ㅁㅣㅈㅓㄱ)의 접두어가 되도록 합니다.
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final String[] JUNGSEONG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+        "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+        "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+        Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+        Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+        Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+        Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+        Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+        Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 자모 키: 공백을 제거하고 한글은 기본 자모 단위로 분해합니다. ("미적분" → ㅁㅣㅈㅓㄱㅂㅜㄴ)
+     */
+    static String jamoKey(String text) {
+        String normalized = normalize(text);
+        StringBuilder key = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                int jongseong = index % JONGSEONG_COUNT;
+                int jungseong = (index / JONGSEONG_COUNT) % JUNGSEONG_COUNT;
+                int choseong = index / (JUNGSEONG_COUNT * JONGSEONG_COUNT);
+                key.append(CHOSEONG.charAt(choseong))
+                    .append(JUNGSEONG[jungseong])
+                    .append(JONGSEONG[jongseong]);
+            } else {
+                key.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 초성 키: 공백을 제거하고 한글 음절은 초성만 남깁니다. ("미적분 기초" → ㅁㅈㅂㄱㅊ)
+     */
+    static String choseongKey(String text) {
+        String normalized = normalize(text);
+        StringBuilder key = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                int choseong = (c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT);
+                key.append(CHOSEONG.charAt(choseong));
+            } else {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 글자가 초성으로 쓸 수 있는 자음인지 확인합니다. ("ㅁㅈㅂ")
+     */
+    static boolean isChoseongQuery(String text) {
+        boolean hasChoseong = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (CHOSEONG.indexOf(c) < 0) {
+                return false;
+            }
+            hasChoseong = true;
+        }
+        return hasChoseong;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,219 @@
+package com.landr.service.lecture;
+
+import com.landr.repository.lecture.dto.CatalogLecture;
+import com.landr.service.dto.lecture.LectureSuggestionDto;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강의 제목과 선생님 이름의 접두어 자동완성 색인입니다.
+ * 자모로 분해한 키와 초성 키를 각각 트라이에 넣고, 각 노드에 최신 강의 상위 MAX_SUGGESTIONS개를 미리 보관해
+ * 검색어 길이만큼만 내려가면 바로 결과를 돌려줍니다. ("ㅁㅈㅂ", "밎", "미적" 모두 "미적분"에 매칭)
+ * 제목은 단어마다 그 단어부터 시작하는 키를 넣어 제목 중간 단어로도 찾을 수 있습니다.
+ * 강의 카탈로그(LectureCatalogService)가 스냅샷을 적재할 때마다 같은 강의 목록으로 새 트라이를 만들어 교체합니다.
+ */
+@Slf4j
+@Component
+public class LectureAutocompleteIndex {
+
+    static final int MAX_SUGGESTIONS = 10;
+
+    // 키는 앞부분만 색인 (자동완성 입력은 대부분 몇 글자 이내)
+    private static final int MAX_KEY_LENGTH = 24;
+
+    private static final Comparator<Suggestion> LATEST_FIRST =
+        Comparator.comparing((Suggestion s) -> s.createdAt).reversed()
+            .thenComparing(Comparator.comparingLong((Suggestion s) -> s.lectureId).reversed());
+
+    private volatile Tries tries = new Tries(new Node(), new Node());
+
+    /**
+     * 강의 목록으로 색인을 새로 만들어 교체합니다.
+     */
+    void rebuild(List<CatalogLecture> lectures) {
+        Node newJamoRoot = new Node();
+        Node newChoseongRoot = new Node();
+        for (CatalogLecture lecture : lectures) {
+            insert(newJamoRoot, newChoseongRoot, lecture);
+        }
+
+        tries = new Tries(newJamoRoot, newChoseongRoot);
+        log.info("강의 자동완성 색인 생성 완료: 강의 {}개", lectures.size());
+    }
+
+    /**
+     * 검색어로 시작하는 제목/선생님 이름을 가진 강의를 최신순으로 최대 limit개 조회합니다.
+     * 검색어가 초성으로만 이루어져 있으면 초성 키에서, 그 외에는 자모 키에서 찾습니다.
+     * 키가 MAX_KEY_LENGTH보다 길면 그 깊이 노드의 후보 중 전체 키로 시작하는 강의만 반환하므로 limit보다 적을 수 있습니다.
+     */
+    public List<LectureSuggestionDto> suggest(String query, int limit) {
+        boolean choseongOnly = HangulJamo.isChoseongQuery(query);
+        String key = choseongOnly ? HangulJamo.choseongKey(query) : HangulJamo.jamoKey(query);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Tries current = tries;
+        Node node = choseongOnly ? current.choseongRoot : current.jamoRoot;
+        int depth = Math.min(key.length(), MAX_KEY_LENGTH);
+        for (int i = 0; i < depth && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return Collections.emptyList();
+        }
+
+        // 색인하지 않은 뒷부분은 후보의 제목/선생님 이름으로 다시 확인
+        boolean truncated = key.length() > MAX_KEY_LENGTH;
+        return node.top.stream()
+            .filter(s -> !truncated || s.startsWith(key, choseongOnly))
+            .limit(Math.min(limit, MAX_SUGGESTIONS))
+            .map(s -> LectureSuggestionDto.builder()
+                .lectureId(s.lectureId)
+                .title(s.title)
+                .teacher(s.teacher)
+                .build())
+            .toList();
+    }
+
+    private static void insert(Node jamoRoot, Node choseongRoot, CatalogLecture lecture) {
+        Suggestion suggestion = new Suggestion(lecture);
+        for (String text : keySources(lecture.getTitle(), lecture.getTeacher())) {
+            insertKey(jamoRoot, HangulJamo.jamoKey(text), suggestion);
+            insertKey(choseongRoot, HangulJamo.choseongKey(text), suggestion);
+        }
+    }
+
+    /**
+     * 제목의 각 단어부터 시작하는 문자열과 선생님 이름
+     */
+    private static List<String> keySources(String rawTitle, String teacher) {
+        List<String> sources = new ArrayList<>();
+        String title = rawTitle == null ? "" : rawTitle.strip();
+        for (int i = 0; i < title.length(); i++) {
+            if (i == 0 || (Character.isWhitespace(title.charAt(i - 1))
+                && !Character.isWhitespace(title.charAt(i)))) {
+                sources.add(title.substring(i));
+            }
+        }
+        if (teacher != null) {
+            sources.add(teacher);
+        }
+        return sources;
+    }
+
+    private static void insertKey(Node root, String key, Suggestion suggestion) {
+        Node node = root;
+        int depth = Math.min(key.length(), MAX_KEY_LENGTH);
+        for (int i = 0; i < depth; i++) {
+            node = node.childOrCreate(key.charAt(i));
+            node.offer(suggestion);
+        }
+    }
+
+    /**
+     * 자모 키 트라이와 초성 키 트라이. 한 번 만든 뒤에는 바꾸지 않으므로 조회는 잠금 없이 읽습니다.
+     */
+    private static final class Tries {
+
+        private final Node jamoRoot;
+        private final Node choseongRoot;
+
+        private Tries(Node jamoRoot, Node choseongRoot) {
+            this.jamoRoot = jamoRoot;
+            this.choseongRoot = choseongRoot;
+        }
+    }
+
+    /**
+     * 자식은 글자 순으로 정렬된 배열에 보관해 노드당 HashMap보다 메모리를 적게 씁니다.
+     */
+    private static final class Node {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private final List<Suggestion> top = new ArrayList<>(1);
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -index - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = new Node();
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1,
+                children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        /**
+         * 최신순 상위 MAX_SUGGESTIONS개만 유지합니다. 같은 강의가 다시 들어오면 새 정보로 교체합니다.
+         */
+        private void offer(Suggestion suggestion) {
+            top.removeIf(s -> s.lectureId == suggestion.lectureId);
+
+            int insertAt = 0;
+            while (insertAt < top.size() && LATEST_FIRST.compare(top.get(insertAt), suggestion) < 0) {
+                insertAt++;
+            }
+            if (insertAt >= MAX_SUGGESTIONS) {
+                return;
+            }
+            top.add(insertAt, suggestion);
+            if (top.size() > MAX_SUGGESTIONS) {
+                top.remove(top.size() - 1);
+            }
+        }
+    }
+
+    private static final class Suggestion {
+
+        private final long lectureId;
+        private final String title;
+        private final String teacher;
+        private final LocalDateTime createdAt;
+
+        private Suggestion(CatalogLecture lecture) {
+            this.lectureId = lecture.getId();
+            this.title = lecture.getTitle();
+            this.teacher = lecture.getTeacher();
+            this.createdAt = lecture.getCreatedAt();
+        }
+
+        /**
+         * 제목/선생님 이름의 키 중 하나라도 key로 시작하는지 확인합니다. (색인 깊이를 넘는 검색어용)
+         */
+        private boolean startsWith(String key, boolean choseong) {
+            for (String text : keySources(title, teacher)) {
+                String sourceKey = choseong ? HangulJamo.choseongKey(text) : HangulJamo.jamoKey(text);
+                if (sourceKey.startsWith(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.landr.service.lecture;
+
+import com.landr.domain.lecture.Platform;
+import com.landr.domain.lecture.Subject;
+import com.landr.repository.lecture.dto.CatalogLecture;
+import com.landr.repository.lecture.dto.CatalogLesson;
+import com.landr.repository.lecture.dto.CatalogLessonRange;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 강의와 수업의 불변 스냅샷입니다.
+ * 강의/수업은 외부에서 적재되는 참조 데이터라 요청마다 ORM으로 읽지 않고, 컬럼별 배열에 담아 메모리에서 조회합니다.
+ * 강의는 ID 순으로, 수업은 (강의, 순서) 순으로 저장하고 강의별 수업 구간은 lessonOffsets로 찾습니다.
+ * 수업 시간의 누적합(durationPrefix)을 함께 두어 구간의 수업 수와 총 시간을 수업을 읽지 않고 구합니다.
+ * 반복되는 문자열(선생님, 태그, 수업 제목 등)은 한 인스턴스로 공유합니다.
+ */
+final class LectureCatalog {
+
+    static final LectureCatalog EMPTY = new Builder().build(0L);
+
+    private static final Platform[] PLATFORMS = Platform.values();
+    private static final Subject[] SUBJECTS = Subject.values();
+
+    private final long version;
+
+    // 강의 컬럼 (ID 오름차순)
+    private final long[] lectureIds;
+    private final String[] titles;
+    private final String[] teachers;
+    private final String[] tags;
+    private final byte[] platforms;
+    private final byte[] subjects;
+    private final int[] totalLessons;
+    private final int[] totalDurations;
+    private final long[] createdAtMicros;
+
+    // 강의 i의 수업은 [lessonOffsets[i], lessonOffsets[i + 1])
+    private final int[] lessonOffsets;
+
+    // 수업 컬럼 ((강의, 순서) 오름차순)
+    private final long[] lessonIds;
+    private final int[] lessonOrders;
+    private final int[] lessonDurations;
+    private final String[] lessonTitles;
+
+    // durationPrefix[i] = 위치 i 이전 수업들의 시간 합 (강의별 수업이 연속이므로 구간 합은 두 값의 차)
+    private final long[] durationPrefix;
+
+    // 수업 ID로 위치를 찾기 위한 정렬된 ID와 위치
+    private final long[] sortedLessonIds;
+    private final int[] lessonPositions;
+
+    private LectureCatalog(long version, Builder builder) {
+        int lectureCount = builder.lectureCount;
+        int lessonCount = builder.lessonCount;
+
+        this.version = version;
+        this.lectureIds = Arrays.copyOf(builder.lectureIds, lectureCount);
+        this.titles = Arrays.copyOf(builder.titles, lectureCount);
+        this.teachers = Arrays.copyOf(builder.teachers, lectureCount);
+        this.tags = Arrays.copyOf(builder.tags, lectureCount);
+        this.platforms = Arrays.copyOf(builder.platforms, lectureCount);
+        this.subjects = Arrays.copyOf(builder.subjects, lectureCount);
+        this.totalLessons = Arrays.copyOf(builder.totalLessons, lectureCount);
+        this.totalDurations = Arrays.copyOf(builder.totalDurations, lectureCount);
+        this.createdAtMicros = Arrays.copyOf(builder.createdAtMicros, lectureCount);
+
+        this.lessonIds = Arrays.copyOf(builder.lessonIds, lessonCount);
+        this.lessonOrders = Arrays.copyOf(builder.lessonOrders, lessonCount);
+        this.lessonDurations = Arrays.copyOf(builder.lessonDurations, lessonCount);
+        this.lessonTitles = Arrays.copyOf(builder.lessonTitles, lessonCount);
+        this.lessonOffsets = lessonOffsets(builder);
+
+        this.durationPrefix = new long[lessonCount + 1];
+        for (int i = 0; i < lessonCount; i++) {
+            durationPrefix[i + 1] = durationPrefix[i] + lessonDurations[i];
+        }
+
+        // 수업 ID → 위치 색인
+        long[] sortedIds = new long[lessonCount];
+        Integer[] order = new Integer[lessonCount];
+        for (int i = 0; i < lessonCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(lessonIds[a], lessonIds[b]));
+        this.lessonPositions = new int[lessonCount];
+        for (int i = 0; i < lessonCount; i++) {
+            sortedIds[i] = lessonIds[order[i]];
+            lessonPositions[i] = order[i];
+        }
+        this.sortedLessonIds = sortedIds;
+    }
+
+    long version() {
+        return version;
+    }
+
+    int lectureCount() {
+        return lectureIds.length;
+    }
+
+    int lessonCount() {
+        return lessonIds.length;
+    }
+
+    Optional<CatalogLecture> findLecture(long lectureId) {
+        int index = Arrays.binarySearch(lectureIds, lectureId);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new CatalogLecture(
+            lectureIds[index],
+            titles[index],
+            teachers[index],
+            PLATFORMS[platforms[index]],
+            SUBJECTS[subjects[index]],
+            tags[index],
+            totalLessons[index],
+            totalDurations[index],
+            fromMicros(createdAtMicros[index])));
+    }
+
+    Optional<CatalogLesson> findLesson(long lessonId) {
+        int index = Arrays.binarySearch(sortedLessonIds, lessonId);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        int position = lessonPositions[index];
+        return Optional.of(lessonAt(lectureIdOfLesson(position), position));
+    }
+
+    /**
+     * 강의의 수업을 순서대로 조회합니다. 카탈로그에 없는 강의면 empty를 반환합니다.
+     */
+    Optional<List<CatalogLesson>> findLessons(long lectureId) {
+        return findLessonsBetween(lectureId, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 강의의 수업 중 순서가 [startOrder, endOrder]인 수업을 순서대로 조회합니다.
+     * 카탈로그에 없는 강의면 empty를 반환합니다.
+     */
+    Optional<List<CatalogLesson>> findLessonsBetween(long lectureId, int startOrder, int endOrder) {
+        int index = Arrays.binarySearch(lectureIds, lectureId);
+        if (index < 0) {
+            return Optional.empty();
+        }
+
+        int from = positionOf(index, startOrder);
+        int to = positionOf(index, endOrder == Integer.MAX_VALUE ? endOrder : endOrder + 1);
+        List<CatalogLesson> lessons = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            lessons.add(lessonAt(lectureId, i));
+        }
+        return Optional.of(lessons);
+    }
+
+    /**
+     * 강의의 수업 중 순서가 [startOrder, endOrder]인 수업의 수와 총 시간을 누적합으로 구합니다.
+     * 카탈로그에 없는 강의면 empty를 반환합니다.
+     */
+    Optional<CatalogLessonRange> summarizeLessonsBetween(long lectureId, int startOrder,
+        int endOrder) {
+        int index = Arrays.binarySearch(lectureIds, lectureId);
+        if (index < 0) {
+            return Optional.empty();
+        }
+
+        int from = positionOf(index, startOrder);
+        int to = Math.max(positionOf(index, endOrder == Integer.MAX_VALUE ? endOrder : endOrder + 1),
+            from);
+        return Optional.of(new CatalogLessonRange(lectureId, startOrder, endOrder, to - from,
+            durationPrefix[to] - durationPrefix[from]));
+    }
+
+    /**
+     * 강의 index의 수업 중 순서가 order 이상인 첫 수업의 위치
+     * 순서가 같은 수업이 여러 개면 그중 첫 수업의 위치를 반환하므로, 구간에는 같은 순서의 수업이 모두 포함됩니다.
+     */
+    private int positionOf(int index, int order) {
+        return lowerBound(lessonOrders, lessonOffsets[index], lessonOffsets[index + 1], order);
+    }
+
+    private CatalogLesson lessonAt(long lectureId, int position) {
+        return new CatalogLesson(lessonIds[position], lectureId, lessonOrders[position],
+            lessonDurations[position], lessonTitles[position]);
+    }
+
+    private long lectureIdOfLesson(int position) {
+        // lessonOffsets에서 position을 포함하는 마지막 강의
+        int low = 0;
+        int high = lectureIds.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (lessonOffsets[mid] <= position) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return lectureIds[low];
+    }
+
+    private static int lowerBound(int[] values, int from, int to, int key) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] lessonOffsets(Builder builder) {
+        int[] offsets = new int[builder.lectureCount + 1];
+        int lesson = 0;
+        for (int i = 0; i < builder.lectureCount; i++) {
+            offsets[i] = lesson;
+            while (lesson < builder.lessonCount
+                && builder.lessonLectureIds[lesson] == builder.lectureIds[i]) {
+                lesson++;
+            }
+        }
+        offsets[builder.lectureCount] = lesson;
+        return offsets;
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+            (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * 강의는 ID 순으로, 수업은 (강의 ID, 순서) 순으로 추가해야 합니다.
+     * 한 강의 안에서 순서가 같은 수업은 모두 보관하며, 카탈로그에 없는 강의의 수업은 버립니다.
+     */
+    static final class Builder {
+
+        private final Map<String, String> strings = new HashMap<>();
+
+        private int lectureCount;
+        private long[] lectureIds = new long[16];
+        private String[] titles = new String[16];
+        private String[] teachers = new String[16];
+        private String[] tags = new String[16];
+        private byte[] platforms = new byte[16];
+        private byte[] subjects = new byte[16];
+        private int[] totalLessons = new int[16];
+        private int[] totalDurations = new int[16];
+        private long[] createdAtMicros = new long[16];
+
+        private int lessonCount;
+        private long[] lessonIds = new long[16];
+        private long[] lessonLectureIds = new long[16];
+        private int[] lessonOrders = new int[16];
+        private int[] lessonDurations = new int[16];
+        private String[] lessonTitles = new String[16];
+
+        void addLecture(CatalogLecture lecture) {
+            if (lectureCount > 0 && lecture.getId() <= lectureIds[lectureCount - 1]) {
+                throw new IllegalArgumentException("강의는 ID 순으로 추가해야 합니다: " + lecture.getId());
+            }
+            if (lectureCount == lectureIds.length) {
+                int capacity = lectureCount * 2;
+                lectureIds = Arrays.copyOf(lectureIds, capacity);
+                titles = Arrays.copyOf(titles, capacity);
+                teachers = Arrays.copyOf(teachers, capacity);
+                tags = Arrays.copyOf(tags, capacity);
+                platforms = Arrays.copyOf(platforms, capacity);
+                subjects = Arrays.copyOf(subjects, capacity);
+                totalLessons = Arrays.copyOf(totalLessons, capacity);
+                totalDurations = Arrays.copyOf(totalDurations, capacity);
+                createdAtMicros = Arrays.copyOf(createdAtMicros, capacity);
+            }
+
+            int i = lectureCount++;
+            lectureIds[i] = lecture.getId();
+            titles[i] = intern(lecture.getTitle());
+            teachers[i] = intern(lecture.getTeacher());
+            tags[i] = intern(lecture.getTag());
+            platforms[i] = (byte) lecture.getPlatform().ordinal();
+            subjects[i] = (byte) lecture.getSubject().ordinal();
+            totalLessons[i] = lecture.getTotalLessons();
+            totalDurations[i] = lecture.getTotalDuration();
+            createdAtMicros[i] = toMicros(lecture.getCreatedAt());
+        }
+
+        void addLesson(CatalogLesson lesson) {
+            if (Arrays.binarySearch(lectureIds, 0, lectureCount, lesson.getLectureId()) < 0) {
+                return;
+            }
+            if (lessonCount > 0) {
+                long previousLectureId = lessonLectureIds[lessonCount - 1];
+                if (lesson.getLectureId() < previousLectureId
+                    || (lesson.getLectureId() == previousLectureId
+                    && lesson.getOrder() < lessonOrders[lessonCount - 1])) {
+                    throw new IllegalArgumentException(
+                        "수업은 (강의 ID, 순서) 순으로 추가해야 합니다: " + lesson.getId());
+                }
+            }
+            if (lessonCount == lessonIds.length) {
+                int capacity = lessonCount * 2;
+                lessonIds = Arrays.copyOf(lessonIds, capacity);
+                lessonLectureIds = Arrays.copyOf(lessonLectureIds, capacity);
+                lessonOrders = Arrays.copyOf(lessonOrders, capacity);
+                lessonDurations = Arrays.copyOf(lessonDurations, capacity);
+                lessonTitles = Arrays.copyOf(lessonTitles, capacity);
+            }
+
+            int i = lessonCount++;
+            lessonIds[i] = lesson.getId();
+            lessonLectureIds[i] = lesson.getLectureId();
+            lessonOrders[i] = lesson.getOrder();
+            lessonDurations[i] = lesson.getDuration();
+            lessonTitles[i] = intern(lesson.getTitle());
+        }
+
+        LectureCatalog build(long version) {
+            return new LectureCatalog(version, this);
+        }
+
+        private String intern(String value) {
+            if (value == null) {
+                return null;
+            }
+            return strings.computeIfAbsent(value, v -> v);
+        }
+    }
+}
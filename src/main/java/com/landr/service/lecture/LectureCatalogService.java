@@ -0,0 +1,98 @@
+package com.landr.service.lecture;
+
+import com.landr.repository.lecture.LectureCatalogQueryRepository;
+import com.landr.repository.lecture.dto.CatalogLecture;
+import com.landr.repository.lecture.dto.CatalogLesson;
+import com.landr.repository.lecture.dto.CatalogLessonRange;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 강의 카탈로그 스냅샷을 보관하고 주기적으로 교체합니다.
+ * 조회는 현재 스냅샷에서 바로 응답하며, 스냅샷에 없는 강의/수업(적재 직후 등)은 empty를 반환하므로
+ * 호출하는 쪽에서 DB 조회로 대신해야 합니다.
+ * 강의 검색 색인과 자동완성 색인도 스냅샷을 적재할 때 같은 강의 목록으로 함께 다시 만들어,
+ * 세 가지 인메모리 조회가 항상 같은 시점의 강의를 보도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LectureCatalogService {
+
+    private final LectureCatalogQueryRepository lectureCatalogQueryRepository;
+    private final LectureSearchIndex lectureSearchIndex;
+    private final LectureAutocompleteIndex lectureAutocompleteIndex;
+
+    private volatile LectureCatalog catalog = LectureCatalog.EMPTY;
+    private List<Long> fingerprint;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Long> currentFingerprint = lectureCatalogQueryRepository.findFingerprint();
+
+        LectureCatalog.Builder builder = new LectureCatalog.Builder();
+        List<CatalogLecture> lectures = new ArrayList<>();
+        lectureCatalogQueryRepository.forEachLecture(lecture -> {
+            builder.addLecture(lecture);
+            lectures.add(lecture);
+        });
+        lectureCatalogQueryRepository.forEachLesson(builder::addLesson);
+        LectureCatalog loaded = builder.build(catalog.version() + 1);
+
+        lectureSearchIndex.rebuild(lectures);
+        lectureAutocompleteIndex.rebuild(lectures);
+        catalog = loaded;
+        fingerprint = currentFingerprint;
+        log.info("강의 카탈로그 v{} 적재 완료: 강의 {}개, 수업 {}개",
+            loaded.version(), loaded.lectureCount(), loaded.lessonCount());
+    }
+
+    /**
+     * 강의/수업의 행 수나 최대 ID가 바뀌었을 때만 스냅샷을 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${lecture.catalog.refresh-interval:PT5M}",
+        initialDelayString = "${lecture.catalog.refresh-interval:PT5M}")
+    public void refreshIfChanged() {
+        if (!lectureCatalogQueryRepository.findFingerprint().equals(fingerprint)) {
+            load();
+        }
+    }
+
+    public Optional<CatalogLecture> findLecture(Long lectureId) {
+        return catalog.findLecture(lectureId);
+    }
+
+    public Optional<CatalogLesson> findLesson(Long lessonId) {
+        return catalog.findLesson(lessonId);
+    }
+
+    /**
+     * 강의의 수업을 순서대로 조회합니다.
+     */
+    public Optional<List<CatalogLesson>> findLessons(Long lectureId) {
+        return catalog.findLessons(lectureId);
+    }
+
+    /**
+     * 강의의 수업 중 순서가 [startOrder, endOrder]인 수업을 순서대로 조회합니다.
+     */
+    public Optional<List<CatalogLesson>> findLessonsBetween(Long lectureId, int startOrder,
+        int endOrder) {
+        return catalog.findLessonsBetween(lectureId, startOrder, endOrder);
+    }
+
+    /**
+     * 강의의 수업 중 순서가 [startOrder, endOrder]인 수업의 수와 총 시간을 수업을 읽지 않고 조회합니다.
+     */
+    public Optional<CatalogLessonRange> summarizeLessonsBetween(Long lectureId, int startOrder,
+        int endOrder) {
+        return catalog.summarizeLessonsBetween(lectureId, startOrder, endOrder);
+    }
+}
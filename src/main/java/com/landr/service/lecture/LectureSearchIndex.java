@@ -0,0 +1,213 @@
+package com.landr.service.lecture;
+
+import com.landr.controller.lecture.LectureSearchRequest;
+import com.landr.domain.lecture.Platform;
+import com.landr.domain.lecture.Subject;
+import com.landr.repository.lecture.dto.CatalogLecture;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강의 제목, 선생님, 태그에 대한 인메모리 역색인입니다.
+ * LIKE '%검색어%'는 인덱스를 탈 수 없어 검색마다 lectures 전체를 읽으므로,
+ * 글자 단위(1-gram, 2-gram) 색인으로 후보를 좁힌 뒤 원문 포함 여부를 확인해 LIKE와 같은 결과를 돌려줍니다.
+ * 강의 카탈로그(LectureCatalogService)가 스냅샷을 적재할 때마다 같은 강의 목록으로 새 색인을 만들어 통째로 교체합니다.
+ */
+@Slf4j
+@Component
+public class LectureSearchIndex {
+
+    // 커서 페이지네이션과 같은 정렬 (createdAt desc, id desc)
+    private static final Comparator<Entry> LATEST_FIRST =
+        Comparator.comparing((Entry e) -> e.createdAt).reversed()
+            .thenComparing(Comparator.comparingLong((Entry e) -> e.id).reversed());
+
+    // 색인이 만들어지기 전에는 null
+    private volatile Snapshot snapshot;
+
+    /**
+     * 색인이 만들어지기 전에는 DB 검색을 사용해야 합니다.
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 강의 목록으로 색인을 새로 만들어 교체합니다.
+     */
+    void rebuild(List<CatalogLecture> lectures) {
+        Map<Long, Entry> entries = new HashMap<>();
+        Map<String, Set<Long>> postings = new HashMap<>();
+        for (CatalogLecture lecture : lectures) {
+            Entry entry = new Entry(lecture);
+            entries.put(entry.id, entry);
+            for (String token : entry.tokens) {
+                postings.computeIfAbsent(token, t -> new HashSet<>()).add(entry.id);
+            }
+        }
+
+        snapshot = new Snapshot(entries, postings);
+        log.info("강의 검색 색인 생성 완료: 강의 {}개, 토큰 {}개", entries.size(), postings.size());
+    }
+
+    /**
+     * 검색어를 포함하는 강의 ID를 최신순으로 조회합니다.
+     * 필터와 커서를 적용하며, 다음 페이지 여부 확인을 위해 offset + 1개까지 반환합니다.
+     */
+    public List<Long> search(LectureSearchRequest req) {
+        String query = normalize(req.getSearch());
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Collections.emptyList();
+        }
+
+        List<Set<Long>> candidates = new ArrayList<>();
+        for (String token : queryTokens(query)) {
+            Set<Long> ids = current.postings.get(token);
+            if (ids == null) {
+                return Collections.emptyList();
+            }
+            candidates.add(ids);
+        }
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+        candidates.sort(Comparator.comparingInt(Set::size));
+
+        List<Entry> matches = new ArrayList<>();
+        for (Long id : candidates.get(0)) {
+            if (!containsInAll(candidates, id)) {
+                continue;
+            }
+            Entry entry = current.entries.get(id);
+            if (entry.matches(query) && entry.matchesFilter(req)) {
+                matches.add(entry);
+            }
+        }
+
+        return matches.stream()
+            .sorted(LATEST_FIRST)
+            .limit(req.getOffset() + 1)
+            .map(entry -> entry.id)
+            .toList();
+    }
+
+    private static boolean containsInAll(List<Set<Long>> candidates, Long id) {
+        for (int i = 1; i < candidates.size(); i++) {
+            if (!candidates.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 대소문자를 무시하고, 자모가 분리된(NFD) 한글 입력도 완성형으로 맞춥니다.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인 토큰: 공백이 아닌 한 글자와 연속된 두 글자
+     */
+    static Set<String> indexTokens(String text) {
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                tokens.add(String.valueOf(c));
+            }
+            if (i + 1 < text.length()) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색 토큰: 한 글자 검색어는 그 글자, 그 외에는 연속된 두 글자 전체
+     */
+    static Set<String> queryTokens(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            tokens.add(query.substring(i, i + 2));
+        }
+        return tokens;
+    }
+
+    /**
+     * 한 번 만든 뒤에는 바꾸지 않으므로 검색은 잠금 없이 읽습니다.
+     */
+    private static final class Snapshot {
+
+        private final Map<Long, Entry> entries;
+        private final Map<String, Set<Long>> postings;
+
+        private Snapshot(Map<Long, Entry> entries, Map<String, Set<Long>> postings) {
+            this.entries = entries;
+            this.postings = postings;
+        }
+    }
+
+    private static final class Entry {
+
+        private final long id;
+        private final LocalDateTime createdAt;
+        private final Platform platform;
+        private final Subject subject;
+        private final String title;
+        private final String teacher;
+        private final String tag;
+        private final Set<String> tokens;
+
+        private Entry(CatalogLecture lecture) {
+            this.id = lecture.getId();
+            this.createdAt = lecture.getCreatedAt();
+            this.platform = lecture.getPlatform();
+            this.subject = lecture.getSubject();
+            this.title = normalize(lecture.getTitle());
+            this.teacher = normalize(lecture.getTeacher());
+            this.tag = normalize(lecture.getTag());
+            this.tokens = new HashSet<>();
+            tokens.addAll(indexTokens(title));
+            tokens.addAll(indexTokens(teacher));
+            tokens.addAll(indexTokens(tag));
+        }
+
+        private boolean matches(String query) {
+            return title.contains(query) || teacher.contains(query) || tag.contains(query);
+        }
+
+        private boolean matchesFilter(LectureSearchRequest req) {
+            if (req.getPlatform() != null && req.getPlatform() != platform) {
+                return false;
+            }
+            if (req.getSubject() != null && req.getSubject() != subject) {
+                return false;
+            }
+            if (req.getCursorLectureId() != null && req.getCursorCreatedAt() != null) {
+                return createdAt.isBefore(req.getCursorCreatedAt())
+                    || (createdAt.isEqual(req.getCursorCreatedAt()) && id < req.getCursorLectureId());
+            }
+            return true;
+        }
+    }
+}
@@ -4,13 +4,18 @@ import com.landr.controller.lecture.LectureSearchRequest;
 import com.landr.controller.lecture.dto.LessonDto;
 import com.landr.controller.lecture.dto.LessonsResponseDto;
 import com.landr.domain.lecture.Lecture;
-import com.landr.domain.lecture.Lesson;
 import com.landr.repository.lecture.LectureRepository;
 import com.landr.repository.lesson.LessonRepository;
 import com.landr.service.dto.lecture.CursorPageResponseDto;
 import com.landr.service.dto.lecture.LectureResponseDto;
+import com.landr.service.dto.lecture.LectureSuggestionDto;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +26,9 @@ public class LectureService {
 
     private final LectureRepository lectureRepository;
     private final LessonRepository lessonRepository;
+    private final LectureSearchIndex lectureSearchIndex;
+    private final LectureAutocompleteIndex lectureAutocompleteIndex;
+    private final LectureCatalogService lectureCatalogService;
 
     /**
      * 최신순 강의 목록 조회 (커서 기반 페이지네이션)
@@ -52,7 +60,7 @@ public class LectureService {
      */
     public CursorPageResponseDto<LectureResponseDto> searchLatestLectures(
         LectureSearchRequest req) {
-        List<Lecture> results = lectureRepository.findLatestLecturesBySearch(req);
+        List<Lecture> results = findLatestLecturesBySearch(req);
 
         boolean hasNext = results.size() > req.getOffset();
         List<Lecture> page = results.stream().limit(req.getOffset()).toList();
@@ -73,15 +81,53 @@ public class LectureService {
             .build();
     }
 
+    /**
+     * 강의 제목/선생님 이름 자동완성 (초성, 입력 중인 한글 포함)
+     */
+    public List<LectureSuggestionDto> autocompleteLectures(String query, int limit) {
+        if (query == null || query.isBlank() || limit < 1) {
+            return Collections.emptyList();
+        }
+        return lectureAutocompleteIndex.suggest(query, limit);
+    }
+
+    /**
+     * 검색어가 있으면 색인에서 정렬된 후보 ID를 찾고 PK로 조회합니다. (색인 생성 전에는 DB에서 검색)
+     */
+    private List<Lecture> findLatestLecturesBySearch(LectureSearchRequest req) {
+        if (req.getSearch() == null || req.getSearch().isBlank() || !lectureSearchIndex.isReady()) {
+            return lectureRepository.findLatestLecturesBySearch(req);
+        }
+
+        List<Long> ids = lectureSearchIndex.search(req);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Lecture> lecturesById = lectureRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Lecture::getId, Function.identity()));
+        return ids.stream()
+            .map(lecturesById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
     @Transactional(readOnly = true)
     public LessonsResponseDto getLessonsByLectureId(Long lectureId) {
-        List<Lesson> lessons = lessonRepository.findLessonsByLectureId(lectureId);
-        List<LessonDto> lessonDtoList = lessons.stream()
-            .map(lesson -> LessonDto.builder()
-                .id(lesson.getId())
-                .title(lesson.getTitle())
-                .build()
-            ).toList();
+        // 카탈로그에 아직 없는 강의(적재 직후 등)만 DB에서 조회
+        List<LessonDto> lessonDtoList = lectureCatalogService.findLessons(lectureId)
+            .map(lessons -> lessons.stream()
+                .map(lesson -> LessonDto.builder()
+                    .id(lesson.getId())
+                    .title(lesson.getTitle())
+                    .build()
+                ).toList())
+            .orElseGet(() -> lessonRepository.findLessonsByLectureId(lectureId).stream()
+                .map(lesson -> LessonDto.builder()
+                    .id(lesson.getId())
+                    .title(lesson.getTitle())
+                    .build()
+                ).toList());
 
         return LessonsResponseDto.builder()
             .lessons(lessonDtoList)
@@ -5,13 +5,16 @@ import com.landr.domain.schedule.LessonSchedule;
 import com.landr.exception.ApiException;
 import com.landr.exception.ExceptionType;
 import com.landr.repository.lessonschedule.LessonScheduleRepository;
-import com.landr.service.dto.DailyScheduleWithLessonsDto;
-import com.landr.service.dto.LessonScheduleDto;
+import com.landr.repository.lessonschedule.dto.DailyCompletionCount;
+import com.landr.repository.planprogress.PlanProgressRepository;
+import com.landr.repository.statistics.StudyStatisticsRollupRepository;
+import com.landr.repository.studyactivity.StudyActivityRepository;
 import com.landr.service.dto.WeeklyAchievementDto;
-import com.landr.service.schedule.ScheduleService;
+import jakarta.persistence.EntityManager;
+import java.time.Clock;
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,49 +27,68 @@ import org.springframework.transaction.annotation.Transactional;
 public class LessonScheduleService {
 
     private final LessonScheduleRepository lessonScheduleRepository;
-    private final ScheduleService scheduleService;
+    private final PlanProgressRepository planProgressRepository;
+    private final StudyActivityRepository studyActivityRepository;
+    private final StudyStatisticsRollupRepository studyStatisticsRollupRepository;
+    private final EntityManager entityManager;
+    private final Clock clock;
 
     @Transactional
     public Boolean toggleCheck(Long lessonScheduleId, Long userId) {
         LessonSchedule lessonSchedule = lessonScheduleRepository.findByIdAndUserId(lessonScheduleId,
             userId).orElseThrow(() -> new ApiException(ExceptionType.LESSON_SCHEDULE_NOT_FOUND));
 
-        return lessonSchedule.toggleCheck();
+        LocalDateTime previousUpdatedAt = lessonSchedule.getUpdatedAt();
+        boolean completed = lessonSchedule.toggleCheck();
+
+        // 계획별 진행 현황을 같은 트랜잭션에서 갱신
+        Long planId = lessonSchedule.getDailySchedule().getPlan().getId();
+        if (completed) {
+            planProgressRepository.incrementCompleted(planId, lessonSchedule.getAdjustedDuration(),
+                lessonSchedule.getUpdatedAt());
+        } else {
+            planProgressRepository.decrementCompleted(planId, lessonSchedule.getAdjustedDuration());
+        }
+
+        // 학습 활동은 완료한 날짜 기준으로 기록 (취소 시에는 원래 완료한 날짜에서 차감)
+        if (completed) {
+            studyActivityRepository.incrementCompleted(userId,
+                (int) lessonSchedule.getUpdatedAt().toLocalDate().toEpochDay());
+        } else if (previousUpdatedAt != null) {
+            studyActivityRepository.decrementCompleted(userId,
+                (int) previousUpdatedAt.toLocalDate().toEpochDay());
+        }
+
+        // 지난 달 수업이면 이미 집계된 해당 월 통계를 다시 만듦
+        YearMonth scheduleMonth = YearMonth.from(lessonSchedule.getDailySchedule().getDate());
+        if (scheduleMonth.isBefore(YearMonth.now(clock))) {
+            // 집계는 JDBC로 lesson_schedules를 다시 읽으므로 완료 여부 변경을 먼저 반영
+            entityManager.flush();
+            studyStatisticsRollupRepository.rebuildUserMonth(userId, scheduleMonth);
+        }
+
+        return completed;
     }
 
     /**
      * 이번주 학습 성취율 조회 이번주(월~일)에 당일 강의 수강해야되는 강의를 모두 완료한 경우 true, 아니면 false
+     * 한 주의 날짜별 전체/완료 수업 수를 한 번에 집계해 계산합니다.
      *
      * @param userId 사용자 ID
      * @return 요일별 학습 완료 상태를 포함한 DTO
      */
     @Transactional(readOnly = true)
     public WeeklyAchievementDto getWeeklyAchievement(Long userId) {
-        LocalDate startOfWeek = LocalDate.now().with(java.time.DayOfWeek.MONDAY);
-        WeeklyAchievementDto.WeeklyAchievementDtoBuilder builder = WeeklyAchievementDto.builder();
-
-        for (int i = 0; i < 7; i++) {
-            LocalDate checkDate = startOfWeek.plusDays(i);
-            DailyScheduleWithLessonsDto daySchedule = scheduleService.getUserDailySchedules(userId, checkDate);
-
-            boolean isAchieved = false;
-            if (daySchedule != null && !daySchedule.getLessonSchedules().isEmpty()) {
-                isAchieved = daySchedule.getLessonSchedules().stream()
-                    .allMatch(LessonScheduleDto::isCompleted);
-            }
-
-            switch (i) {
-                case 0 -> builder.mondayAchieved(isAchieved);
-                case 1 -> builder.tuesdayAchieved(isAchieved);
-                case 2 -> builder.wednesdayAchieved(isAchieved);
-                case 3 -> builder.thursdayAchieved(isAchieved);
-                case 4 -> builder.fridayAchieved(isAchieved);
-                case 5 -> builder.saturdayAchieved(isAchieved);
-                case 6 -> builder.sundayAchieved(isAchieved);
-            }
-        }
+        LocalDate startOfWeek = LocalDate.now(clock).with(java.time.DayOfWeek.MONDAY);
+        LocalDate endOfWeek = startOfWeek.plusDays(6);
+
+        Map<LocalDate, DailyCompletionCount> countsByDate = lessonScheduleRepository
+            .countDailyCompletionByUserIdAndDateRange(userId, startOfWeek, endOfWeek)
+            .stream()
+            .collect(Collectors.toMap(DailyCompletionCount::getDate, count -> count));
 
-        return builder.build();
+        return buildWeeklyAchievementDto(
+            calculateDailyAchievements(startOfWeek, endOfWeek, countsByDate));
     }
 
     /**
@@ -74,29 +96,22 @@ public class LessonScheduleService {
      */
     private Map<DayOfWeek, Boolean> calculateDailyAchievements(
         LocalDate startOfWeek,
-        LocalDate today,
-        Map<LocalDate, List<LessonSchedule>> dailyScheduleMap) {
+        LocalDate endOfWeek,
+        Map<LocalDate, DailyCompletionCount> countsByDate) {
 
-        return Stream.iterate(startOfWeek, date -> !date.isAfter(today), date -> date.plusDays(1))
+        return Stream.iterate(startOfWeek, date -> !date.isAfter(endOfWeek), date -> date.plusDays(1))
             .collect(Collectors.toMap(
                 date -> convertToDayOfWeek(date.getDayOfWeek()),
-                date -> isDayCompleted(date, dailyScheduleMap)
+                date -> isDayCompleted(date, countsByDate)
             ));
     }
 
     /**
-     * 특정 날짜의 학습 완료 여부를 확인합니다.
+     * 특정 날짜의 학습 완료 여부를 확인합니다. (일정이 없으면 미완료)
      */
-    private boolean isDayCompleted(LocalDate date,
-        Map<LocalDate, List<LessonSchedule>> dailyScheduleMap) {
-        List<LessonSchedule> schedulesForDay = dailyScheduleMap.getOrDefault(date,
-            Collections.emptyList());
-
-        if (schedulesForDay.isEmpty()) {
-            return true; // 일정이 없으면 완료로 간주
-        }
-
-        return schedulesForDay.stream().allMatch(LessonSchedule::isCompleted);
+    private boolean isDayCompleted(LocalDate date, Map<LocalDate, DailyCompletionCount> countsByDate) {
+        DailyCompletionCount count = countsByDate.get(date);
+        return count != null && count.isAllCompleted();
     }
 
     /**
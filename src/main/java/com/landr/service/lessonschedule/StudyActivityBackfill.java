@@ -0,0 +1,38 @@
+package com.landr.service.lessonschedule;
+
+import com.landr.repository.studyactivity.StudyActivityRepository;
+import com.landr.service.scheduler.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 완료 기록으로 학습 활동(study_activities)을 채웁니다.
+ * scheduler_runs에 버전 키로 한 번만 기록되는 일회성 마이그레이션이며, 완료된 뒤의 시작에서는 실행되지 않습니다.
+ * 백필 전에 생긴 행과는 (사용자, 날짜)별로 큰 값을 남기므로, 트래픽을 받기 시작한 뒤에 실행되어도 기록이 빠지지 않습니다.
+ * 백필에 실패한 샤드는 애플리케이션 시작을 막지 않으며, 다음 시작 시 다시 시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyActivityBackfill {
+
+    // scheduler_runs에 기록되는 작업 이름과 버전 (백필 쿼리가 바뀌어 다시 실행해야 하면 버전을 올림)
+    static final String STUDY_ACTIVITY_BACKFILL_JOB = "study-activity-backfill";
+    static final String BACKFILL_VERSION = "v1";
+
+    private final StudyActivityRepository studyActivityRepository;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            schedulerLeaseService.runExclusively(STUDY_ACTIVITY_BACKFILL_JOB, BACKFILL_VERSION,
+                slice -> studyActivityRepository.backfill(slice.getCount(), slice.getIndex()));
+        } catch (Exception e) {
+            log.error("study_activities 백필 중 오류 발생", e);
+        }
+    }
+}
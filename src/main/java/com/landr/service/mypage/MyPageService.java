@@ -4,6 +4,7 @@ import com.landr.domain.user.User;
 import com.landr.service.mypage.dto.MyPage;
 import com.landr.service.mypage.dto.MyPageStatistics;
 import java.time.YearMonth;
+import java.util.List;
 
 public interface MyPageService {
 
@@ -16,4 +17,9 @@ public interface MyPageService {
      * 월별 과목별 공부 시간, 주간 공부 시간 통계 조회
      */
     MyPageStatistics getMonthlyStatistics(Long userId, YearMonth date);
+
+    /**
+     * 기간(최대 12개월) 내 월별 과목별 공부 시간, 주간 공부 시간 통계 조회
+     */
+    List<MyPageStatistics> getStatistics(Long userId, YearMonth from, YearMonth to);
 }
@@ -2,10 +2,16 @@ package com.landr.service.mypage;
 
 import com.landr.domain.lecture.Subject;
 import com.landr.domain.plan.Plan;
-import com.landr.domain.schedule.LessonSchedule;
+import com.landr.domain.plan.PlanProgress;
 import com.landr.domain.user.User;
-import com.landr.repository.lessonschedule.LessonScheduleRepository;
+import com.landr.exception.ApiException;
+import com.landr.exception.ExceptionType;
 import com.landr.repository.plan.PlanRepository;
+import com.landr.repository.planprogress.PlanProgressRepository;
+import com.landr.repository.statistics.StudyStatisticsQueryRepository;
+import com.landr.repository.statistics.StudyStatisticsRollupRepository;
+import com.landr.repository.statistics.dto.StudyTimeRow;
+import com.landr.repository.studyactivity.StudyActivityRepository;
 import com.landr.service.dto.CompletedPlanDto;
 import com.landr.service.dto.DailyScheduleWithLessonsDto;
 import com.landr.service.dto.LessonScheduleDto;
@@ -15,16 +21,19 @@ import com.landr.service.mypage.dto.SubjectAchievementDto;
 import com.landr.service.mypage.dto.SubjectTimeDto;
 import com.landr.service.mypage.dto.WeeklyTimeDto;
 import com.landr.service.schedule.ScheduleService;
+import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,9 +42,16 @@ import org.springframework.transaction.annotation.Transactional;
 @AllArgsConstructor
 public class MyPageServiceImpl implements MyPageService {
 
+    // 한 번에 조회할 수 있는 최대 개월 수 (연간 보기)
+    private static final int MAX_STATISTICS_MONTHS = 12;
+
     private final PlanRepository planRepository;
-    private final LessonScheduleRepository lessonScheduleRepository;
+    private final PlanProgressRepository planProgressRepository;
     private final ScheduleService scheduleService;
+    private final StudyStatisticsQueryRepository studyStatisticsQueryRepository;
+    private final StudyStatisticsRollupRepository studyStatisticsRollupRepository;
+    private final StudyActivityRepository studyActivityRepository;
+    private final Clock clock;
 
     @Override
     @Transactional(readOnly = true)
@@ -45,7 +61,7 @@ public class MyPageServiceImpl implements MyPageService {
             user.getId());
 
         // 오늘의 레슨 스케줄 정보 조회
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
         DailyScheduleWithLessonsDto todayScheduleDto = scheduleService.getUserDailySchedules(
             user.getId(), today);
 
@@ -59,16 +75,18 @@ public class MyPageServiceImpl implements MyPageService {
                 .count();
         }
 
-        // 사용자가 완료한 계획 리스트
+        // 계획별 전체/완료 수업 수는 진행 현황 집계에서 한 번에 조회
+        Map<Long, PlanProgress> progressByPlanId = planProgressRepository.findAllById(
+                userplanList.stream().map(Plan::getId).toList())
+            .stream()
+            .collect(Collectors.toMap(PlanProgress::getPlanId, progress -> progress));
+
+        // 사용자가 완료한 계획 리스트 (수업 일정이 있고 모두 완료한 계획)
         List<CompletedPlanDto> completedPlans = userplanList.stream()
             .filter(plan -> {
-                // 해당 Plan의 모든 LessonSchedule 조회
-                List<LessonSchedule> lessonSchedules = lessonScheduleRepository.findByPlanIdAndUserId(
-                    user.getId(), plan.getId());
-
-                // LessonSchedule이 없거나, 모든 LessonSchedule이 completed인 경우만 필터링
-                return !lessonSchedules.isEmpty() &&
-                    lessonSchedules.stream().allMatch(LessonSchedule::isCompleted);
+                PlanProgress progress = progressByPlanId.get(plan.getId());
+                return progress != null && progress.getTotalLessons() > 0
+                    && progress.getCompletedLessons() >= progress.getTotalLessons();
             })
             .map(plan -> CompletedPlanDto.builder()
                 .planId(plan.getId())
@@ -89,26 +107,67 @@ public class MyPageServiceImpl implements MyPageService {
             .studyStreak(calculateStudyStreak(user.getId()))
             .inProgressLectureCount(inProgressLectureCount)
             .completedPlanList(completedPlans)
-            .subjectAchievementList(calculateSubjectAchievements(user.getId(), userplanList))
+            .subjectAchievementList(calculateSubjectAchievements(userplanList, progressByPlanId))
             .build();
     }
 
     @Override
     @Transactional(readOnly = true)
     public MyPageStatistics getMonthlyStatistics(Long userId, YearMonth date) {
-        LocalDate startDate = date.atDay(1);
-        LocalDate endDate = date.atEndOfMonth();
+        return getStatistics(userId, date, date).get(0);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MyPageStatistics> getStatistics(Long userId, YearMonth from, YearMonth to) {
+        if (from.isAfter(to) || from.plusMonths(MAX_STATISTICS_MONTHS - 1).isBefore(to)) {
+            throw new ApiException(ExceptionType.BAD_REQUEST);
+        }
+
+        // 지난 달은 집계 테이블에서 읽고, 이번 달과 아직 집계되지 않은 달만 원본에서 합산
+        YearMonth currentMonth = YearMonth.now(clock);
+        Map<YearMonth, List<StudyTimeRow>> rowsByMonth = new HashMap<>();
+        if (from.isBefore(currentMonth)) {
+            YearMonth lastClosedMonth = to.isBefore(currentMonth) ? to : currentMonth.minusMonths(1);
+            groupByMonth(studyStatisticsRollupRepository.findRows(userId, from, lastClosedMonth),
+                rowsByMonth);
+        }
+
+        List<YearMonth> liveMonths = Stream.iterate(from, month -> !month.isAfter(to),
+                month -> month.plusMonths(1))
+            .filter(month -> !rowsByMonth.containsKey(month))
+            .toList();
+        if (!liveMonths.isEmpty()) {
+            YearMonth liveFrom = liveMonths.get(0);
+            YearMonth liveTo = liveMonths.get(liveMonths.size() - 1);
+            List<StudyTimeRow> liveRows = studyStatisticsQueryRepository
+                .findWeeklySubjectMinutes(userId, liveFrom.atDay(1), liveTo.atEndOfMonth())
+                .stream()
+                .filter(row -> !rowsByMonth.containsKey(YearMonth.from(row.getWeekStart())))
+                .toList();
+            groupByMonth(liveRows, rowsByMonth);
+        }
 
-        // 해당 월의 완료된 lessonSchedule 조회
-        List<LessonSchedule> completedLessonScheduleList = lessonScheduleRepository.findCompletedLessonSchedulesInMonth(
-            userId, startDate, endDate);
+        return Stream.iterate(from, month -> !month.isAfter(to), month -> month.plusMonths(1))
+            .map(month -> toStatistics(month, rowsByMonth.getOrDefault(month, List.of())))
+            .toList();
+    }
+
+    private void groupByMonth(List<StudyTimeRow> rows,
+        Map<YearMonth, List<StudyTimeRow>> rowsByMonth) {
+        rows.forEach(row -> rowsByMonth
+            .computeIfAbsent(YearMonth.from(row.getWeekStart()), month -> new ArrayList<>())
+            .add(row));
+    }
 
+    /**
+     * 한 달치 집계 행으로 과목별, 주차별 공부 시간 통계를 만듭니다.
+     */
+    private MyPageStatistics toStatistics(YearMonth date, List<StudyTimeRow> rows) {
         // 과목별 공부 시간 계산
-        Map<Subject, Long> subjectTimeMap = completedLessonScheduleList.stream()
-            .collect(Collectors.groupingBy(
-                lessonSchedule -> lessonSchedule.getLesson().getLecture().getSubject(),
-                Collectors.summingLong(LessonSchedule::getAdjustedDuration)
-            ));
+        Map<Subject, Long> subjectTimeMap = rows.stream()
+            .collect(Collectors.groupingBy(StudyTimeRow::getSubject,
+                Collectors.summingLong(StudyTimeRow::getTotalMinutes)));
 
         // 총 공부 시간 계산
         long totalMinutes = subjectTimeMap.values().stream().mapToLong(Long::longValue).sum();
@@ -125,10 +184,10 @@ public class MyPageServiceImpl implements MyPageService {
 
         // 주차별 공부 시간 계산 (월요일이 한 주의 시작)
         WeekFields weekFields = WeekFields.of(DayOfWeek.MONDAY, 1);
-        Map<Integer, Long> weeklyTimeMap = completedLessonScheduleList.stream()
+        Map<Integer, Long> weeklyTimeMap = rows.stream()
             .collect(Collectors.groupingBy(
-                ls -> ls.getDailySchedule().getDate().get(weekFields.weekOfMonth()),
-                Collectors.summingLong(LessonSchedule::getAdjustedDuration)
+                row -> row.getWeekStart().get(weekFields.weekOfMonth()),
+                Collectors.summingLong(StudyTimeRow::getTotalMinutes)
             ));
 
         // 해당 월의 모든 주차에 대한 통계 생성 (0분인 주차도 포함)
@@ -150,31 +209,21 @@ public class MyPageServiceImpl implements MyPageService {
 
     /**
      * 연속 학습일 계산
+     * 최근 1년간 학습한 날짜를 한 번에 조회한 뒤 비트맵으로 연속 일수를 셉니다.
      */
     private int calculateStudyStreak(Long userId) {
-        LocalDate today = LocalDate.now();
-
-        // 오늘로부터 최대 365일 전까지만 확인 (1년)
-        return (int) IntStream.rangeClosed(0, 365)
-            .takeWhile(day -> {
-                // 체크할 날짜 계산
-                LocalDate checkDate = today.minusDays(day);
-
-                // 해당 날짜의 시작과 끝 시간 계산
-                LocalDateTime startOfDay = checkDate.atStartOfDay();
-                LocalDateTime endOfDay = checkDate.plusDays(1).atStartOfDay().minusNanos(1);
+        int today = (int) LocalDate.now(clock).toEpochDay();
+        List<Integer> activeEpochDays = studyActivityRepository.findActiveEpochDays(
+            userId, today - (StudyStreak.MAX_DAYS - 1), today);
 
-                // 해당 날짜에 completed=true로 변경된 LessonSchedule이 있는지 확인
-                // 여기서는 Repository에 새로운 메서드를 추가해야 함
-                return lessonScheduleRepository.existsCompletedLessonOnDate(userId, startOfDay, endOfDay);
-            })
-            .count();  // takeWhile 조건을 만족하는 날의 수를 계산
+        return StudyStreak.count(today, activeEpochDays);
     }
 
     /**
      * 과목별 성취율 계산
      */
-    private List<SubjectAchievementDto> calculateSubjectAchievements(Long userId, List<Plan> plans) {
+    private List<SubjectAchievementDto> calculateSubjectAchievements(List<Plan> plans,
+        Map<Long, PlanProgress> progressByPlanId) {
         // 1. Plan을 과목별로 그룹화
         return plans.stream()
             .collect(Collectors.groupingBy(plan -> plan.getLecture().getSubject()))
@@ -196,23 +245,18 @@ public class MyPageServiceImpl implements MyPageService {
                     .max(LocalDate::compareTo)
                     .orElse(null);
 
-                // 3. 해당 과목의 모든 Plan ID 목록 추출
-                List<Long> planIds = subjectPlans.stream()
-                    .map(Plan::getId)
-                    .toList();
-
-                // 4. 해당 과목의 모든 LessonSchedule 조회
-                List<LessonSchedule> allLessonSchedules = planIds.stream()
-                    .flatMap(planId -> lessonScheduleRepository.findByPlanIdAndUserId(userId, planId).stream())
-                    .toList();
-
-                // 5. 총 강의 수와 완료한 강의 수 계산
-                int totalLessons = allLessonSchedules.size();
-                int completedLessons = (int) allLessonSchedules.stream()
-                    .filter(LessonSchedule::isCompleted)
-                    .count();
+                // 3. 해당 과목 계획들의 총 강의 수와 완료한 강의 수 합산
+                int totalLessons = 0;
+                int completedLessons = 0;
+                for (Plan plan : subjectPlans) {
+                    PlanProgress progress = progressByPlanId.get(plan.getId());
+                    if (progress != null) {
+                        totalLessons += progress.getTotalLessons();
+                        completedLessons += progress.getCompletedLessons();
+                    }
+                }
 
-                // 6. SubjectAchievementDto 생성
+                // 4. SubjectAchievementDto 생성
                 return SubjectAchievementDto.builder()
                     .subject(subject)
                     .startDate(startDate)
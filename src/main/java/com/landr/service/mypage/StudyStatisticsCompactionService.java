@@ -0,0 +1,62 @@
+package com.landr.service.mypage;
+
+import com.landr.repository.statistics.StudyStatisticsRollupRepository;
+import com.landr.service.scheduler.SchedulerLeaseService;
+import com.landr.service.scheduler.SchedulerLeaseService.ShardTask;
+import java.time.Clock;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyStatisticsCompactionService {
+
+    // scheduler_runs에 기록되는 작업 이름
+    static final String STUDY_STATISTICS_ROLLUP_JOB = "study-statistics-rollup";
+
+    private final StudyStatisticsRollupRepository studyStatisticsRollupRepository;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final Clock clock;
+
+    /**
+     * 매일 오전 4시에 지난 달까지의 공부 기록 통계 중 아직 집계되지 않은 (사용자, 월)을 집계
+     * 이미 집계된 월은 건드리지 않으므로, 새 달의 첫 실행에서 지난 달이 집계되고 이후에는 거의 비용이 들지 않습니다.
+     */
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void sealClosedMonths() {
+        log.info("공부 기록 통계 집계 스케줄링 시작");
+
+        try {
+            LocalDate today = LocalDate.now(clock);
+            schedulerLeaseService.runExclusively(STUDY_STATISTICS_ROLLUP_JOB, today.toString(),
+                sealTask(today));
+        } catch (Exception e) {
+            log.error("공부 기록 통계 집계 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 오늘 회차 중 실패한 샤드를 retry-interval마다 다시 집계
+     */
+    @Scheduled(fixedDelayString = "${scheduler.retry-interval:PT10M}",
+        initialDelayString = "${scheduler.retry-interval:PT10M}")
+    public void retryFailedShards() {
+        try {
+            LocalDate today = LocalDate.now(clock);
+            schedulerLeaseService.retryIncomplete(STUDY_STATISTICS_ROLLUP_JOB, today.toString(),
+                sealTask(today));
+        } catch (Exception e) {
+            log.error("실패한 공부 기록 통계 집계 샤드 재시도 중 오류 발생", e);
+        }
+    }
+
+    private ShardTask sealTask(LocalDate today) {
+        LocalDate currentMonthStart = today.withDayOfMonth(1);
+        return slice -> studyStatisticsRollupRepository.sealMissing(currentMonthStart,
+            slice.getCount(), slice.getIndex());
+    }
+}
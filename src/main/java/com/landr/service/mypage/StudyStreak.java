@@ -0,0 +1,43 @@
+package com.landr.service.mypage;
+
+import java.util.Collection;
+
+/**
+ * 학습 활동 날짜로 연속 학습일을 계산합니다.
+ * 오늘부터 과거로 하루씩 비트를 세운 비트맵을 만들고, 하위 비트부터 연속된 1의 개수를 셉니다.
+ */
+final class StudyStreak {
+
+    // 오늘 포함 최대 366일 (기존 0~365일 확인과 동일)
+    static final int MAX_DAYS = 366;
+
+    private static final int WORDS = (MAX_DAYS + Long.SIZE - 1) / Long.SIZE;
+
+    private StudyStreak() {
+    }
+
+    /**
+     * @param todayEpochDay 오늘의 epoch day
+     * @param activeEpochDays 완료한 수업이 있는 날짜의 epoch day 목록 (순서 무관)
+     * @return 오늘부터 거슬러 올라가며 학습이 이어진 일 수
+     */
+    static int count(int todayEpochDay, Collection<Integer> activeEpochDays) {
+        long[] bitmap = new long[WORDS];
+        for (int epochDay : activeEpochDays) {
+            int offset = todayEpochDay - epochDay;
+            if (offset >= 0 && offset < MAX_DAYS) {
+                bitmap[offset >>> 6] |= 1L << offset;
+            }
+        }
+
+        int streak = 0;
+        for (long word : bitmap) {
+            int run = Long.numberOfTrailingZeros(~word);
+            streak += run;
+            if (run < Long.SIZE) {
+                break;
+            }
+        }
+        return streak;
+    }
+}
@@ -0,0 +1,41 @@
+package com.landr.service.notification;
+
+import com.landr.repository.userdevice.UserDeviceRepository;
+import com.landr.repository.userdevice.dto.LatestDeviceToken;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 사용자의 가장 최신 FCM 토큰을 묶음 단위로 조회합니다.
+ * 알림 대상마다 findLatestByUserId를 호출하지 않도록 사용자 ID를 모아 윈도우 쿼리 한 번으로 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeviceTokenResolver {
+
+    // IN 절에 넣을 최대 사용자 수
+    static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final UserDeviceRepository userDeviceRepository;
+
+    /**
+     * @return 사용자 ID별 최신 FCM 토큰 (토큰이 없는 사용자는 포함되지 않음)
+     */
+    public Map<Long, String> resolveLatestTokens(Collection<Long> userIds) {
+        List<Long> distinctUserIds = userIds.stream().distinct().toList();
+
+        Map<Long, String> tokensByUserId = new HashMap<>();
+        for (int from = 0; from < distinctUserIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = distinctUserIds.subList(from,
+                Math.min(from + LOOKUP_CHUNK_SIZE, distinctUserIds.size()));
+            for (LatestDeviceToken token : userDeviceRepository.findLatestTokensByUserIds(chunk)) {
+                tokensByUserId.put(token.getUserId(), token.getDeviceIdentifier());
+            }
+        }
+        return tokensByUserId;
+    }
+}
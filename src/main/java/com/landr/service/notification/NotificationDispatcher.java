@@ -0,0 +1,115 @@
+package com.landr.service.notification;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import com.landr.service.notification.dto.DispatchResult;
+import com.landr.service.notification.dto.PushNotification;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * 여러 사용자에게 보낼 알림을 FCM sendEach 배치로 묶어 병렬 전송합니다.
+ * FCM 토큰은 DeviceTokenResolver로 한 번에 조회하고, 배치 전송은 크기가 제한된 전용 스레드 풀에서 실행합니다.
+ */
+@Slf4j
+@Service
+public class NotificationDispatcher {
+
+    // FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수
+    static final int FCM_BATCH_SIZE = 500;
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final DeviceTokenResolver deviceTokenResolver;
+    private final Executor fcmDispatchExecutor;
+
+    public NotificationDispatcher(
+        FirebaseMessaging firebaseMessaging,
+        DeviceTokenResolver deviceTokenResolver,
+        @Qualifier("fcmDispatchExecutor") Executor fcmDispatchExecutor
+    ) {
+        this.firebaseMessaging = firebaseMessaging;
+        this.deviceTokenResolver = deviceTokenResolver;
+        this.fcmDispatchExecutor = fcmDispatchExecutor;
+    }
+
+    /**
+     * 알림 목록을 각 사용자의 가장 최신 FCM 토큰으로 전송하고 결과를 집계합니다.
+     */
+    public DispatchResult dispatch(List<PushNotification> notifications) {
+        long startedAt = System.currentTimeMillis();
+
+        Map<Long, String> tokensByUserId = deviceTokenResolver.resolveLatestTokens(
+            notifications.stream().map(PushNotification::getUserId).toList());
+
+        List<Message> messages = new ArrayList<>(notifications.size());
+        for (PushNotification notification : notifications) {
+            String token = tokensByUserId.get(notification.getUserId());
+            if (token == null) {
+                log.warn("사용자 {}의 FCM 토큰을 찾을 수 없습니다.", notification.getUserId());
+                continue;
+            }
+            messages.add(toMessage(token, notification));
+        }
+
+        List<CompletableFuture<int[]>> futures = new ArrayList<>();
+        for (int from = 0; from < messages.size(); from += FCM_BATCH_SIZE) {
+            List<Message> batch = messages.subList(from,
+                Math.min(from + FCM_BATCH_SIZE, messages.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> sendBatch(batch), fcmDispatchExecutor));
+        }
+
+        int succeeded = 0;
+        int failed = 0;
+        for (CompletableFuture<int[]> future : futures) {
+            int[] counts = future.join();
+            succeeded += counts[0];
+            failed += counts[1];
+        }
+
+        DispatchResult result = new DispatchResult(notifications.size(),
+            notifications.size() - messages.size(), succeeded, failed, futures.size(),
+            System.currentTimeMillis() - startedAt);
+        log.info("알림 일괄 전송 완료: 요청 {}건, 토큰 없음 {}건, 성공 {}건, 실패 {}건, 배치 {}개, {}ms ({}건/초)",
+            result.getRequested(), result.getMissingToken(), result.getSucceeded(),
+            result.getFailed(), result.getBatches(), result.getElapsedMillis(),
+            String.format("%.1f", result.throughputPerSecond()));
+        return result;
+    }
+
+    /**
+     * 배치 하나를 sendEach로 전송합니다. 호출 자체가 실패하면 배치 전체를 실패로 집계합니다.
+     *
+     * @return {성공 수, 실패 수}
+     */
+    private int[] sendBatch(List<Message> batch) {
+        try {
+            BatchResponse response = firebaseMessaging.sendEach(batch);
+            if (response.getFailureCount() > 0) {
+                log.warn("FCM 배치 전송 일부 실패: 성공 {}건, 실패 {}건",
+                    response.getSuccessCount(), response.getFailureCount());
+            }
+            return new int[]{response.getSuccessCount(), response.getFailureCount()};
+        } catch (Exception e) {
+            log.error("FCM 배치 전송 실패: {}건", batch.size(), e);
+            return new int[]{0, batch.size()};
+        }
+    }
+
+    private Message toMessage(String fcmToken, PushNotification notification) {
+        return Message.builder()
+            .setToken(fcmToken)
+            .setNotification(Notification.builder()
+                .setTitle(notification.getTitle())
+                .setBody(notification.getBody())
+                .build())
+            .build();
+    }
+}
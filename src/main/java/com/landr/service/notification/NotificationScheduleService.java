@@ -1,16 +1,17 @@
 package com.landr.service.notification;
 
-import com.landr.domain.dday.DDay;
-import com.landr.domain.schedule.LessonSchedule;
 import com.landr.repository.dday.DDayRepository;
-import com.landr.repository.lessonschedule.LessonScheduleRepository;
+import com.landr.repository.dday.dto.DueDDay;
+import com.landr.service.notification.dto.PushNotification;
+import com.landr.service.scheduler.SchedulerLeaseService;
+import com.landr.service.scheduler.dto.ShardSlice;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -19,8 +20,19 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class NotificationScheduleService {
 
-    private final FcmService fcmService;
-    private final LessonScheduleRepository lessonScheduleRepository;
+    // D-Day 알림을 보내는 남은 일수
+    private static final List<Long> D_DAY_NOTIFICATION_OFFSETS = List.of(28L, 14L, 7L, 3L, 1L, 0L);
+
+    // 한 번에 읽어 전송하는 D-Day 수 (FCM 한 배치 크기)
+    private static final int D_DAY_PAGE_SIZE = NotificationDispatcher.FCM_BATCH_SIZE;
+
+    // scheduler_runs에 기록되는 작업 이름
+    static final String INCOMPLETE_LESSON_JOB = "incomplete-lesson-notification";
+    static final String D_DAY_JOB = "dday-notification";
+
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final NotificationTargetReader notificationTargetReader;
     private final DDayRepository dDayRepository;
 
     /**
@@ -32,40 +44,29 @@ public class NotificationScheduleService {
 
         try {
             LocalDate today = LocalDate.now();
-
-            // 오늘의 모든 레슨 스케줄을 사용자별로 그룹화하여 조회
-            List<LessonSchedule> todayLessonSchedules = lessonScheduleRepository.findTodayLessonSchedules(
-                today);
-
-            // 사용자별로 그룹화
-            Map<Long, List<LessonSchedule>> userLessonMap = todayLessonSchedules.stream()
-                .collect(
-                    Collectors.groupingBy(ls -> ls.getDailySchedule().getPlan().getUser().getId()));
-
-            // 각 사용자별로 미완료 강의 개수 확인 및 알림 전송
-            userLessonMap.forEach((userId, lessonSchedules) -> {
-                long incompleteCount = lessonSchedules.stream()
-                    .filter(ls -> !ls.isCompleted())
-                    .count();
-
-                if (incompleteCount > 0) {
-                    String title = "🎯 오늘 강의 확인";
-                    String body = String.format("오늘 아직 안 들은 강의 %d개가 있어요! 목표 달성까지 조금만 더 힘내세요 💪", incompleteCount);
-
-                    boolean success = fcmService.sendNotificationToUser(userId, title, body);
-                    if (success) {
-                        log.info("사용자 {}에게 미완료 강의 알림 전송 완료: {}개", userId, incompleteCount);
-                    } else {
-                        log.warn("사용자 {}에게 미완료 강의 알림 전송 실패", userId);
-                    }
-                }
-            });
-
+            schedulerLeaseService.runExclusively(INCOMPLETE_LESSON_JOB, today.toString(),
+                slice -> sendIncompleteLessonNotification(today, slice));
         } catch (Exception e) {
             log.error("미완료 강의 알림 전송 중 오류 발생", e);
         }
     }
 
+    private int sendIncompleteLessonNotification(LocalDate today, ShardSlice slice) {
+        // 미완료 수업 수를 SQL에서 사용자별로 집계해 한 행씩 읽고, 알림을 모아 일괄 전송
+        List<PushNotification> notifications = new ArrayList<>();
+        notificationTargetReader.forEachIncompleteLessonCount(today, slice, count -> {
+            String title = "🎯 오늘 강의 확인";
+            String body = String.format("오늘 아직 안 들은 강의 %d개가 있어요! 목표 달성까지 조금만 더 힘내세요 💪",
+                count.getIncompleteCount());
+            notifications.add(new PushNotification(count.getUserId(), title, body));
+        });
+
+        if (!notifications.isEmpty()) {
+            notificationDispatcher.dispatch(notifications);
+        }
+        return notifications.size();
+    }
+
     /**
      * 매일 오전 9시에 D-Day 알림 전송
      */
@@ -75,48 +76,73 @@ public class NotificationScheduleService {
 
         try {
             LocalDate today = LocalDate.now();
-            List<DDay> allDDays = dDayRepository.findAll();
-
-            for (DDay dDay : allDDays) {
-                LocalDate goalDate = dDay.getGoalDate();
-                Long userId = dDay.getUser().getId();
-
-                // 목표 날짜가 오늘 이후인 경우만 처리
-                if (goalDate.isAfter(today) || goalDate.isEqual(today)) {
-                    long daysUntilGoal = ChronoUnit.DAYS.between(today, goalDate);
-
-                    // 특정 날짜에만 알림 전송 (28일, 14일, 7일, 3일, 1일 전)
-                    if (shouldSendDDayNotification(daysUntilGoal)) {
-                        String title = "📅 D-Day 알림";
-                        String body;
-
-                        if (daysUntilGoal == 0) {
-                            body = String.format("오늘이 %s 당일입니다!", dDay.getTitle());
-                        } else {
-                            body = String.format("%s까지 %d일 남았어요", dDay.getTitle(), daysUntilGoal);
-                        }
-
-                        boolean success = fcmService.sendNotificationToUser(userId, title, body);
-                        if (success) {
-                            log.info("사용자 {}에게 D-Day 알림 전송 완료: {} ({}일 전)",
-                                userId, dDay.getTitle(), daysUntilGoal);
-                        } else {
-                            log.warn("사용자 {}에게 D-Day 알림 전송 실패", userId);
-                        }
-                    }
-                }
-            }
-
+            schedulerLeaseService.runExclusively(D_DAY_JOB, today.toString(),
+                slice -> sendDDayNotification(today, slice));
         } catch (Exception e) {
             log.error("D-Day 알림 전송 중 오류 발생", e);
         }
     }
 
     /**
-     * D-Day 알림을 보낼지 결정하는 메서드 28일, 14일, 7일, 3일, 1일, 0일 전에만 알림 전송
+     * 오늘 회차 중 실패한 샤드를 retry-interval마다 다시 전송
+     * 실패한 샤드 안에서 이미 전송된 알림은 다시 전송될 수 있습니다.
      */
-    private boolean shouldSendDDayNotification(long daysUntilGoal) {
-        return daysUntilGoal == 28 || daysUntilGoal == 14 || daysUntilGoal == 7 ||
-            daysUntilGoal == 3 || daysUntilGoal == 1 || daysUntilGoal == 0;
+    @Scheduled(fixedDelayString = "${scheduler.retry-interval:PT10M}",
+        initialDelayString = "${scheduler.retry-interval:PT10M}")
+    public void retryFailedShards() {
+        try {
+            LocalDate today = LocalDate.now();
+            schedulerLeaseService.retryIncomplete(INCOMPLETE_LESSON_JOB, today.toString(),
+                slice -> sendIncompleteLessonNotification(today, slice));
+            schedulerLeaseService.retryIncomplete(D_DAY_JOB, today.toString(),
+                slice -> sendDDayNotification(today, slice));
+        } catch (Exception e) {
+            log.error("실패한 알림 샤드 재시도 중 오류 발생", e);
+        }
+    }
+
+    private int sendDDayNotification(LocalDate today, ShardSlice slice) {
+        // 알림을 보낼 목표 날짜 (28일, 14일, 7일, 3일, 1일, 0일 후)
+        List<LocalDate> goalDates = D_DAY_NOTIFICATION_OFFSETS.stream()
+            .map(today::plusDays)
+            .toList();
+
+        // 해당 날짜의 D-Day만 페이지 단위로 읽어 페이지마다 일괄 전송
+        int sent = 0;
+        long lastId = 0L;
+        while (true) {
+            List<DueDDay> dueDDays = dDayRepository.findDueDDaysAfter(goalDates,
+                slice.getCount(), slice.getIndex(), lastId, PageRequest.of(0, D_DAY_PAGE_SIZE));
+            if (dueDDays.isEmpty()) {
+                break;
+            }
+
+            List<PushNotification> notifications = new ArrayList<>(dueDDays.size());
+            for (DueDDay dDay : dueDDays) {
+                notifications.add(toDDayNotification(dDay, today));
+            }
+            notificationDispatcher.dispatch(notifications);
+            sent += notifications.size();
+
+            if (dueDDays.size() < D_DAY_PAGE_SIZE) {
+                break;
+            }
+            lastId = dueDDays.get(dueDDays.size() - 1).getId();
+        }
+        return sent;
+    }
+
+    private PushNotification toDDayNotification(DueDDay dDay, LocalDate today) {
+        long daysUntilGoal = ChronoUnit.DAYS.between(today, dDay.getGoalDate());
+
+        String title = "📅 D-Day 알림";
+        String body;
+        if (daysUntilGoal == 0) {
+            body = String.format("오늘이 %s 당일입니다!", dDay.getTitle());
+        } else {
+            body = String.format("%s까지 %d일 남았어요", dDay.getTitle(), daysUntilGoal);
+        }
+
+        return new PushNotification(dDay.getUserId(), title, body);
     }
-}
\ No newline at end of file
+}
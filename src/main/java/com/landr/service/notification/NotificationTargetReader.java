@@ -0,0 +1,35 @@
+package com.landr.service.notification;
+
+import com.landr.repository.lessonschedule.LessonScheduleRepository;
+import com.landr.repository.lessonschedule.dto.IncompleteLessonCount;
+import com.landr.service.scheduler.dto.ShardSlice;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 스케줄 알림의 대상자를 커서로 읽어 전달합니다.
+ * 스트리밍 조회는 트랜잭션 안에서만 열 수 있으므로, FCM 전송과 분리해 읽기 전용 트랜잭션을 짧게 유지합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationTargetReader {
+
+    private final LessonScheduleRepository lessonScheduleRepository;
+
+    /**
+     * 해당 날짜에 미완료 수업이 있는 사용자별 집계 중 샤드에 속한 사용자만 한 행씩 전달합니다.
+     */
+    @Transactional(readOnly = true)
+    public void forEachIncompleteLessonCount(LocalDate date, ShardSlice slice,
+        Consumer<IncompleteLessonCount> consumer) {
+        try (Stream<IncompleteLessonCount> counts =
+            lessonScheduleRepository.streamIncompleteLessonCountsByDate(date, slice.getCount(),
+                slice.getIndex())) {
+            counts.forEach(consumer);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.landr.service.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 알림 일괄 전송 결과
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class DispatchResult {
+
+    // 전송 요청한 알림 수
+    private int requested;
+    // FCM 토큰이 없어 보내지 못한 알림 수
+    private int missingToken;
+    private int succeeded;
+    private int failed;
+    // sendEach 호출 수
+    private int batches;
+    private long elapsedMillis;
+
+    public double throughputPerSecond() {
+        return elapsedMillis > 0 ? (succeeded + failed) * 1000.0 / elapsedMillis : 0.0;
+    }
+}
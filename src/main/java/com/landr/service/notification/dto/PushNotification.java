@@ -0,0 +1,16 @@
+package com.landr.service.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 한 명에게 보낼 푸시 알림
+ */
+@Getter
+@AllArgsConstructor
+public class PushNotification {
+
+    private Long userId;
+    private String title;
+    private String body;
+}
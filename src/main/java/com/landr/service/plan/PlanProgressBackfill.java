@@ -0,0 +1,34 @@
+package com.landr.service.plan;
+
+import com.landr.repository.planprogress.PlanProgressRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 진행 현황(plan_progress)이 없는 기존 계획의 진행 현황을 채웁니다.
+ * 이미 진행 현황이 있는 계획은 건드리지 않으므로 여러 번, 여러 노드에서 동시에 실행해도 안전합니다.
+ * 백필에 실패해도 애플리케이션 시작은 막지 않으며, 다음 시작 시 다시 시도합니다.
+ * 백필 이후 증감에서 빠진 변경은 {@link PlanProgressReconciler}가 바로잡습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanProgressBackfill {
+
+    private final PlanProgressRepository planProgressRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int inserted = planProgressRepository.backfillMissing();
+            if (inserted > 0) {
+                log.info("plan_progress 백필 완료: {}개 계획", inserted);
+            }
+        } catch (Exception e) {
+            log.error("plan_progress 백필 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.landr.service.plan;
+
+import com.landr.repository.planprogress.PlanProgressRepository;
+import com.landr.service.scheduler.SchedulerLeaseService;
+import com.landr.service.scheduler.dto.ShardSlice;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 현황(plan_progress)을 lesson_schedules에서 주기적으로 다시 집계합니다.
+ * 진행 현황은 수업 체크 시 증감으로만 갱신되므로, 진행 현황을 모르는 노드(배포 중인 이전 버전 등)가 처리한 체크나
+ * 그런 노드가 만든 계획은 증감에서 빠집니다. lookback 안에 수업 완료 여부가 바뀌었거나 생성된 계획을 다시 집계해 이를 바로잡습니다.
+ */
+@Slf4j
+@Component
+public class PlanProgressReconciler {
+
+    // scheduler_runs에 기록되는 작업 이름
+    static final String PLAN_PROGRESS_RECONCILE_JOB = "plan-progress-reconcile";
+
+    private final PlanProgressRepository planProgressRepository;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final Clock clock;
+    private final Duration lookback;
+
+    public PlanProgressReconciler(
+        PlanProgressRepository planProgressRepository,
+        SchedulerLeaseService schedulerLeaseService,
+        Clock clock,
+        @Value("${plan-progress.reconcile-lookback:PT30M}") Duration lookback
+    ) {
+        this.planProgressRepository = planProgressRepository;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.clock = clock;
+        this.lookback = lookback;
+    }
+
+    /**
+     * 10분마다 lookback 안에 바뀐 계획의 진행 현황을 다시 집계
+     * 실행 주기보다 lookback을 길게 두어, 한 회차를 놓쳐도 다음 회차에서 같은 변경을 다시 집계합니다.
+     */
+    @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul")
+    public void reconcile() {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES);
+            LocalDateTime since = now.minus(lookback);
+            schedulerLeaseService.runExclusively(PLAN_PROGRESS_RECONCILE_JOB, now.toString(),
+                slice -> reconcile(since, slice));
+        } catch (Exception e) {
+            log.error("plan_progress 재집계 중 오류 발생", e);
+        }
+    }
+
+    private int reconcile(LocalDateTime since, ShardSlice slice) {
+        List<Long> planIds = planProgressRepository.findPlanIdsToReconcile(since,
+            slice.getCount(), slice.getIndex());
+        planIds.forEach(planProgressRepository::recalculate);
+        return planIds.size();
+    }
+}
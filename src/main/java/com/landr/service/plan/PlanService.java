@@ -6,7 +6,9 @@ import com.landr.controller.plan.dto.UpdatePlanRequest;
 import com.landr.domain.lecture.Lecture;
 import com.landr.domain.lecture.Lesson;
 import com.landr.domain.plan.Plan;
+import com.landr.domain.plan.PlanProgress;
 import com.landr.domain.plan.PlanType;
+import com.landr.domain.plan.ScheduleStatus;
 import com.landr.domain.schedule.DailySchedule;
 import com.landr.domain.schedule.LessonSchedule;
 import com.landr.domain.user.User;
@@ -14,22 +16,40 @@ import com.landr.exception.ApiException;
 import com.landr.exception.ExceptionType;
 import com.landr.repository.dailyschedule.DailyScheduleRepository;
 import com.landr.repository.lecture.LectureRepository;
+import com.landr.repository.lecture.dto.CatalogLecture;
+import com.landr.repository.lecture.dto.CatalogLesson;
+import com.landr.repository.lecture.dto.CatalogLessonRange;
 import com.landr.repository.lesson.LessonRepository;
 import com.landr.repository.lessonschedule.LessonScheduleRepository;
 import com.landr.repository.plan.PlanRepository;
+import com.landr.repository.planprogress.PlanProgressRepository;
+import com.landr.repository.schedule.ScheduleBulkRepository;
+import com.landr.repository.statistics.StudyStatisticsRollupRepository;
 import com.landr.repository.studygroup.StudyGroupMemberRepository;
 import com.landr.service.dto.DailyScheduleDto;
+import com.landr.service.dto.DailySchedulePreviewDto;
 import com.landr.service.dto.LessonScheduleDto;
 import com.landr.service.dto.PlanDetailResponse;
+import com.landr.service.dto.PlanPreviewResponse;
 import com.landr.service.dto.PlanSummaryDto;
+import com.landr.service.dto.ScheduleStatusResponse;
+import com.landr.service.lecture.LectureCatalogService;
+import com.landr.service.schedule.ScheduleGenerationRequestedEvent;
 import com.landr.service.schedule.ScheduleGeneratorService;
+import com.landr.service.schedule.ScheduleGeneratorService.ScheduleGenerationResult;
+import jakarta.persistence.EntityManager;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +65,13 @@ public class PlanService {
     private final DailyScheduleRepository dailyScheduleRepository;
     private final ScheduleGeneratorService scheduleGeneratorService;
     private final StudyGroupMemberRepository studyGroupMemberRepository;
+    private final ScheduleBulkRepository scheduleBulkRepository;
+    private final PlanProgressRepository planProgressRepository;
+    private final StudyStatisticsRollupRepository studyStatisticsRollupRepository;
+    private final LectureCatalogService lectureCatalogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final Clock clock;
 
 
     @Transactional
@@ -60,18 +87,153 @@ public class PlanService {
 
     @Transactional
     public Plan createPlan(CreatePlanRequest req, User user) {
-        Lecture lecture = lectureRepository.findById(req.getLectureId())
-            .orElseThrow(() -> new ApiException(ExceptionType.LECTURE_NOT_FOUND));
+        Plan savedPlan = planRepository.save(buildPlan(req, user));
 
-        Lesson startLesson = lessonRepository.findById(req.getStartLessonId())
-            .orElseThrow(() -> new ApiException(ExceptionType.LESSON_NOT_FOUND));
+        scheduleGeneratorService.generateSchedules(savedPlan);
+        return savedPlan;
+    }
+
+    /**
+     * Plan만 먼저 저장(PENDING)하고, 스케줄 생성은 커밋 이후 워커 스레드 풀에서 처리합니다.
+     * 생성 결과는 getScheduleStatus로 확인합니다.
+     */
+    @Transactional
+    public Plan createPlanAsync(CreatePlanRequest req, User user) {
+        Plan newPlan = buildPlan(req, user);
+        newPlan.markSchedulePending();
 
-        Lesson endLesson = lessonRepository.findById(req.getEndLessonId())
-            .orElseThrow(() -> new ApiException(ExceptionType.LESSON_NOT_FOUND));
+        Plan savedPlan = planRepository.save(newPlan);
 
+        eventPublisher.publishEvent(new ScheduleGenerationRequestedEvent(savedPlan.getId()));
+        return savedPlan;
+    }
+
+    /**
+     * 기존 계획(스터디 그룹의 기준 계획)을 복사해 새 계획을 만듭니다.
+     * 새로 생성해도 결과가 같은 경우(재스케줄링된 적 없는 PERIOD 계획)에만 배분 알고리즘을 다시 실행하지 않고
+     * 원본 계획의 스케줄 행을 그대로 복사하며, 완료 여부는 초기화됩니다.
+     * TIME 계획은 오늘부터 배분해야 하고, 재스케줄링된 계획은 배치가 새로 생성한 것과 다르므로 새로 생성합니다.
+     * 재스케줄링 이력을 기록하기 전에 생성된 계획도 재배치 여부를 알 수 없으므로 새로 생성합니다.
+     * 원본 스케줄이 아직 없을 때(비동기 생성 중/실패)도 새로 생성합니다.
+     */
+    @Transactional
+    public Plan copyPlan(Plan basePlan, User user) {
         Plan newPlan = Plan.builder()
+            .lecture(basePlan.getLecture())
+            .lectureName(basePlan.getLecture().getTitle())
+            .user(user)
+            .planType(basePlan.getPlanType())
+            .startLesson(basePlan.getStartLesson())
+            .endLesson(basePlan.getEndLesson())
+            .studyDays(new HashSet<>(basePlan.getStudyDays()))
+            .dailyTime(basePlan.getDailyTime())
+            .startDate(basePlan.getStartDate())
+            .endDate(basePlan.getEndDate())
+            .playbackSpeed(basePlan.getPlaybackSpeed())
+            .distributionStrategy(basePlan.getDistributionStrategy())
+            .build();
+
+        Plan savedPlan = planRepository.save(newPlan);
+
+        boolean copyable = basePlan.getPlanType() == PlanType.PERIOD
+            && basePlan.hasGeneratedLayout()
+            && basePlan.resolveScheduleStatus() == ScheduleStatus.READY;
+        int copiedDailySchedules = copyable
+            ? scheduleBulkRepository.copySchedules(basePlan.getId(), savedPlan.getId())
+            : 0;
+
+        if (copiedDailySchedules == 0) {
+            scheduleGeneratorService.generateSchedules(savedPlan);
+        } else {
+            planProgressRepository.recalculate(savedPlan.getId());
+            log.info("Plan {}의 스케줄을 Plan {}로 복사: 일일스케줄 {}개",
+                basePlan.getId(), savedPlan.getId(), copiedDailySchedules);
+        }
+        return savedPlan;
+    }
+
+    /**
+     * 계획을 저장하지 않고 스케줄 배분 결과만 미리 계산합니다.
+     * 종료일, 하루 공부 시간, 재생 속도를 바꿔가며 여러 번 호출해도 어떤 테이블에도 쓰지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public PlanPreviewResponse previewPlan(CreatePlanRequest req, User user) {
+        if (req.getPlanType() == PlanType.PERIOD
+            && (req.getStartDate() == null || req.getEndDate() == null)) {
+            throw new ApiException(ExceptionType.BAD_REQUEST,
+                "PERIOD 타입 계획은 startDate와 endDate가 필요합니다.");
+        }
+        if (req.getPlanType() == PlanType.TIME
+            && (req.getDailyTime() == null || req.getDailyTime() <= 0)) {
+            throw new ApiException(ExceptionType.BAD_REQUEST,
+                "TIME 타입 계획은 dailyTime이 필요합니다.");
+        }
+
+        ScheduleGenerationResult result = scheduleGeneratorService.previewSchedules(
+            buildPlan(req, user));
+
+        List<DailySchedulePreviewDto> dailySchedules = result.getDailySchedules().stream()
+            .map(ds -> DailySchedulePreviewDto.builder()
+                .date(ds.getDate())
+                .dayOfWeek(ds.getDayOfWeek())
+                .totalLessons(ds.getTotalLessons())
+                .totalDuration(ds.getTotalDuration())
+                .build())
+            .toList();
+
+        return PlanPreviewResponse.builder()
+            .planType(req.getPlanType())
+            .totalLessons(result.getLessonSchedules().size())
+            .totalDuration(dailySchedules.stream()
+                .mapToInt(DailySchedulePreviewDto::getTotalDuration).sum())
+            .maxDailyDuration(dailySchedules.stream()
+                .mapToInt(DailySchedulePreviewDto::getTotalDuration).max().orElse(0))
+            .dayCount(dailySchedules.size())
+            .startDate(dailySchedules.isEmpty() ? null : dailySchedules.get(0).getDate())
+            .endDate(dailySchedules.isEmpty() ? null
+                : dailySchedules.get(dailySchedules.size() - 1).getDate())
+            .dailySchedules(dailySchedules)
+            .build();
+    }
+
+    @Transactional(readOnly = true)
+    public ScheduleStatusResponse getScheduleStatus(Long planId, Long userId) {
+        Plan plan = planRepository.findByIdAndUserId(planId, userId)
+            .orElseThrow(() -> new ApiException(ExceptionType.PLAN_NOT_FOUND));
+
+        return ScheduleStatusResponse.builder()
+            .planId(plan.getId())
+            .status(plan.resolveScheduleStatus())
+            .build();
+    }
+
+    private Plan buildPlan(CreatePlanRequest req, User user) {
+        Optional<CatalogLecture> catalogLecture = lectureCatalogService.findLecture(req.getLectureId());
+
+        Lecture lecture;
+        Lesson startLesson;
+        Lesson endLesson;
+        if (catalogLecture.isPresent()
+            && lectureCatalogService.findLesson(req.getStartLessonId()).isPresent()
+            && lectureCatalogService.findLesson(req.getEndLessonId()).isPresent()) {
+            // 카탈로그에서 존재를 확인했으므로 SELECT 없이 참조만 연결
+            lecture = lectureRepository.getReferenceById(req.getLectureId());
+            startLesson = lessonRepository.getReferenceById(req.getStartLessonId());
+            endLesson = lessonRepository.getReferenceById(req.getEndLessonId());
+        } else {
+            lecture = lectureRepository.findById(req.getLectureId())
+                .orElseThrow(() -> new ApiException(ExceptionType.LECTURE_NOT_FOUND));
+
+            startLesson = lessonRepository.findById(req.getStartLessonId())
+                .orElseThrow(() -> new ApiException(ExceptionType.LESSON_NOT_FOUND));
+
+            endLesson = lessonRepository.findById(req.getEndLessonId())
+                .orElseThrow(() -> new ApiException(ExceptionType.LESSON_NOT_FOUND));
+        }
+
+        return Plan.builder()
             .lecture(lecture)
-            .lectureName(lecture.getTitle())
+            .lectureName(catalogLecture.map(CatalogLecture::getTitle).orElseGet(lecture::getTitle))
             .user(user)
             .planType(req.getPlanType())
             .startLesson(startLesson)
@@ -81,12 +243,8 @@ public class PlanService {
             .startDate(req.getStartDate())
             .endDate(req.getEndDate())
             .playbackSpeed(req.getPlaybackSpeed())
+            .distributionStrategy(req.getDistributionStrategy())
             .build();
-
-        Plan savedPlan = planRepository.save(newPlan);
-
-        scheduleGeneratorService.generateSchedules(savedPlan);
-        return savedPlan;
     }
 
     @Transactional(readOnly = true)
@@ -101,14 +259,20 @@ public class PlanService {
             return List.of();
         }
 
+        // 계획별 완료 수업 수는 진행 현황 집계에서 한 번에 조회
+        Map<Long, PlanProgress> progressByPlanId = planProgressRepository.findAllById(
+                plans.stream().map(Plan::getId).toList())
+            .stream()
+            .collect(Collectors.toMap(PlanProgress::getPlanId, progress -> progress));
+
         Set<Long> studyGroupPlanIds = new HashSet<>(
             studyGroupMemberRepository.findPlanIdsByUserId(userId));
         log.info("studyGroupPlanIds: {}", studyGroupPlanIds);
 
         return plans.stream()
             .map(plan -> {
-                Long completedLessons = lessonScheduleRepository.countCompletedLessonSchedulesByPlanId(
-                    plan.getId());
+                PlanProgress progress = progressByPlanId.get(plan.getId());
+                Long completedLessons = progress != null ? (long) progress.getCompletedLessons() : 0L;
 
                 // 해당 계획이 스터디 그룹의 일부인지 확인
                 boolean isStudyGroup = studyGroupPlanIds.contains(plan.getId());
@@ -119,23 +283,68 @@ public class PlanService {
                         .orElse(null);
                 }
 
+                // 강의/수업 정보는 카탈로그에서 읽어 계획마다 지연 로딩이 일어나지 않게 함
+                Optional<CatalogLessonRange> lessonRange = lessonRange(plan);
+                int totalLessons = lessonRange.map(CatalogLessonRange::getLessonCount)
+                    .orElseGet(() -> plan.getEndLesson().getOrder() - plan.getStartLesson().getOrder() + 1);
+                Long estimatedDuration = lessonRange
+                    .map(range -> range.estimateDuration(plan.getPlaybackSpeed()))
+                    .orElse(null);
+
+                Optional<CatalogLecture> catalogLecture =
+                    lectureCatalogService.findLecture(plan.getLecture().getId());
+                if (catalogLecture.isEmpty()) {
+                    return PlanSummaryDto.builder()
+                        .planId(plan.getId())
+                        .lectureTitle(plan.getLecture().getTitle())
+                        .teacher(plan.getLecture().getTeacher())
+                        .platform(plan.getLecture().getPlatform())
+                        .totalLessons(totalLessons)
+                        .estimatedDuration(estimatedDuration)
+                        .completedLessons(completedLessons)
+                        .isStudyGroup(isStudyGroup)
+                        .studyGroupId(studyGroupId)
+                        .subject(plan.getLecture().getSubject())
+                        .tag(plan.getLecture().getTag())
+                        .build();
+                }
+
+                CatalogLecture lecture = catalogLecture.get();
                 return PlanSummaryDto.builder()
                     .planId(plan.getId())
-                    .lectureTitle(plan.getLecture().getTitle())
-                    .teacher(plan.getLecture().getTeacher())
-                    .platform(plan.getLecture().getPlatform())
-                    .totalLessons(
-                        plan.getEndLesson().getOrder() - plan.getStartLesson().getOrder() + 1)
+                    .lectureTitle(lecture.getTitle())
+                    .teacher(lecture.getTeacher())
+                    .platform(lecture.getPlatform())
+                    .totalLessons(totalLessons)
+                    .estimatedDuration(estimatedDuration)
                     .completedLessons(completedLessons)
                     .isStudyGroup(isStudyGroup)
                     .studyGroupId(studyGroupId)
-                    .subject(plan.getLecture().getSubject())
-                    .tag(plan.getLecture().getTag())
+                    .subject(lecture.getSubject())
+                    .tag(lecture.getTag())
                     .build();
             })
             .toList();
     }
 
+    /**
+     * 계획 구간의 수업 수와 총 시간. 카탈로그에 있으면 누적합 색인으로 실제 구간을 구하고(순서가 비어 있어도 정확),
+     * 없으면 empty를 반환하므로 수업 수는 시작/끝 수업 순서의 차이로 계산합니다.
+     */
+    private Optional<CatalogLessonRange> lessonRange(Plan plan) {
+        Optional<CatalogLesson> startLesson =
+            lectureCatalogService.findLesson(plan.getStartLesson().getId());
+        Optional<CatalogLesson> endLesson =
+            lectureCatalogService.findLesson(plan.getEndLesson().getId());
+        if (startLesson.isEmpty() || endLesson.isEmpty()) {
+            return Optional.empty();
+        }
+        return lectureCatalogService.summarizeLessonsBetween(
+            startLesson.get().getLectureId(),
+            startLesson.get().getOrder(),
+            endLesson.get().getOrder());
+    }
+
     @Transactional(readOnly = true)
     public PlanDetailResponse getPlan(Long planId, Long userId) {
         // 해당 계획 조회
@@ -212,7 +421,18 @@ public class PlanService {
         Plan plan = planRepository.findByIdAndUserId(planId, userId)
             .orElseThrow(() -> new ApiException(ExceptionType.PLAN_NOT_FOUND));
 
+        // 삭제된 계획의 기록이 빠지도록, 계획의 일정이 있던 지난 달만 통계 집계를 다시 만듦
+        List<YearMonth> closedMonths = studyStatisticsRollupRepository.findMonthsOfPlan(planId,
+            LocalDate.now(clock).withDayOfMonth(1));
+
         planRepository.delete(plan);
+        planProgressRepository.deleteById(planId);
+
+        if (!closedMonths.isEmpty()) {
+            // JDBC 집계 전에 삭제를 먼저 반영
+            entityManager.flush();
+            closedMonths.forEach(month -> studyStatisticsRollupRepository.rebuildUserMonth(userId, month));
+        }
     }
 
     @Transactional
@@ -0,0 +1,79 @@
+package com.landr.service.schedule;
+
+/**
+ * SchedulePlanner의 배치 결과입니다.
+ * 배치된 날짜 d에는 강의 인덱스 [firstLesson(d), firstLesson(d + 1)) 구간이 순서대로 배정됩니다.
+ * 날짜는 epoch day(1970-01-01 기준 일수)로 표현합니다.
+ */
+public final class PlannedSchedule {
+
+    private static final int[] EMPTY = new int[0];
+    private static final int[] EMPTY_BOUNDARY = new int[1];
+
+    private final int[] adjustedDurations;
+    private final int dayCount;
+    private final int[] dayEpochs;
+    private final int[] dayFirstLesson;
+    private final int[] dayMinutes;
+
+    PlannedSchedule(int[] adjustedDurations, int dayCount, int[] dayEpochs, int[] dayFirstLesson,
+        int[] dayMinutes) {
+        this.adjustedDurations = adjustedDurations;
+        this.dayCount = dayCount;
+        this.dayEpochs = dayEpochs;
+        this.dayFirstLesson = dayFirstLesson;
+        this.dayMinutes = dayMinutes;
+    }
+
+    static PlannedSchedule empty(int[] adjustedDurations) {
+        return new PlannedSchedule(adjustedDurations, 0, EMPTY, EMPTY_BOUNDARY, EMPTY);
+    }
+
+    public boolean isEmpty() {
+        return dayCount == 0;
+    }
+
+    /**
+     * 강의가 배정된 날짜 수
+     */
+    public int dayCount() {
+        return dayCount;
+    }
+
+    /**
+     * 배정된 강의 수 (배정 가능한 날짜가 없으면 0)
+     */
+    public int lessonCount() {
+        return dayFirstLesson[dayCount];
+    }
+
+    public int dayEpoch(int day) {
+        return dayEpochs[day];
+    }
+
+    /**
+     * 해당 날짜에 배정된 첫 강의 인덱스 (포함)
+     */
+    public int firstLesson(int day) {
+        return dayFirstLesson[day];
+    }
+
+    /**
+     * 해당 날짜에 배정된 마지막 강의 인덱스 (미포함)
+     */
+    public int lessonEnd(int day) {
+        return dayFirstLesson[day + 1];
+    }
+
+    public int lessonsOnDay(int day) {
+        return dayFirstLesson[day + 1] - dayFirstLesson[day];
+    }
+
+    public int dayMinutes(int day) {
+        return dayMinutes[day];
+    }
+
+    public int adjustedDuration(int lesson) {
+        return adjustedDurations[lesson];
+    }
+}
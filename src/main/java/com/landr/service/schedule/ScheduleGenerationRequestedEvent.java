@@ -0,0 +1,14 @@
+package com.landr.service.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 비동기 스케줄 생성 요청 이벤트 (Plan 저장 트랜잭션이 커밋된 후 처리됩니다)
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleGenerationRequestedEvent {
+
+    private final Long planId;
+}
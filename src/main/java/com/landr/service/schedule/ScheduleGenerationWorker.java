@@ -0,0 +1,121 @@
+package com.landr.service.schedule;
+
+import com.landr.domain.plan.ScheduleStatus;
+import com.landr.repository.plan.PlanRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 비동기 계획 생성 시 스케줄 생성을 워커 스레드 풀에서 처리합니다.
+ * Plan이 커밋된 후에만 실행되므로 워커는 항상 저장된 Plan을 조회할 수 있습니다.
+ *
+ * 작업 큐는 메모리에만 있으므로 큐가 가득 차 거절되거나 노드가 재시작되면 Plan이 PENDING으로 남습니다.
+ * 이런 Plan은 주기적인 sweep이 다시 투입하고, 너무 오래 PENDING인 Plan은 FAILED로 변경합니다.
+ */
+@Slf4j
+@Component
+public class ScheduleGenerationWorker {
+
+    private final ScheduleGeneratorService scheduleGeneratorService;
+    private final PlanRepository planRepository;
+    private final Executor scheduleGenerationExecutor;
+    private final Clock clock;
+    private final Duration staleAfter;
+    private final Duration expireAfter;
+    private final int sweepBatchSize;
+
+    public ScheduleGenerationWorker(
+        ScheduleGeneratorService scheduleGeneratorService,
+        PlanRepository planRepository,
+        @Qualifier("scheduleGenerationExecutor") Executor scheduleGenerationExecutor,
+        Clock clock,
+        @Value("${schedule.generation.stale-after:PT5M}") Duration staleAfter,
+        @Value("${schedule.generation.expire-after:PT1H}") Duration expireAfter,
+        @Value("${schedule.generation.sweep-batch-size:100}") int sweepBatchSize
+    ) {
+        this.scheduleGeneratorService = scheduleGeneratorService;
+        this.planRepository = planRepository;
+        this.scheduleGenerationExecutor = scheduleGenerationExecutor;
+        this.clock = clock;
+        this.staleAfter = staleAfter;
+        this.expireAfter = expireAfter;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ScheduleGenerationRequestedEvent event) {
+        dispatch(event.getPlanId());
+    }
+
+    /**
+     * 오래된 PENDING Plan을 다시 워커 풀에 넣습니다. (애플리케이션 시작 직후에도 한 번 실행)
+     * 생성 시각이 expire-after보다 오래된 Plan은 다시 넣지 않고 FAILED로 변경합니다.
+     */
+    @Scheduled(fixedDelayString = "${schedule.generation.sweep-interval:PT1M}")
+    public void sweepStalePending() {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+
+            int expired = scheduleGeneratorService.markExpiredPendingFailed(now.minus(expireAfter));
+            if (expired > 0) {
+                log.warn("{} 이상 PENDING 상태인 Plan {}개를 FAILED로 변경했습니다.", expireAfter, expired);
+            }
+
+            List<Long> stalePlanIds = planRepository.findIdsByScheduleStatusAndCreatedAtBefore(
+                ScheduleStatus.PENDING, now.minus(staleAfter), PageRequest.of(0, sweepBatchSize));
+            int dispatched = 0;
+            for (Long planId : stalePlanIds) {
+                if (!dispatch(planId)) {
+                    // 큐가 가득 찼으므로 나머지는 다음 sweep에서 다시 넣음
+                    break;
+                }
+                dispatched++;
+            }
+            if (dispatched > 0) {
+                log.info("PENDING 상태인 Plan {}개의 스케줄 생성을 다시 요청했습니다.", dispatched);
+            }
+        } catch (Exception e) {
+            log.error("PENDING 상태인 Plan 재처리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 스케줄 생성 작업을 워커 풀에 넣습니다.
+     * 큐가 가득 차 거절되면 Plan을 PENDING으로 남겨 두고 다음 sweep에서 다시 넣습니다.
+     *
+     * @return 워커 풀에 넣었으면 true
+     */
+    boolean dispatch(Long planId) {
+        try {
+            scheduleGenerationExecutor.execute(() -> generate(planId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("스케줄 생성 큐가 가득 차 Plan {}을 PENDING으로 남겨 둡니다.", planId);
+            return false;
+        }
+    }
+
+    void generate(Long planId) {
+        try {
+            scheduleGeneratorService.generatePendingSchedules(planId);
+        } catch (PessimisticLockingFailureException e) {
+            log.info("Plan {}의 스케줄은 다른 워커가 생성 중이므로 건너뜁니다.", planId);
+        } catch (Exception e) {
+            log.error("Plan {}에 대한 비동기 스케줄 생성 실패", planId, e);
+            scheduleGeneratorService.markScheduleFailed(planId);
+        }
+    }
+}
@@ -3,15 +3,22 @@ package com.landr.service.schedule;
 import com.landr.domain.lecture.Lesson;
 import com.landr.domain.plan.DayOfWeek;
 import com.landr.domain.plan.Plan;
+import com.landr.domain.plan.PlanProgress;
 import com.landr.domain.plan.PlanType;
+import com.landr.domain.plan.ScheduleStatus;
 import com.landr.domain.schedule.DailySchedule;
 import com.landr.domain.schedule.LessonSchedule;
 import com.landr.exception.ApiException;
 import com.landr.exception.ExceptionType;
 import com.landr.repository.dailyschedule.DailyScheduleRepository;
+import com.landr.repository.lecture.dto.CatalogLesson;
 import com.landr.repository.lesson.LessonRepository;
 import com.landr.repository.lessonschedule.LessonScheduleRepository;
+import com.landr.repository.lessonschedule.dto.CompletedDailySummary;
 import com.landr.repository.plan.PlanRepository;
+import com.landr.repository.planprogress.PlanProgressRepository;
+import com.landr.repository.schedule.ScheduleBulkRepository;
+import com.landr.service.lecture.LectureCatalogService;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -19,15 +26,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -39,6 +46,10 @@ public class ScheduleGeneratorService {
     private final DailyScheduleRepository dailyScheduleRepository;
     private final LessonScheduleRepository lessonScheduleRepository;
     private final PlanRepository planRepository;
+    private final ScheduleBulkRepository scheduleBulkRepository;
+    private final SchedulePlanner schedulePlanner;
+    private final PlanProgressRepository planProgressRepository;
+    private final LectureCatalogService lectureCatalogService;
     private final EntityManager entityManager;
 
     /**
@@ -61,278 +72,213 @@ public class ScheduleGeneratorService {
         // 2. 스케줄 생성
         ScheduleGenerationResult result = buildSchedules(plan, lessons);
 
-        dailyScheduleRepository.saveAll(result.getDailySchedules());
-        lessonScheduleRepository.saveAll(result.getLessonSchedules());
-        log.info("Plan {}에 대한 스케줄 생성 완료: 일일스케줄 {}개, 강의스케줄 {}개",
-            plan.getId(), result.getDailySchedules().size(), result.getLessonSchedules().size());
+        // 3. JDBC 배치로 저장 (행마다 INSERT가 발생하지 않도록)
+        long startedAt = System.nanoTime();
+        int insertedRows = scheduleBulkRepository.insertSchedules(
+            plan.getId(), result.getDailySchedules(), result.getLessonSchedules());
+        planProgressRepository.save(PlanProgress.initialize(plan, result.getLessonSchedules().size()));
+        long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1L);
+
+        log.info("Plan {}에 대한 스케줄 생성 완료: 일일스케줄 {}개, 강의스케줄 {}개, {}ms ({} rows/s)",
+            plan.getId(), result.getDailySchedules().size(), result.getLessonSchedules().size(),
+            elapsedNanos / 1_000_000, Math.round(insertedRows * 1_000_000_000d / elapsedNanos));
 
         return result;
     }
 
     /**
-     * 특정 계획(Plan)의 모든 스케줄을 재생성합니다.
-     * - completed = true인 강의들은 updatedAt 날짜 기준으로 재배치
-     * - completed = false인 강의들은 오늘부터 재스케줄링
+     * 비동기로 생성 요청된(PENDING) Plan의 스케줄을 생성하고 상태를 READY로 변경합니다.
+     * Plan 저장 트랜잭션의 커밋 이후에 호출되므로 새 트랜잭션에서 실행합니다.
+     *
+     * @param planId 계획 ID
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void generatePendingSchedules(Long planId) {
+        // 같은 Plan이 재투입되어 두 워커가 동시에 생성하지 않도록 잠금 후 상태를 확인
+        Plan plan = planRepository.findByIdForUpdate(planId)
+            .orElseThrow(() -> new ApiException(ExceptionType.PLAN_NOT_FOUND));
+
+        if (plan.resolveScheduleStatus() != ScheduleStatus.PENDING) {
+            log.info("Plan {}의 스케줄 상태가 {}이므로 생성하지 않습니다.", planId, plan.getScheduleStatus());
+            return;
+        }
+
+        generateSchedules(plan);
+        plan.markScheduleReady();
+    }
+
+    /**
+     * 저장하지 않은 Plan으로 스케줄 배분만 계산합니다. (계획 미리보기용, 어떤 테이블에도 쓰지 않음)
+     *
+     * @param plan 저장되지 않은 Plan
+     * @return 메모리에서 계산한 일일 스케줄과 강의 스케줄
+     */
+    @Transactional(readOnly = true)
+    public ScheduleGenerationResult previewSchedules(Plan plan) {
+        List<Lesson> lessons = getLessonsBetween(plan);
+        if (lessons.isEmpty()) {
+            return new ScheduleGenerationResult(Collections.emptyList(), Collections.emptyList());
+        }
+        return buildSchedules(plan, lessons);
+    }
+
+    /**
+     * 비동기 스케줄 생성에 실패한 Plan의 상태를 FAILED로 변경합니다.
+     * 그 사이 다른 워커가 생성을 마쳐 READY가 되었다면 변경하지 않습니다.
+     *
+     * @param planId 계획 ID
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markScheduleFailed(Long planId) {
+        planRepository.updateScheduleStatus(planId, ScheduleStatus.PENDING, ScheduleStatus.FAILED);
+    }
+
+    /**
+     * 특정 시각 이전에 생성되었는데 아직 PENDING인 Plan을 모두 FAILED로 변경합니다.
+     *
+     * @param createdBefore 기준 시각
+     * @return FAILED로 변경된 Plan 수
+     */
+    @Transactional
+    public int markExpiredPendingFailed(LocalDateTime createdBefore) {
+        return planRepository.updateScheduleStatusCreatedBefore(createdBefore,
+            ScheduleStatus.PENDING, ScheduleStatus.FAILED);
+    }
+
+    /**
+     * 특정 계획(Plan)의 미완료 강의를 오늘부터 다시 배치합니다.
+     * - completed = true인 LessonSchedule은 건드리지 않습니다.
+     * - completed = false인 LessonSchedule은 새 배치와 달라진 경우에만 UPDATE 합니다.
+     * - 새로 필요한 날짜의 DailySchedule만 INSERT 하고, 비게 된 DailySchedule만 DELETE 합니다.
      *
      * @param userId 사용자 ID
      * @param planId 계획 ID
-     * @return 생성된 스케줄 정보
      */
     @Transactional
     public void rescheduleIncompleteLessons(Long userId, Long planId) {
         Plan plan = planRepository.findByIdAndUserId(planId, userId)
             .orElseThrow(() -> new ApiException(ExceptionType.PLAN_NOT_FOUND));
 
-        // ✅ 영속성 컨텍스트 클리어 전에 필요한 데이터 미리 로딩
-        Set<DayOfWeek> studyDays = new HashSet<>(plan.getStudyDays()); // 강제 로딩
-        PlanType planType = plan.getPlanType();
-        LocalDate startDate = plan.getStartDate();
-        LocalDate endDate = plan.getEndDate();
-        Integer dailyTime = plan.getDailyTime();
-        Float playbackSpeed = plan.getPlaybackSpeed();
-
-        LocalDate today = LocalDate.now();
-        if (planType == PlanType.PERIOD &&
-            (endDate == null || endDate.isBefore(today))) {
+        LocalDate today = LocalDate.ofEpochDay(schedulePlanner.today());
+        if (plan.getPlanType() == PlanType.PERIOD &&
+            (plan.getEndDate() == null || plan.getEndDate().isBefore(today))) {
             throw new ApiException(ExceptionType.PLAN_END_DATE_PASSED,
                 "계획의 종료일이 이미 지났습니다. 종료일을 업데이트한 후 다시 시도해주세요.");
         }
 
-        log.info("Plan {}에 대한 전체 스케줄 재생성 시작", planId);
+        log.info("Plan {}에 대한 미완료 강의 재스케줄링 시작", planId);
+        // 재배치된 스케줄은 새로 생성한 스케줄과 달라지므로 스터디 그룹 참여 시 복사하지 않음
+        plan.markRescheduled();
 
-        List<LessonSchedule> allLessonSchedules = lessonScheduleRepository.findByPlanIdAndUserId(userId, planId);
+        List<LessonSchedule> uncompletedLessonSchedules =
+            lessonScheduleRepository.findUncompletedLessonSchedulesByPlanId(planId);
 
-        if (allLessonSchedules.isEmpty()) {
+        if (uncompletedLessonSchedules.isEmpty()) {
             log.info("재스케줄링할 강의가 없습니다.");
             return;
         }
 
-        // completed 상태별로 분류
-        List<LessonSchedule> completedLessonSchedules = allLessonSchedules.stream()
-            .filter(LessonSchedule::isCompleted)
-            .collect(Collectors.toList());
-
-        List<LessonSchedule> uncompletedLessonSchedules = allLessonSchedules.stream()
-            .filter(ls -> !ls.isCompleted())
-            .collect(Collectors.toList());
-
-        log.info("완료된 LessonSchedule 개수: {}", completedLessonSchedules.size());
-        log.info("미완료된 LessonSchedule 개수: {}", uncompletedLessonSchedules.size());
-
-        // 기존 모든 스케줄 삭제
-        Set<Long> allDailyScheduleIds = allLessonSchedules.stream()
-            .map(ls -> ls.getDailySchedule().getId())
-            .collect(Collectors.toSet());
-
-        lessonScheduleRepository.deleteAll(allLessonSchedules);
-
-        List<Long> emptyDailyScheduleIds = allDailyScheduleIds.stream()
-            .filter(dsId -> lessonScheduleRepository.countByDailyScheduleId(dsId) == 0)
-            .collect(Collectors.toList());
-
-        if (!emptyDailyScheduleIds.isEmpty()) {
-            log.info("비어있는 DailySchedule {} 개 삭제", emptyDailyScheduleIds.size());
-            dailyScheduleRepository.deleteAllByIdInBatch(emptyDailyScheduleIds);
-        }
-
-        // 영속성 컨텍스트 클리어
-        entityManager.flush();
-        entityManager.clear();
-
-        // ✅ Plan 객체를 미리 로딩한 데이터로 재구성
-        Plan planForScheduling = Plan.builder()
-            .id(planId)
-            .planType(planType)
-            .startDate(startDate)
-            .endDate(endDate)
-            .dailyTime(dailyTime)
-            .playbackSpeed(playbackSpeed)
-            .studyDays(studyDays)
-            .build();
-
-        // === 새로운 로직 ===
-
-        // 1. 완료된 강의들을 updatedAt 날짜별로 그룹화
-        Map<LocalDate, List<LessonSchedule>> completedByDate = completedLessonSchedules.stream()
-            .collect(Collectors.groupingBy(ls -> {
-                LocalDateTime updatedAt = ls.getUpdatedAt();
-                return updatedAt != null ? updatedAt.toLocalDate() : LocalDate.now();
-            }));
-
-        // 2. 미완료 강의들에 대한 Lesson 추출 및 정렬
+        // 1. 미완료 강의만 오늘부터 다시 배치 (메모리 상에서만 계산)
         List<Lesson> uncompletedLessons = uncompletedLessonSchedules.stream()
             .map(LessonSchedule::getLesson)
             .distinct()
             .sorted(Comparator.comparing(Lesson::getOrder))
             .collect(Collectors.toList());
 
-        // 3. 완료된 강의들의 DailySchedule 먼저 생성
-        Map<LocalDate, DailySchedule> existingDailySchedules = new HashMap<>();
-        List<LessonSchedule> allNewLessonSchedules = new ArrayList<>();
-
-        for (Map.Entry<LocalDate, List<LessonSchedule>> entry : completedByDate.entrySet()) {
-            LocalDate date = entry.getKey();
-            List<LessonSchedule> lessonsForDate = entry.getValue();
-
-            int totalLessons = lessonsForDate.size();
-            int totalDuration = lessonsForDate.stream()
-                .mapToInt(LessonSchedule::getAdjustedDuration)
-                .sum();
-
-            DailySchedule dailySchedule = createNewDailySchedule(planForScheduling, date, totalLessons, totalDuration);
-            existingDailySchedules.put(date, dailySchedule);
-
-            // 완료된 LessonSchedule 생성
-            lessonsForDate.sort(Comparator.comparing(ls -> ls.getLesson().getOrder()));
-            for (int i = 0; i < lessonsForDate.size(); i++) {
-                LessonSchedule originalLs = lessonsForDate.get(i);
-                LessonSchedule newLessonSchedule = LessonSchedule.builder()
-                    .dailySchedule(dailySchedule)
-                    .lesson(originalLs.getLesson())
-                    .adjustedDuration(originalLs.getAdjustedDuration())
-                    .displayOrder(i + 1)
-                    .completed(true)
-                    .updatedAt(originalLs.getUpdatedAt())
-                    .build();
-                allNewLessonSchedules.add(newLessonSchedule);
-            }
-        }
+        ScheduleGenerationResult placement = buildSchedulesForLessonsFromToday(plan, uncompletedLessons);
+        Map<Long, LessonSchedule> targetByLessonId = placement.getLessonSchedules().stream()
+            .collect(Collectors.toMap(ls -> ls.getLesson().getId(), ls -> ls));
 
-        // 4. 미완료 강의들을 오늘부터 재스케줄링
-        List<DailySchedule> newDailySchedules = new ArrayList<>();
-        if (!uncompletedLessons.isEmpty()) {
-            ScheduleGenerationResult uncompletedResult = buildSchedulesForLessonsFromToday(planForScheduling, uncompletedLessons);
-
-            // 나머지 로직은 동일...
-            for (DailySchedule uncompletedDs : uncompletedResult.getDailySchedules()) {
-                LocalDate date = uncompletedDs.getDate();
-
-                if (existingDailySchedules.containsKey(date)) {
-                    DailySchedule existingDs = existingDailySchedules.get(date);
-                    existingDs.addLessons(uncompletedDs.getTotalLessons(), uncompletedDs.getTotalDuration());
-
-                    List<LessonSchedule> uncompletedLsForDate = uncompletedResult.getLessonSchedules().stream()
-                        .filter(ls -> ls.getDailySchedule().getDate().equals(date))
-                        .collect(Collectors.toList());
-
-                    int nextDisplayOrder = existingDs.getTotalLessons() - uncompletedDs.getTotalLessons() + 1;
-                    for (LessonSchedule ls : uncompletedLsForDate) {
-                        LessonSchedule newLs = LessonSchedule.builder()
-                            .dailySchedule(existingDs)
-                            .lesson(ls.getLesson())
-                            .adjustedDuration(ls.getAdjustedDuration())
-                            .displayOrder(nextDisplayOrder++)
-                            .completed(false)
-                            .build();
-                        allNewLessonSchedules.add(newLs);
-                    }
-                } else {
-                    newDailySchedules.add(uncompletedDs);
-                    allNewLessonSchedules.addAll(
-                        uncompletedResult.getLessonSchedules().stream()
-                            .filter(ls -> ls.getDailySchedule().getDate().equals(date))
-                            .collect(Collectors.toList())
-                    );
-                }
-            }
-        }
+        // 2. 기존 DailySchedule과 날짜별 완료 강의 집계 조회
+        List<DailySchedule> existingDailySchedules = dailyScheduleRepository.findByPlanId(planId);
+        Map<LocalDate, DailySchedule> dailyScheduleByDate = existingDailySchedules.stream()
+            .collect(Collectors.toMap(DailySchedule::getDate, ds -> ds));
 
-        // 5. 모든 DailySchedule 수집
-        List<DailySchedule> allDailySchedules = new ArrayList<>();
-        allDailySchedules.addAll(existingDailySchedules.values());
-        allDailySchedules.addAll(newDailySchedules);
+        Map<Long, CompletedDailySummary> completedByDailyScheduleId =
+            lessonScheduleRepository.summarizeCompletedByPlanId(planId).stream()
+                .collect(Collectors.toMap(CompletedDailySummary::getDailyScheduleId, summary -> summary));
 
-        // 6. 저장
-        dailyScheduleRepository.saveAll(allDailySchedules);
-        lessonScheduleRepository.saveAll(allNewLessonSchedules);
+        // 3. 새 배치에 필요하지만 아직 없는 날짜의 DailySchedule만 INSERT
+        List<DailySchedule> missingDailySchedules = placement.getDailySchedules().stream()
+            .filter(ds -> !dailyScheduleByDate.containsKey(ds.getDate()))
+            .collect(Collectors.toList());
 
-        log.info("Plan {}에 대한 재스케줄 생성 완료: 일일스케줄 {}개, 강의스케줄 {}개",
-            planId, allDailySchedules.size(), allNewLessonSchedules.size());
-    }
-    /**
-     * 완료된 강의들을 updatedAt 날짜 기준으로 DailySchedule을 생성합니다.
-     */
-    private List<DailySchedule> createDailySchedulesForCompletedLessons(Plan plan, List<LessonSchedule> completedLessonSchedules) {
-        if (completedLessonSchedules.isEmpty()) {
-            return new ArrayList<>();
+        // 새 DailySchedule은 새 배치의 합계로 INSERT 되므로, 강의 이동에 필요한 참조(프록시)만 두고 합계는 다시 확인하지 않음
+        if (!missingDailySchedules.isEmpty()) {
+            Map<LocalDate, Long> insertedIds =
+                scheduleBulkRepository.insertDailySchedules(planId, missingDailySchedules);
+            for (DailySchedule missing : missingDailySchedules) {
+                dailyScheduleByDate.put(missing.getDate(),
+                    entityManager.getReference(DailySchedule.class, insertedIds.get(missing.getDate())));
+            }
         }
 
-        // updatedAt 날짜별로 그룹화
-        Map<LocalDate, List<LessonSchedule>> dateGroupedLessons = completedLessonSchedules.stream()
-            .collect(Collectors.groupingBy(ls -> {
-                LocalDateTime updatedAt = ls.getUpdatedAt();
-                return updatedAt != null ? updatedAt.toLocalDate() : LocalDate.now();
-            }));
-
-        List<DailySchedule> dailySchedules = new ArrayList<>();
+        // 4. 배치가 달라진 미완료 LessonSchedule만 UPDATE
+        Map<LocalDate, int[]> uncompletedTotalsByDate = new HashMap<>();
+        int movedCount = 0;
+
+        for (LessonSchedule lessonSchedule : uncompletedLessonSchedules) {
+            LessonSchedule target = targetByLessonId.get(lessonSchedule.getLesson().getId());
+            if (target == null) {
+                // 배치되지 않은 강의는 현재 위치를 유지합니다.
+                int[] totals = uncompletedTotalsByDate.computeIfAbsent(
+                    lessonSchedule.getDailySchedule().getDate(), date -> new int[2]);
+                totals[0]++;
+                totals[1] += lessonSchedule.getAdjustedDuration();
+                continue;
+            }
 
-        for (Map.Entry<LocalDate, List<LessonSchedule>> entry : dateGroupedLessons.entrySet()) {
-            LocalDate date = entry.getKey();
-            List<LessonSchedule> lessonsForDate = entry.getValue();
+            LocalDate targetDate = target.getDailySchedule().getDate();
+            DailySchedule targetDailySchedule = dailyScheduleByDate.get(targetDate);
 
-            int totalLessons = lessonsForDate.size();
-            int totalDuration = lessonsForDate.stream()
-                .mapToInt(LessonSchedule::getAdjustedDuration)
-                .sum();
+            CompletedDailySummary completed = completedByDailyScheduleId.get(targetDailySchedule.getId());
+            int displayOrderOffset = completed != null ? completed.getMaxDisplayOrder() : 0;
+            int targetDisplayOrder = displayOrderOffset + target.getDisplayOrder();
 
-            DailySchedule dailySchedule = createNewDailySchedule(plan, date, totalLessons, totalDuration);
-            dailySchedules.add(dailySchedule);
-        }
+            boolean unchanged = lessonSchedule.getDailySchedule().getDate().equals(targetDate)
+                && lessonSchedule.getDisplayOrder() == targetDisplayOrder
+                && lessonSchedule.getAdjustedDuration() == target.getAdjustedDuration();
 
-        return dailySchedules;
-    }
+            if (!unchanged) {
+                lessonSchedule.reschedule(targetDailySchedule, target.getAdjustedDuration(), targetDisplayOrder);
+                movedCount++;
+            }
 
-    /**
-     * 완료된 강의들에 대한 새로운 LessonSchedule을 생성합니다.
-     */
-    private List<LessonSchedule> createLessonSchedulesForCompleted(List<DailySchedule> dailySchedules, List<LessonSchedule> completedLessonSchedules) {
-        if (completedLessonSchedules.isEmpty() || dailySchedules.isEmpty()) {
-            return new ArrayList<>();
+            int[] totals = uncompletedTotalsByDate.computeIfAbsent(targetDate, date -> new int[2]);
+            totals[0]++;
+            totals[1] += target.getAdjustedDuration();
         }
 
-        // 날짜별 DailySchedule 맵 생성
-        Map<LocalDate, DailySchedule> dateToScheduleMap = dailySchedules.stream()
-            .collect(Collectors.toMap(DailySchedule::getDate, ds -> ds));
-
-        List<LessonSchedule> newLessonSchedules = new ArrayList<>();
+        // 5. 기존 DailySchedule 합계 갱신, 비게 된 DailySchedule 삭제
+        List<Long> emptyDailyScheduleIds = new ArrayList<>();
 
-        // updatedAt 날짜별로 그룹화
-        Map<LocalDate, List<LessonSchedule>> dateGroupedLessons = completedLessonSchedules.stream()
-            .collect(Collectors.groupingBy(ls -> {
-                LocalDateTime updatedAt = ls.getUpdatedAt();
-                return updatedAt != null ? updatedAt.toLocalDate() : LocalDate.now();
-            }));
+        for (DailySchedule dailySchedule : existingDailySchedules) {
+            CompletedDailySummary completed = completedByDailyScheduleId.get(dailySchedule.getId());
+            int[] uncompletedTotals = uncompletedTotalsByDate.get(dailySchedule.getDate());
 
-        for (Map.Entry<LocalDate, List<LessonSchedule>> entry : dateGroupedLessons.entrySet()) {
-            LocalDate date = entry.getKey();
-            List<LessonSchedule> lessonsForDate = entry.getValue();
-            DailySchedule dailySchedule = dateToScheduleMap.get(date);
+            int totalLessons = (completed != null ? completed.getCompletedLessons().intValue() : 0)
+                + (uncompletedTotals != null ? uncompletedTotals[0] : 0);
+            int totalDuration = (completed != null ? completed.getCompletedDuration().intValue() : 0)
+                + (uncompletedTotals != null ? uncompletedTotals[1] : 0);
 
-            if (dailySchedule == null) {
-                log.warn("DailySchedule not found for date: {}", date);
-                continue;
+            if (totalLessons == 0) {
+                emptyDailyScheduleIds.add(dailySchedule.getId());
+            } else if (dailySchedule.getTotalLessons() != totalLessons
+                || dailySchedule.getTotalDuration() != totalDuration) {
+                dailySchedule.updateTotals(totalLessons, totalDuration);
             }
+        }
 
-            // Lesson order 기준으로 정렬하여 displayOrder 설정
-            lessonsForDate.sort(Comparator.comparing(ls -> ls.getLesson().getOrder()));
-
-            for (int i = 0; i < lessonsForDate.size(); i++) {
-                LessonSchedule originalLs = lessonsForDate.get(i);
-
-                LessonSchedule newLessonSchedule = LessonSchedule.builder()
-                    .dailySchedule(dailySchedule)
-                    .lesson(originalLs.getLesson())
-                    .adjustedDuration(originalLs.getAdjustedDuration())
-                    .displayOrder(i + 1)
-                    .completed(true) // 완료된 상태 유지
-                    .updatedAt(originalLs.getUpdatedAt()) // 기존 updatedAt 유지
-                    .build();
+        entityManager.flush();
 
-                newLessonSchedules.add(newLessonSchedule);
-            }
+        if (!emptyDailyScheduleIds.isEmpty()) {
+            log.info("비어있는 DailySchedule {} 개 삭제", emptyDailyScheduleIds.size());
+            dailyScheduleRepository.deleteAllByIdInBatch(emptyDailyScheduleIds);
         }
 
-        return newLessonSchedules;
+        log.info("Plan {}에 대한 재스케줄링 완료: 미완료 강의 {}개 중 {}개 이동, 일일스케줄 {}개 추가, {}개 삭제",
+            planId, uncompletedLessonSchedules.size(), movedCount,
+            missingDailySchedules.size(), emptyDailyScheduleIds.size());
     }
 
     /**
@@ -342,6 +288,26 @@ public class ScheduleGeneratorService {
         Lesson startLesson = plan.getStartLesson();
         Lesson endLesson = plan.getEndLesson();
 
+        // 카탈로그에 있으면 수업 범위를 메모리에서 바로 구함 (스케줄 배분에는 id/순서/길이/제목만 필요)
+        Optional<CatalogLesson> catalogStart = lectureCatalogService.findLesson(startLesson.getId());
+        Optional<CatalogLesson> catalogEnd = lectureCatalogService.findLesson(endLesson.getId());
+        if (catalogStart.isPresent() && catalogEnd.isPresent()) {
+            Optional<List<CatalogLesson>> catalogLessons = lectureCatalogService.findLessonsBetween(
+                catalogStart.get().getLectureId(),
+                catalogStart.get().getOrder(),
+                catalogEnd.get().getOrder());
+            if (catalogLessons.isPresent()) {
+                return catalogLessons.get().stream()
+                    .map(lesson -> Lesson.builder()
+                        .id(lesson.getId())
+                        .order(lesson.getOrder())
+                        .duration(lesson.getDuration())
+                        .title(lesson.getTitle())
+                        .build())
+                    .toList();
+            }
+        }
+
         Long lectureId = startLesson.getLecture().getId();
         int startOrder = startLesson.getOrder();
         int endOrder = endLesson.getOrder();
@@ -358,82 +324,69 @@ public class ScheduleGeneratorService {
      */
     private ScheduleGenerationResult buildSchedules(Plan plan, List<Lesson> lessons) {
         // 강의별 조정된 시간 계산 (재생 속도 반영)
-        List<Integer> adjustedDurations = calculateAdjustedDurations(lessons,
-            plan.getPlaybackSpeed());
+        int[] adjustedDurations = calculateAdjustedDurations(lessons, plan.getPlaybackSpeed());
+        int studyDayMask = SchedulePlanner.studyDayMask(plan.getStudyDays());
 
         // 계획 타입에 따라 강의 배분
         if (plan.getPlanType() == PlanType.PERIOD) {
-            // PERIOD 타입인 경우 startDate과 endDate 사이의 studyDays 날짜 계산
-            List<LocalDate> studyDates = calculateStudyDates(plan);
-            if (studyDates.isEmpty()) {
+            // PERIOD 타입인 경우 startDate과 endDate 사이의 studyDays 날짜에 배분
+            if (plan.getStartDate() == null || plan.getEndDate() == null) {
                 log.warn("Plan {}에 대한 공부 가능 날짜가 없습니다.", plan.getId());
                 return new ScheduleGenerationResult(Collections.emptyList(),
                     Collections.emptyList());
             }
 
-            return distributeLessonsByPeriod(plan, lessons, adjustedDurations, studyDates);
+            PlannedSchedule planned = schedulePlanner.planPeriod(adjustedDurations,
+                (int) plan.getStartDate().toEpochDay(), (int) plan.getEndDate().toEpochDay(),
+                studyDayMask, plan.resolveDistributionStrategy());
+            if (planned.isEmpty()) {
+                log.warn("Plan {}에 대한 공부 가능 날짜가 없습니다.", plan.getId());
+            }
+            return toScheduleGenerationResult(plan, lessons, planned);
         } else { // TIME 타입
-            // TIME 타입은 studyDays와 dailyTime만 필요
-            return distributeLessonsByTime(plan, lessons, adjustedDurations, null);
+            // TIME 타입은 오늘부터 studyDays와 dailyTime에 맞춰 배분
+            PlannedSchedule planned = schedulePlanner.planTime(adjustedDurations,
+                schedulePlanner.today(), plan.getDailyTime(), studyDayMask);
+            return toScheduleGenerationResult(plan, lessons, planned);
         }
     }
 
     /**
-     * 시작일부터 종료일까지 studyDays에 해당하는 날짜 목록을 계산합니다.
+     * 강의 목록의 각 강의에 대해 playbackSpeed를 반영한 조정된 시간을 계산합니다.
      */
-    private List<LocalDate> calculateStudyDates(Plan plan) {
-        List<LocalDate> studyDates = new ArrayList<>();
-        LocalDate startDate = plan.getStartDate();
-        LocalDate endDate = plan.getEndDate();
-        Set<DayOfWeek> studyDays = plan.getStudyDays();
-
-        if (startDate == null || endDate == null || studyDays.isEmpty()) {
-            return studyDates;
+    private int[] calculateAdjustedDurations(List<Lesson> lessons, float playbackSpeed) {
+        int[] durations = new int[lessons.size()];
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = lessons.get(i).getDuration();
         }
-
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            DayOfWeek dayOfWeek = convertToDayOfWeek(currentDate.getDayOfWeek());
-            if (studyDays.contains(dayOfWeek)) {
-                studyDates.add(currentDate);
-            }
-            currentDate = currentDate.plusDays(1);
-        }
-
-        return studyDates;
+        return SchedulePlanner.adjustDurations(durations, playbackSpeed);
     }
 
     /**
-     * 특정 날짜부터 종료일까지 studyDays에 해당하는 날짜 목록을 계산합니다.
+     * SchedulePlanner의 배치 결과를 DailySchedule, LessonSchedule 엔티티로 변환합니다.
      */
-    private List<LocalDate> calculateStudyDatesFromDate(Plan plan, LocalDate startDate,
-        LocalDate endDate) {
-        List<LocalDate> studyDates = new ArrayList<>();
-        Set<DayOfWeek> studyDays = plan.getStudyDays();
+    private ScheduleGenerationResult toScheduleGenerationResult(Plan plan, List<Lesson> lessons,
+        PlannedSchedule planned) {
+        List<DailySchedule> dailySchedules = new ArrayList<>(planned.dayCount());
+        List<LessonSchedule> lessonSchedules = new ArrayList<>(planned.lessonCount());
 
-        if (endDate == null || studyDays.isEmpty()) {
-            return studyDates;
-        }
+        for (int day = 0; day < planned.dayCount(); day++) {
+            DailySchedule dailySchedule = createNewDailySchedule(
+                plan, LocalDate.ofEpochDay(planned.dayEpoch(day)),
+                planned.lessonsOnDay(day), planned.dayMinutes(day));
+            dailySchedules.add(dailySchedule);
 
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            DayOfWeek dayOfWeek = convertToDayOfWeek(currentDate.getDayOfWeek());
-            if (studyDays.contains(dayOfWeek)) {
-                studyDates.add(currentDate);
+            int firstLesson = planned.firstLesson(day);
+            for (int lesson = firstLesson; lesson < planned.lessonEnd(day); lesson++) {
+                lessonSchedules.add(createNewLessonSchedule(
+                    dailySchedule,
+                    lessons.get(lesson),
+                    planned.adjustedDuration(lesson),
+                    lesson - firstLesson + 1));
             }
-            currentDate = currentDate.plusDays(1);
         }
 
-        return studyDates;
-    }
-
-    /**
-     * 강의 목록의 각 강의에 대해 playbackSpeed를 반영한 조정된 시간을 계산합니다.
-     */
-    private List<Integer> calculateAdjustedDurations(List<Lesson> lessons, float playbackSpeed) {
-        return lessons.stream()
-            .map(lesson -> Math.round(lesson.getDuration() / playbackSpeed))
-            .collect(Collectors.toList());
+        return new ScheduleGenerationResult(dailySchedules, lessonSchedules);
     }
 
     /**
@@ -451,214 +404,6 @@ public class ScheduleGeneratorService {
         };
     }
 
-    /**
-     * PERIOD 타입의 계획에 따라 강의를 배분합니다. 시작일부터 종료일까지 studyDays에 해당하는 날짜에 강의 시간이 최대한 균등하게 배분되도록 합니다.
-     */
-    private ScheduleGenerationResult distributeLessonsByPeriod(
-        Plan plan, List<Lesson> lessons, List<Integer> adjustedDurations,
-        List<LocalDate> studyDates) {
-
-        List<DailySchedule> dailySchedules = new ArrayList<>();
-        List<LessonSchedule> lessonSchedules = new ArrayList<>();
-
-        int totalLessons = lessons.size();
-        int totalDuration = adjustedDurations.stream().mapToInt(Integer::intValue).sum();
-        int totalDays = studyDates.size();
-
-        log.info("PERIOD 타입 스케줄 생성: 총 강의 {}개, 총 시간 {}분, 총 공부 날짜 {}일",
-            totalLessons, totalDuration, totalDays);
-
-        // 일별 평균 강의 시간 계산 * 1.4배 -> 짧은 강의만 있는 경우를 고려
-        double avgDurationPerDay = ((double) totalDuration / totalDays) * 1.4;
-        log.info("일별 평균 강의 시간: {}분", avgDurationPerDay);
-
-        // 1. 먼저 각 날짜에 배정할 강의를 결정
-        Map<LocalDate, List<LessonAssignment>> dateToLessonsMap = new HashMap<>();
-        int lessonIndex = 0;
-
-        for (int dateIndex = 0; dateIndex < totalDays && lessonIndex < totalLessons; dateIndex++) {
-            LocalDate currentDate = studyDates.get(dateIndex);
-            List<LessonAssignment> assignmentsForDay = new ArrayList<>();
-
-            int currentDayDuration = 0;
-
-            // 현재 날짜에 강의 배정
-            while (lessonIndex < totalLessons) {
-                int lessonDuration = adjustedDurations.get(lessonIndex);
-
-                // 마지막 날짜가 아니고, 평균 시간을 초과하면 다음 날짜로 넘어감
-                // 단, 해당 날짜에 이미 수업이 배정된 경우에만
-                if (dateIndex < totalDays - 1
-                    && currentDayDuration + lessonDuration > avgDurationPerDay
-                    && !assignmentsForDay.isEmpty()) {
-                    break;
-                }
-
-                assignmentsForDay.add(new LessonAssignment(
-                    lessons.get(lessonIndex), lessonDuration, assignmentsForDay.size() + 1));
-
-                currentDayDuration += lessonDuration;
-                lessonIndex++;
-            }
-
-            dateToLessonsMap.put(currentDate, assignmentsForDay);
-        }
-
-        // 2. 각 날짜별로 DailySchedule과 LessonSchedule 생성
-        for (Map.Entry<LocalDate, List<LessonAssignment>> entry : dateToLessonsMap.entrySet()) {
-            LocalDate date = entry.getKey();
-            List<LessonAssignment> assignments = entry.getValue();
-
-            if (assignments.isEmpty()) {
-                continue;
-            }
-
-            // 총 강의 수와 시간 계산
-            int totalLessonsForDay = assignments.size();
-            int totalDurationForDay = assignments.stream()
-                .mapToInt(LessonAssignment::getAdjustedDuration)
-                .sum();
-
-            // DailySchedule 생성
-            DailySchedule dailySchedule = createNewDailySchedule(
-                plan, date, totalLessonsForDay, totalDurationForDay);
-            dailySchedules.add(dailySchedule);
-
-            // LessonSchedule 생성
-            for (LessonAssignment assignment : assignments) {
-                LessonSchedule lessonSchedule = createNewLessonSchedule(
-                    dailySchedule,
-                    assignment.getLesson(),
-                    assignment.getAdjustedDuration(),
-                    assignment.getDisplayOrder());
-                lessonSchedules.add(lessonSchedule);
-            }
-        }
-
-        return new ScheduleGenerationResult(dailySchedules, lessonSchedules);
-    }
-
-    /**
-     * TIME 타입의 계획에 따라 강의를 배분합니다. studyDays에 지정된 요일마다 dailyTime에 맞게 강의를 배분합니다. TIME 타입의 경우
-     * startDate와 endDate를 사용하지 않습니다.
-     */
-    private ScheduleGenerationResult distributeLessonsByTime(
-        Plan plan, List<Lesson> lessons, List<Integer> adjustedDurations,
-        List<LocalDate> studyDates) {
-
-        List<DailySchedule> dailySchedules = new ArrayList<>();
-        List<LessonSchedule> lessonSchedules = new ArrayList<>();
-
-        int totalLessons = lessons.size();
-        int dailyTimeTarget = plan.getDailyTime();
-
-        log.info("TIME 타입 스케줄 생성: 총 강의 {}개, 일일 목표 시간 {}분", totalLessons, dailyTimeTarget);
-
-        // 수강할 요일 가져오기
-        Set<DayOfWeek> studyDays = plan.getStudyDays();
-        if (studyDays.isEmpty()) {
-            log.warn("공부할 요일이 지정되지 않았습니다.");
-            return new ScheduleGenerationResult(dailySchedules, lessonSchedules);
-        }
-
-        // 요일을 순서대로 정렬 (월화수목금토일)
-        List<DayOfWeek> orderedStudyDays = studyDays.stream()
-            .sorted(Comparator.comparingInt(this::getDayOfWeekOrder))
-            .collect(Collectors.toList());
-
-        // 오늘부터 시작하여 강의 배정
-        LocalDate currentDate = LocalDate.now();
-        int dayIndex = 0;
-        int lessonIndex = 0;
-
-        // 첫 공부 요일로 이동
-        while (!studyDays.contains(convertToDayOfWeek(currentDate.getDayOfWeek()))) {
-            currentDate = currentDate.plusDays(1);
-        }
-
-        // 모든 강의를 배정할 때까지 반복
-        while (lessonIndex < totalLessons) {
-            // 현재 날짜의 요일
-            DayOfWeek currentDayOfWeek = convertToDayOfWeek(currentDate.getDayOfWeek());
-
-            // 공부 요일인 경우에만 강의 배정
-            if (studyDays.contains(currentDayOfWeek)) {
-                List<LessonAssignment> assignmentsForDay = new ArrayList<>();
-                int currentDayDuration = 0;
-
-                // 현재 날짜에 강의 배정 (dailyTime 이내로)
-                while (lessonIndex < totalLessons) {
-                    int lessonDuration = adjustedDurations.get(lessonIndex);
-
-                    // dailyTime을 초과하고, 이미 최소 1개의 강의가 배정된 경우 다음 날짜로 넘어감
-                    if (currentDayDuration + lessonDuration > dailyTimeTarget
-                        && !assignmentsForDay.isEmpty()) {
-                        break;
-                    }
-
-                    assignmentsForDay.add(new LessonAssignment(
-                        lessons.get(lessonIndex), lessonDuration, assignmentsForDay.size() + 1));
-
-                    currentDayDuration += lessonDuration;
-                    lessonIndex++;
-                }
-
-                // 강의가 배정된 경우에만 DailySchedule 생성
-                if (!assignmentsForDay.isEmpty()) {
-                    // 총 강의 수와 시간 계산
-                    int totalLessonsForDay = assignmentsForDay.size();
-                    int totalDurationForDay = assignmentsForDay.stream()
-                        .mapToInt(LessonAssignment::getAdjustedDuration)
-                        .sum();
-
-                    // DailySchedule 생성
-                    DailySchedule dailySchedule = createNewDailySchedule(
-                        plan, currentDate, totalLessonsForDay, totalDurationForDay);
-                    dailySchedules.add(dailySchedule);
-
-                    // LessonSchedule 생성
-                    for (LessonAssignment assignment : assignmentsForDay) {
-                        LessonSchedule lessonSchedule = createNewLessonSchedule(
-                            dailySchedule,
-                            assignment.getLesson(),
-                            assignment.getAdjustedDuration(),
-                            assignment.getDisplayOrder());
-                        lessonSchedules.add(lessonSchedule);
-                    }
-                }
-            }
-
-            // 다음 날짜로 이동
-            currentDate = currentDate.plusDays(1);
-        }
-
-        return new ScheduleGenerationResult(dailySchedules, lessonSchedules);
-    }
-
-    /**
-     * DayOfWeek의 순서를 숫자로 반환합니다. (MON:1, TUE:2, ...)
-     */
-    private int getDayOfWeekOrder(DayOfWeek dayOfWeek) {
-        switch (dayOfWeek) {
-            case MON:
-                return 1;
-            case TUE:
-                return 2;
-            case WED:
-                return 3;
-            case THU:
-                return 4;
-            case FRI:
-                return 5;
-            case SAT:
-                return 6;
-            case SUN:
-                return 7;
-            default:
-                return 8; // 예상치 못한 값
-        }
-    }
-
     /**
      * 새로운 DailySchedule 객체를 생성합니다.
      */
@@ -694,64 +439,35 @@ public class ScheduleGeneratorService {
     private ScheduleGenerationResult buildSchedulesForLessonsFromToday(Plan plan,
         List<Lesson> lessons) {
         // 강의별 조정된 시간 계산 (재생 속도 반영)
-        List<Integer> adjustedDurations = calculateAdjustedDurations(lessons,
-            plan.getPlaybackSpeed());
+        int[] adjustedDurations = calculateAdjustedDurations(lessons, plan.getPlaybackSpeed());
+        int studyDayMask = SchedulePlanner.studyDayMask(plan.getStudyDays());
 
-        LocalDate today = LocalDate.now();
+        int today = schedulePlanner.today();
 
         // 계획 타입에 따라 강의 배분
         if (plan.getPlanType() == PlanType.PERIOD) {
-            // PERIOD 타입인 경우, 오늘부터 endDate까지의 studyDays 날짜 계산
+            // PERIOD 타입인 경우, 오늘부터 endDate까지의 studyDays 날짜에 배분
             LocalDate endDate = plan.getEndDate();
 
             // endDate가 없거나 과거인 경우 재스케줄링하지 않음
-            if (endDate == null || endDate.isBefore(today)) {
+            if (endDate == null || endDate.toEpochDay() < today) {
                 log.warn("Plan {}의 종료일({})이 오늘({})보다 이전이거나 설정되지 않았습니다. 재스케줄링을 진행하지 않습니다.",
-                    plan.getId(), endDate, today);
+                    plan.getId(), endDate, LocalDate.ofEpochDay(today));
                 throw new ApiException(ExceptionType.PLAN_END_DATE_PASSED,
                     "계획의 종료일이 이미 지났습니다. 종료일을 업데이트한 후 다시 시도해주세요.");
             }
 
-            List<LocalDate> studyDates = calculateStudyDatesFromDate(plan, today, endDate);
-
-            if (studyDates.isEmpty()) {
+            PlannedSchedule planned = schedulePlanner.planPeriod(adjustedDurations, today,
+                (int) endDate.toEpochDay(), studyDayMask, plan.resolveDistributionStrategy());
+            if (planned.isEmpty()) {
                 log.warn("계획 {}에 대한 공부 가능 날짜가 없습니다.", plan.getId());
-                return new ScheduleGenerationResult(Collections.emptyList(),
-                    Collections.emptyList());
             }
-
-            return distributeLessonsByPeriod(plan, lessons, adjustedDurations, studyDates);
+            return toScheduleGenerationResult(plan, lessons, planned);
         } else {
             // TIME 타입은 오늘부터 studyDays와 dailyTime에 맞춰 배분
-            return distributeLessonsByTime(plan, lessons, adjustedDurations, null);
-        }
-    }
-
-    /**
-     * 강의 배정 정보를 담는 내부 클래스
-     */
-    private static class LessonAssignment {
-
-        private final Lesson lesson;
-        private final int adjustedDuration;
-        private final int displayOrder;
-
-        public LessonAssignment(Lesson lesson, int adjustedDuration, int displayOrder) {
-            this.lesson = lesson;
-            this.adjustedDuration = adjustedDuration;
-            this.displayOrder = displayOrder;
-        }
-
-        public Lesson getLesson() {
-            return lesson;
-        }
-
-        public int getAdjustedDuration() {
-            return adjustedDuration;
-        }
-
-        public int getDisplayOrder() {
-            return displayOrder;
+            PlannedSchedule planned = schedulePlanner.planTime(adjustedDurations, today,
+                plan.getDailyTime(), studyDayMask);
+            return toScheduleGenerationResult(plan, lessons, planned);
         }
     }
 
@@ -0,0 +1,282 @@
+package com.landr.service.schedule;
+
+import com.landr.domain.plan.DayOfWeek;
+import com.landr.domain.plan.DistributionStrategy;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강의 배분 알고리즘만 담당하는 계산 엔진입니다.
+ * JPA 엔티티나 LocalDate 객체를 만들지 않고 강의 시간(int[])과 epoch day(int)만으로 배치를 계산하므로,
+ * DB 없이 단독으로 테스트하거나 벤치마크할 수 있습니다.
+ * 공부 요일은 월요일(bit 0)부터 일요일(bit 6)까지의 비트 마스크로 표현합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulePlanner {
+
+    /**
+     * PERIOD 타입에서 일별 평균 강의 시간 대비 허용하는 최대 비율 (짧은 강의만 있는 경우를 고려)
+     */
+    private static final double PERIOD_DAILY_LIMIT_RATIO = 1.4;
+
+    private final Clock clock;
+
+    /**
+     * 오늘 날짜의 epoch day
+     */
+    public int today() {
+        return (int) LocalDate.now(clock).toEpochDay();
+    }
+
+    /**
+     * 공부 요일 집합을 비트 마스크로 변환합니다. (MON: bit 0 ~ SUN: bit 6)
+     */
+    public static int studyDayMask(Set<DayOfWeek> studyDays) {
+        int mask = 0;
+        for (DayOfWeek dayOfWeek : studyDays) {
+            mask |= 1 << dayOfWeek.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * epoch day의 요일 인덱스를 반환합니다. (월요일: 0 ~ 일요일: 6, 1970-01-01은 목요일)
+     */
+    public static int dayOfWeekIndex(int epochDay) {
+        return Math.floorMod(epochDay + 3, 7);
+    }
+
+    public static boolean isStudyDay(int studyDayMask, int epochDay) {
+        return (studyDayMask & (1 << dayOfWeekIndex(epochDay))) != 0;
+    }
+
+    /**
+     * 재생 속도를 반영한 강의 시간을 계산합니다.
+     */
+    public static int[] adjustDurations(int[] durations, float playbackSpeed) {
+        int[] adjusted = new int[durations.length];
+        for (int i = 0; i < durations.length; i++) {
+            adjusted[i] = Math.round(durations[i] / playbackSpeed);
+        }
+        return adjusted;
+    }
+
+    /**
+     * PERIOD 타입 배분: fromEpochDay부터 toEpochDay까지의 공부 요일에 강의 시간이 최대한 균등하게 배분되도록 합니다.
+     * 하루 배정 시간이 평균의 1.4배를 넘으면 다음 공부일로 넘어가고, 마지막 공부일에는 남은 강의를 모두 배정합니다.
+     *
+     * @param adjustedDurations 재생 속도가 반영된 강의 시간 (강의 순서대로)
+     */
+    public PlannedSchedule planPeriod(int[] adjustedDurations, int fromEpochDay, int toEpochDay,
+        int studyDayMask) {
+        int lessonCount = adjustedDurations.length;
+        int studyDayCount = countStudyDays(fromEpochDay, toEpochDay, studyDayMask);
+        if (lessonCount == 0 || studyDayCount == 0) {
+            return PlannedSchedule.empty(adjustedDurations);
+        }
+
+        long totalDuration = 0;
+        for (int duration : adjustedDurations) {
+            totalDuration += duration;
+        }
+        double dailyLimit = ((double) totalDuration / studyDayCount) * PERIOD_DAILY_LIMIT_RATIO;
+
+        // 공부일마다 최소 1개의 강의가 배정되므로 배정 날짜 수는 min(강의 수, 공부일 수)를 넘지 않음
+        int maxDays = Math.min(lessonCount, studyDayCount);
+        int[] dayEpochs = new int[maxDays];
+        int[] dayFirstLesson = new int[maxDays + 1];
+        int[] dayMinutes = new int[maxDays];
+
+        int dayCount = 0;
+        int lessonIndex = 0;
+        int remainingStudyDays = studyDayCount;
+
+        for (int day = fromEpochDay; day <= toEpochDay && lessonIndex < lessonCount; day++) {
+            if (!isStudyDay(studyDayMask, day)) {
+                continue;
+            }
+            boolean lastStudyDay = --remainingStudyDays == 0;
+
+            int firstLesson = lessonIndex;
+            int minutes = 0;
+            while (lessonIndex < lessonCount) {
+                int duration = adjustedDurations[lessonIndex];
+                if (!lastStudyDay && lessonIndex > firstLesson && minutes + duration > dailyLimit) {
+                    break;
+                }
+                minutes += duration;
+                lessonIndex++;
+            }
+
+            dayEpochs[dayCount] = day;
+            dayFirstLesson[dayCount] = firstLesson;
+            dayMinutes[dayCount] = minutes;
+            dayCount++;
+        }
+        dayFirstLesson[dayCount] = lessonCount;
+
+        return new PlannedSchedule(adjustedDurations, dayCount, dayEpochs, dayFirstLesson, dayMinutes);
+    }
+
+    /**
+     * PERIOD 타입 배분을 strategy에 따라 수행합니다.
+     */
+    public PlannedSchedule planPeriod(int[] adjustedDurations, int fromEpochDay, int toEpochDay,
+        int studyDayMask, DistributionStrategy strategy) {
+        if (strategy == DistributionStrategy.BALANCED) {
+            return planPeriodBalanced(adjustedDurations, fromEpochDay, toEpochDay, studyDayMask);
+        }
+        return planPeriod(adjustedDurations, fromEpochDay, toEpochDay, studyDayMask);
+    }
+
+    /**
+     * PERIOD 타입 균등 배분: 강의 순서를 유지하면서 하루 최대 공부 시간이 최소가 되도록 공부일에 나눕니다. (linear partition)
+     * 하루 한도를 [가장 긴 강의, 전체 시간] 범위에서 이분 탐색하고, 각 한도는 O(n) 그리디로 배정 가능 여부를 확인하므로 O(n log S)입니다.
+     *
+     * @param adjustedDurations 재생 속도가 반영된 강의 시간 (강의 순서대로)
+     */
+    public PlannedSchedule planPeriodBalanced(int[] adjustedDurations, int fromEpochDay,
+        int toEpochDay, int studyDayMask) {
+        int lessonCount = adjustedDurations.length;
+        int studyDayCount = countStudyDays(fromEpochDay, toEpochDay, studyDayMask);
+        if (lessonCount == 0 || studyDayCount == 0) {
+            return PlannedSchedule.empty(adjustedDurations);
+        }
+
+        long low = 0;
+        long high = 0;
+        for (int duration : adjustedDurations) {
+            low = Math.max(low, duration);
+            high += duration;
+        }
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (countDaysNeeded(adjustedDurations, mid) <= studyDayCount) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        long dailyLimit = low;
+
+        int maxDays = Math.min(lessonCount, studyDayCount);
+        int[] dayEpochs = new int[maxDays];
+        int[] dayFirstLesson = new int[maxDays + 1];
+        int[] dayMinutes = new int[maxDays];
+
+        int dayCount = 0;
+        int lessonIndex = 0;
+        int remainingStudyDays = studyDayCount;
+
+        for (int day = fromEpochDay; day <= toEpochDay && lessonIndex < lessonCount; day++) {
+            if (!isStudyDay(studyDayMask, day)) {
+                continue;
+            }
+            remainingStudyDays--;
+
+            int firstLesson = lessonIndex;
+            int minutes = 0;
+            while (lessonIndex < lessonCount) {
+                // 남은 강의 수가 남은 공부일 수 이하가 되면 뒤쪽 공부일이 비지 않도록 다음 날로 넘김
+                if (lessonIndex > firstLesson
+                    && (minutes + adjustedDurations[lessonIndex] > dailyLimit
+                    || lessonCount - lessonIndex <= remainingStudyDays)) {
+                    break;
+                }
+                minutes += adjustedDurations[lessonIndex];
+                lessonIndex++;
+            }
+
+            dayEpochs[dayCount] = day;
+            dayFirstLesson[dayCount] = firstLesson;
+            dayMinutes[dayCount] = minutes;
+            dayCount++;
+        }
+        dayFirstLesson[dayCount] = lessonCount;
+
+        return new PlannedSchedule(adjustedDurations, dayCount, dayEpochs, dayFirstLesson, dayMinutes);
+    }
+
+    /**
+     * 하루 한도가 dailyLimit일 때 순서대로 채우면 필요한 공부일 수를 계산합니다.
+     */
+    private static int countDaysNeeded(int[] adjustedDurations, long dailyLimit) {
+        int days = 1;
+        long minutes = 0;
+        for (int duration : adjustedDurations) {
+            if (minutes + duration > dailyLimit) {
+                days++;
+                minutes = 0;
+            }
+            minutes += duration;
+        }
+        return days;
+    }
+
+    /**
+     * TIME 타입 배분: fromEpochDay부터 공부 요일마다 dailyTime 이내로 강의를 배정합니다.
+     * 강의 하나가 dailyTime보다 길면 그 강의만 하루에 배정합니다.
+     *
+     * @param adjustedDurations 재생 속도가 반영된 강의 시간 (강의 순서대로)
+     */
+    public PlannedSchedule planTime(int[] adjustedDurations, int fromEpochDay, int dailyTime,
+        int studyDayMask) {
+        int lessonCount = adjustedDurations.length;
+        if (lessonCount == 0 || studyDayMask == 0) {
+            return PlannedSchedule.empty(adjustedDurations);
+        }
+
+        int[] dayEpochs = new int[lessonCount];
+        int[] dayFirstLesson = new int[lessonCount + 1];
+        int[] dayMinutes = new int[lessonCount];
+
+        int dayCount = 0;
+        int lessonIndex = 0;
+
+        for (int day = fromEpochDay; lessonIndex < lessonCount; day++) {
+            if (!isStudyDay(studyDayMask, day)) {
+                continue;
+            }
+
+            int firstLesson = lessonIndex;
+            int minutes = 0;
+            while (lessonIndex < lessonCount) {
+                int duration = adjustedDurations[lessonIndex];
+                if (lessonIndex > firstLesson && minutes + duration > dailyTime) {
+                    break;
+                }
+                minutes += duration;
+                lessonIndex++;
+            }
+
+            dayEpochs[dayCount] = day;
+            dayFirstLesson[dayCount] = firstLesson;
+            dayMinutes[dayCount] = minutes;
+            dayCount++;
+        }
+        dayFirstLesson[dayCount] = lessonCount;
+
+        return new PlannedSchedule(adjustedDurations, dayCount, dayEpochs, dayFirstLesson, dayMinutes);
+    }
+
+    /**
+     * 기간 내 공부 요일 수를 계산합니다. (주 단위로 계산 후 나머지 날짜만 확인)
+     */
+    static int countStudyDays(int fromEpochDay, int toEpochDay, int studyDayMask) {
+        if (toEpochDay < fromEpochDay || studyDayMask == 0) {
+            return 0;
+        }
+        int totalDays = toEpochDay - fromEpochDay + 1;
+        int count = (totalDays / 7) * Integer.bitCount(studyDayMask & 0x7F);
+        for (int day = fromEpochDay + (totalDays / 7) * 7; day <= toEpochDay; day++) {
+            if (isStudyDay(studyDayMask, day)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -1,10 +1,11 @@
 package com.landr.service.schedule;
 
-import com.landr.domain.plan.Plan;
 import com.landr.domain.schedule.DailySchedule;
 import com.landr.domain.schedule.LessonSchedule;
 import com.landr.repository.dailyschedule.DailyScheduleRepository;
 import com.landr.repository.lessonschedule.LessonScheduleRepository;
+import com.landr.repository.planprogress.PlanProgressRepository;
+import com.landr.repository.planprogress.dto.PlanProgressSummary;
 import com.landr.service.dto.DailyScheduleWithLessonsDto;
 import com.landr.service.dto.LectureProgressDto;
 import com.landr.service.dto.LessonScheduleDto;
@@ -13,7 +14,6 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -26,6 +26,7 @@ public class ScheduleService {
 
     private final DailyScheduleRepository dailyScheduleRepository;
     private final LessonScheduleRepository lessonScheduleRepository;
+    private final PlanProgressRepository planProgressRepository;
 
     /**
      * 특정 유저의 특정 날짜 일정과 수업 일정을 함께 조회합니다.
@@ -59,44 +60,27 @@ public class ScheduleService {
             .build();
     }
 
-    // TODO: 진행률 낮은 순으로 정렬하고 완강된 강의는 제외
     /**
-     * 특정 유저의 강의별 진행 상황을 조회합니다.
+     * 특정 유저의 강의별 진행 상황을 조회합니다. (계획별 진행 현황 집계 사용, 완강된 강의 제외, 진행률 낮은 순)
      */
     public UserProgressDto getUserProgress(Long userId) {
-        // 사용자의 모든 LessonSchedule 조회
-        List<LessonSchedule> allLessonSchedules = lessonScheduleRepository.findAllByUserIdGroupedByLecture(
-            userId);
-
-        // plan별로 그룹화
-        Map<Plan, List<LessonSchedule>> planMap = allLessonSchedules.stream()
-            .collect(Collectors.groupingBy(ls -> ls.getDailySchedule().getPlan()));
+        List<PlanProgressSummary> planProgress = planProgressRepository.findSummariesByUserId(userId);
 
         // 강의별 진행 상황 계산
         List<LectureProgressDto> lectureProgressList = new ArrayList<>();
         int totalCompletedLessons = 0;
-        int totalLessons = allLessonSchedules.size();
-
-        for (Map.Entry<Plan, List<LessonSchedule>> entry : planMap.entrySet()) {
-            Plan plan = entry.getKey();
-            List<LessonSchedule> lessonSchedules = entry.getValue();
-
-            // 첫 번째 LessonSchedule에서 Lecture 정보를 가져옴
-            String lectureTitle = lessonSchedules.isEmpty() ? "" :
-                lessonSchedules.get(0).getLesson().getLecture().getTitle();
-
-            int completedLessons = (int) lessonSchedules.stream()
-                .filter(LessonSchedule::isCompleted)
-                .count();
+        int totalLessons = 0;
 
-            totalCompletedLessons += completedLessons;
+        for (PlanProgressSummary progress : planProgress) {
+            totalCompletedLessons += progress.getCompletedLessons();
+            totalLessons += progress.getTotalLessons();
 
             lectureProgressList.add(LectureProgressDto.builder()
-                .planId(plan.getId())
-                .lectureAlias(plan.getLectureName())
-                .lectureName(lectureTitle)
-                .completedLessons(completedLessons)
-                .totalLessons(lessonSchedules.size())
+                .planId(progress.getPlanId())
+                .lectureAlias(progress.getLectureAlias())
+                .lectureName(progress.getLectureTitle())
+                .completedLessons(progress.getCompletedLessons())
+                .totalLessons(progress.getTotalLessons())
                 .build());
         }
 
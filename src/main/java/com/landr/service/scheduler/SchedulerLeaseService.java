@@ -0,0 +1,99 @@
+package com.landr.service.scheduler;
+
+import com.landr.repository.scheduler.SchedulerRunRepository;
+import com.landr.service.scheduler.dto.ShardSlice;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 여러 노드에서 같은 @Scheduled 작업이 동시에 실행될 때, 회차마다 한 노드만 처리하도록 실행권을 나눠 줍니다.
+ * shard-count를 2 이상으로 설정하면 사용자 ID를 샤드로 나누어 노드마다 다른 샤드를 병렬로 처리합니다.
+ * 실패한 샤드는 각 작업의 재시도 스케줄(scheduler.retry-interval)이 같은 회차 안에서 다시 처리합니다.
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+
+    private final SchedulerRunRepository schedulerRunRepository;
+    private final String nodeId;
+    private final long leaseSeconds;
+    private final int shardCount;
+
+    public SchedulerLeaseService(
+        SchedulerRunRepository schedulerRunRepository,
+        @Value("${scheduler.node-id:}") String nodeId,
+        @Value("${scheduler.lease-timeout:30m}") Duration leaseTimeout,
+        @Value("${scheduler.shard-count:1}") int shardCount
+    ) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("scheduler.shard-count는 1 이상이어야 합니다: " + shardCount);
+        }
+        this.schedulerRunRepository = schedulerRunRepository;
+        // 설정하지 않으면 "pid@hostname"을 노드 ID로 사용
+        this.nodeId = nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+        this.leaseSeconds = leaseTimeout.toSeconds();
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * 실행권을 얻은 샤드만 처리합니다.
+     * 노드마다 시작 샤드를 다르게 잡아 동시에 시작한 노드끼리 같은 샤드를 두고 경합하지 않게 합니다.
+     * 한 샤드가 실패하면 lease를 풀고 다음 샤드를 계속 처리합니다.
+     *
+     * @param jobName 작업 이름
+     * @param runKey  회차 키 (예: 실행 날짜)
+     * @param task    샤드를 처리하고 처리 건수를 반환하는 작업
+     * @return 이 노드가 처리 완료한 샤드 수
+     */
+    public int runExclusively(String jobName, String runKey, ShardTask task) {
+        int start = Math.floorMod(nodeId.hashCode(), shardCount);
+        int completedShards = 0;
+
+        for (int i = 0; i < shardCount; i++) {
+            int shardIndex = (start + i) % shardCount;
+            if (!schedulerRunRepository.tryAcquire(jobName, runKey, shardIndex, shardCount, nodeId,
+                leaseSeconds)) {
+                continue;
+            }
+
+            try {
+                int processed = task.run(new ShardSlice(shardIndex, shardCount));
+                schedulerRunRepository.complete(jobName, runKey, shardIndex, nodeId, processed);
+                completedShards++;
+                log.info("{} [{}] 샤드 {}/{} 처리 완료: {}건", jobName, runKey, shardIndex, shardCount,
+                    processed);
+            } catch (RuntimeException e) {
+                log.error("{} [{}] 샤드 {}/{} 처리 중 오류 발생", jobName, runKey, shardIndex, shardCount, e);
+                schedulerRunRepository.release(jobName, runKey, shardIndex, nodeId);
+            }
+        }
+        return completedShards;
+    }
+
+    /**
+     * 이미 시작된 회차에 완료되지 않은 샤드(실패해 lease가 풀렸거나 노드가 죽어 lease가 만료된 샤드)가 있을 때만 다시 실행합니다.
+     * 회차가 시작되지 않았으면 실행하지 않으므로 정해진 실행 시각보다 먼저 돌지 않으며,
+     * 완료된 샤드와 다른 노드가 처리 중인 샤드는 runExclusively가 건너뜁니다.
+     *
+     * @return 이 노드가 처리 완료한 샤드 수
+     */
+    public int retryIncomplete(String jobName, String runKey, ShardTask task) {
+        if (!schedulerRunRepository.hasIncompleteShards(jobName, runKey, shardCount)) {
+            return 0;
+        }
+        log.info("{} [{}] 완료되지 않은 샤드 재시도", jobName, runKey);
+        return runExclusively(jobName, runKey, task);
+    }
+
+    @FunctionalInterface
+    public interface ShardTask {
+
+        /**
+         * @return 처리 건수
+         */
+        int run(ShardSlice slice);
+    }
+}
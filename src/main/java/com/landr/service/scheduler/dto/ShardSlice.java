@@ -0,0 +1,18 @@
+package com.landr.service.scheduler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스케줄 작업이 처리할 사용자 범위
+ * user_id % count == index 인 사용자만 처리합니다. (count가 1이면 전체 사용자)
+ */
+@Getter
+@AllArgsConstructor
+public class ShardSlice {
+
+    public static final ShardSlice ALL = new ShardSlice(0, 1);
+
+    private int index;
+    private int count;
+}
@@ -1,7 +1,6 @@
 package com.landr.service.studygroup;
 
 import com.landr.controller.studygroup.dto.*;
-import com.landr.domain.plan.DayOfWeek;
 import com.landr.domain.plan.Plan;
 import com.landr.domain.studygroup.StudyGroup;
 import com.landr.domain.studygroup.StudyGroupMember;
@@ -12,9 +11,6 @@ import com.landr.repository.plan.PlanRepository;
 import com.landr.repository.studygroup.StudyGroupMemberRepository;
 import com.landr.repository.studygroup.StudyGroupRepository;
 import com.landr.service.plan.PlanService;
-import com.landr.controller.plan.dto.CreatePlanRequest;
-import java.util.HashSet;
-import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -89,25 +85,8 @@ public class StudyGroupServiceImpl implements StudyGroupService {
             throw new ApiException(ExceptionType.STUDY_GROUP_ALREADY_JOINED);
         }
 
-        // 방장의 계획을 복사해서 새로운 계획 생성
-        Plan basePlan = studyGroup.getBasePlan();
-
-        // studyDays를 새로운 HashSet으로 복사
-        Set<DayOfWeek> copiedStudyDays = new HashSet<>(basePlan.getStudyDays());
-
-        CreatePlanRequest createPlanRequest = CreatePlanRequest.builder()
-            .lectureId(basePlan.getLecture().getId())
-            .planType(basePlan.getPlanType())
-            .startLessonId(basePlan.getStartLesson().getId())
-            .endLessonId(basePlan.getEndLesson().getId())
-            .studyDayOfWeeks(copiedStudyDays)
-            .dailyTime(basePlan.getDailyTime())
-            .startDate(basePlan.getStartDate())
-            .endDate(basePlan.getEndDate())
-            .playbackSpeed(basePlan.getPlaybackSpeed())
-            .build();
-
-        Plan newPlan = planService.createPlan(createPlanRequest, user);
+        // 방장의 계획을 스케줄까지 복사해서 새로운 계획 생성
+        Plan newPlan = planService.copyPlan(studyGroup.getBasePlan(), user);
 
         // 스터디 그룹 멤버로 추가
         StudyGroupMember member = StudyGroupMember.builder()
@@ -0,0 +1,60 @@
+package com.landr.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.landr.domain.user.User;
+import com.landr.repository.user.UserRepository;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인증된 사용자(Principal)를 사용자 ID로 보관하는 인메모리 캐시입니다.
+ * 요청마다 users 테이블을 PK로 조회하지 않도록 크기와 TTL이 제한된 캐시에서 먼저 찾습니다.
+ * 사용자 정보가 바뀌는 경로(이름 변경, 탈퇴 등)에서는 반드시 evict를 호출해야 합니다.
+ */
+@Component
+public class AuthenticatedUserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, User> cache;
+
+    public AuthenticatedUserCache(
+        UserRepository userRepository,
+        @Value("${auth.user-cache.max-size:10000}") long maxSize,
+        @Value("${auth.user-cache.ttl:5m}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    /**
+     * 캐시에 없으면 DB에서 조회해 저장합니다. (존재하지 않는 사용자는 캐시하지 않음)
+     */
+    public Optional<User> get(Long userId) {
+        return Optional.ofNullable(
+            cache.get(userId, id -> userRepository.findById(id).orElse(null)));
+    }
+
+    /**
+     * 캐시에서 사용자를 제거합니다.
+     * 트랜잭션 중이면 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후에 한 번 더 제거합니다.
+     */
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
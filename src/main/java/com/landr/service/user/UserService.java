@@ -19,6 +19,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserDeviceRepository userDeviceRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     @Transactional
     public User findOrCreateUser(LoginRequest request) {
@@ -46,5 +47,6 @@ public class UserService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new ApiException(ExceptionType.USER_NOT_FOUND));
         user.updateName(newName);
+        authenticatedUserCache.evict(userId);
     }
 }
@@ -0,0 +1,91 @@
+package com.landr.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.landr.config.JwtTokenProvider.VerifiedToken;
+import com.landr.exception.ApiException;
+import com.landr.exception.ExceptionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "landr-test-secret-key-for-hs256-signing-0001";
+    private static final String OTHER_SECRET = "landr-other-secret-key-for-hs256-signing-02";
+    private static final long VALIDITY = 60_000L;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = spy(new JwtTokenProvider(SECRET, VALIDITY, 100));
+    }
+
+    @Test
+    @DisplayName("한 번 검증된 토큰은 다시 파싱하지 않고 캐시에서 사용자 ID를 반환")
+    void resolveUserId_CacheHit() {
+        // Given
+        String token = jwtTokenProvider.createToken(1L);
+
+        // When
+        Long first = jwtTokenProvider.resolveUserId(token);
+        Long second = jwtTokenProvider.resolveUserId(token);
+
+        // Then
+        assertEquals(1L, first);
+        assertEquals(1L, second);
+        verify(jwtTokenProvider, times(1)).verify(token);
+    }
+
+    @Test
+    @DisplayName("캐시 항목이 만료되었으면 토큰을 다시 검증")
+    void resolveUserId_ExpiredEntryReverified() {
+        // Given: 첫 검증 결과가 이미 만료된 상태로 캐시됨
+        String token = jwtTokenProvider.createToken(1L);
+        doReturn(new VerifiedToken(1L, System.currentTimeMillis() - 1))
+            .doCallRealMethod()
+            .when(jwtTokenProvider).verify(token);
+        jwtTokenProvider.resolveUserId(token);
+
+        // When
+        Long userId = jwtTokenProvider.resolveUserId(token);
+
+        // Then
+        assertEquals(1L, userId);
+        verify(jwtTokenProvider, times(2)).verify(token);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 INVALID_TOKEN 예외 발생")
+    void resolveUserId_ExpiredToken() {
+        // Given
+        JwtTokenProvider expiredIssuer = new JwtTokenProvider(SECRET, -VALIDITY, 100);
+        String token = expiredIssuer.createToken(1L);
+
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class,
+            () -> jwtTokenProvider.resolveUserId(token));
+        assertEquals(ExceptionType.INVALID_TOKEN, exception.getExceptionType());
+    }
+
+    @Test
+    @DisplayName("같은 사용자라도 서명이 다른 토큰은 캐시에 걸리지 않고 INVALID_TOKEN 예외 발생")
+    void resolveUserId_TamperedSignature() {
+        // Given: 정상 토큰이 캐시된 상태
+        String token = jwtTokenProvider.createToken(1L);
+        jwtTokenProvider.resolveUserId(token);
+        String tampered = new JwtTokenProvider(OTHER_SECRET, VALIDITY, 100).createToken(1L);
+
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class,
+            () -> jwtTokenProvider.resolveUserId(tampered));
+        assertEquals(ExceptionType.INVALID_TOKEN, exception.getExceptionType());
+        verify(jwtTokenProvider).verify(tampered);
+    }
+}
@@ -0,0 +1,111 @@
+package com.landr.service.home;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.landr.controller.home.dto.HomeResponse;
+import com.landr.domain.plan.DayOfWeek;
+import com.landr.repository.home.HomeQueryRepository;
+import com.landr.repository.home.dto.HomeLessonRow;
+import com.landr.repository.home.dto.HomeSummary;
+import com.landr.repository.home.dto.PlanProgressRow;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HomeServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    // 2024-01-03 (수요일)
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 3);
+    private static final LocalDate MONDAY = LocalDate.of(2024, 1, 1);
+
+    @Mock
+    private HomeQueryRepository homeQueryRepository;
+
+    private HomeService homeService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(TODAY.atStartOfDay(ZONE).toInstant(), ZONE);
+        homeService = new HomeService(homeQueryRepository, clock);
+    }
+
+    private HomeLessonRow row(LocalDate date, DayOfWeek dayOfWeek, long id, int duration,
+        int displayOrder, boolean completed) {
+        return new HomeLessonRow(date, dayOfWeek, id, "Lesson " + id, "Lecture", duration,
+            displayOrder, completed);
+    }
+
+    @Test
+    @DisplayName("홈 화면 조회 - 이번 주 일정과 집계 두 번의 조회로 구성")
+    void getHome_Success() {
+        // Given
+        List<HomeLessonRow> weekRows = List.of(
+            row(MONDAY, DayOfWeek.MON, 1L, 30, 1, true),
+            row(MONDAY, DayOfWeek.MON, 2L, 40, 2, true),
+            row(LocalDate.of(2024, 1, 2), DayOfWeek.TUE, 3L, 50, 1, false),
+            row(TODAY, DayOfWeek.WED, 4L, 20, 1, true),
+            row(TODAY, DayOfWeek.WED, 5L, 25, 2, false)
+        );
+        HomeSummary summary = new HomeSummary(
+            List.of(
+                new PlanProgressRow(1L, "별명 A", "Lecture A", 10, 5),
+                new PlanProgressRow(2L, "별명 B", "Lecture B", 10, 2),
+                new PlanProgressRow(3L, "별명 C", "Lecture C", 4, 4)
+            ),
+            7L, "수능", LocalDate.of(2024, 11, 14));
+
+        when(homeQueryRepository.findLessonRows(1L, MONDAY, MONDAY.plusDays(6))).thenReturn(weekRows);
+        when(homeQueryRepository.findSummary(1L)).thenReturn(summary);
+
+        // When
+        HomeResponse response = homeService.getHome(1L);
+
+        // Then
+        assertEquals(TODAY, response.getTodaySchedule().getDate());
+        assertEquals(2, response.getTodaySchedule().getTotalLessons());
+        assertEquals(45, response.getTodaySchedule().getTotalDuration());
+
+        assertTrue(response.getWeeklyAchievement().isMondayAchieved());
+        assertFalse(response.getWeeklyAchievement().isTuesdayAchieved());
+        assertFalse(response.getWeeklyAchievement().isWednesdayAchieved());
+        assertFalse(response.getWeeklyAchievement().isThursdayAchieved());
+
+        // 완강한 계획은 제외하고 진행률 낮은 순
+        assertEquals(2, response.getUserProgress().getLectureProgress().size());
+        assertEquals(2L, response.getUserProgress().getLectureProgress().get(0).getPlanId());
+        assertEquals(11, response.getUserProgress().getTotalCompletedLessons());
+        assertEquals(24, response.getUserProgress().getTotalLessons());
+
+        assertEquals(7L, response.getDDay().getDDayId());
+        verify(homeQueryRepository, times(1)).findLessonRows(anyLong(), any(), any());
+        verify(homeQueryRepository, times(1)).findSummary(anyLong());
+    }
+
+    @Test
+    @DisplayName("홈 화면 조회 - 일정과 D-Day가 없는 경우")
+    void getHome_Empty() {
+        // Given
+        when(homeQueryRepository.findLessonRows(1L, MONDAY, MONDAY.plusDays(6))).thenReturn(List.of());
+        when(homeQueryRepository.findSummary(1L))
+            .thenReturn(new HomeSummary(List.of(), null, null, null));
+
+        // When
+        HomeResponse response = homeService.getHome(1L);
+
+        // Then
+        assertNull(response.getTodaySchedule());
+        assertNull(response.getDDay());
+        assertEquals(0, response.getUserProgress().getTotalLessons());
+        assertFalse(response.getWeeklyAchievement().isMondayAchieved());
+    }
+}
@@ -0,0 +1,122 @@
+package com.landr.service.lecture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.landr.domain.lecture.Platform;
+import com.landr.domain.lecture.Subject;
+import com.landr.repository.lecture.dto.CatalogLecture;
+import com.landr.service.dto.lecture.LectureSuggestionDto;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LectureAutocompleteIndexTest {
+
+    private LectureAutocompleteIndex lectureAutocompleteIndex;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        lectureAutocompleteIndex = new LectureAutocompleteIndex();
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("초성, 입력 중인 글자, 완성된 글자 모두 접두어로 매칭")
+    void suggest_ChoseongAndPartialJamo() {
+        // Given
+        givenLectures(
+            lecture(1L, "미적분 개념완성", "김선생", now.minusDays(1)),
+            lecture(2L, "수학 기초", "박선생", now)
+        );
+
+        // When & Then
+        assertEquals(List.of(1L), ids(lectureAutocompleteIndex.suggest("ㅁㅈㅂ", 10)));
+        assertEquals(List.of(1L), ids(lectureAutocompleteIndex.suggest("밎", 10)));
+        assertEquals(List.of(1L), ids(lectureAutocompleteIndex.suggest("미적", 10)));
+        assertEquals(List.of(1L), ids(lectureAutocompleteIndex.suggest("미적분개", 10)));
+        assertTrue(lectureAutocompleteIndex.suggest("ㅁㅈㄱ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("제목 중간 단어와 선생님 이름으로도 매칭하고, 최신순으로 정렬")
+    void suggest_WordStartsAndTeacherByRecency() {
+        // Given
+        givenLectures(
+            lecture(1L, "2025 수능특강 국어", "김선생", now.minusDays(2)),
+            lecture(2L, "수학 기초", "김수학", now.minusDays(1)),
+            lecture(3L, "수능완성 영어", "이선생", now)
+        );
+
+        // When
+        List<LectureSuggestionDto> result = lectureAutocompleteIndex.suggest("수", 10);
+
+        // Then
+        assertEquals(Arrays.asList(3L, 2L, 1L), ids(result));
+        assertEquals(List.of(2L), ids(lectureAutocompleteIndex.suggest("김수", 10)));
+        assertEquals(Arrays.asList(2L, 1L), ids(lectureAutocompleteIndex.suggest("ㄱㅅ", 10)));
+    }
+
+    @Test
+    @DisplayName("색인 깊이보다 긴 검색어는 전체 검색어로 시작하는 강의만 반환")
+    void suggest_LongerThanIndexedKey() {
+        // Given: 자모 키의 앞 24자를 넘어서까지 같고 그 뒤가 다른 제목
+        givenLectures(
+            lecture(1L, "수능특강 수학영역 미적분 기본", "김선생", now.minusDays(1)),
+            lecture(2L, "수능특강 수학영역 미적분 심화", "이선생", now)
+        );
+
+        // When & Then
+        assertEquals(List.of(1L), ids(lectureAutocompleteIndex.suggest("수능특강 수학영역 미적분 기", 10)));
+        assertEquals(List.of(2L), ids(lectureAutocompleteIndex.suggest("수능특강 수학영역 미적분 심", 10)));
+        assertTrue(lectureAutocompleteIndex.suggest("수능특강 수학영역 미적분 응용", 10).isEmpty());
+        assertEquals(Arrays.asList(2L, 1L), ids(lectureAutocompleteIndex.suggest("수능특강 수학", 10)));
+    }
+
+    @Test
+    @DisplayName("최대 결과 수 제한")
+    void suggest_Limit() {
+        // Given
+        givenLectures(LongStream.rangeClosed(1, 15)
+            .mapToObj(id -> lecture(id, "수학 " + id, "김선생", now.plusMinutes(id)))
+            .toArray(CatalogLecture[]::new));
+
+        // When & Then
+        assertEquals(Arrays.asList(15L, 14L, 13L), ids(lectureAutocompleteIndex.suggest("수학", 3)));
+        assertEquals(LectureAutocompleteIndex.MAX_SUGGESTIONS,
+            lectureAutocompleteIndex.suggest("수학", 100).size());
+    }
+
+    @Test
+    @DisplayName("다시 만들면 새 강의 목록으로 색인을 교체")
+    void rebuild_ReplacesIndex() {
+        // Given
+        CatalogLecture existing = lecture(1L, "미적분", "김선생", now.minusDays(1));
+        givenLectures(existing, lecture(3L, "미적분 폐강", "박선생", now.minusDays(2)));
+
+        // When: 3번 강의가 빠지고 2번 강의가 추가된 스냅샷
+        givenLectures(existing, lecture(2L, "미적분 심화", "이선생", now));
+
+        // Then
+        assertEquals(Arrays.asList(2L, 1L), ids(lectureAutocompleteIndex.suggest("ㅁㅈㅂ", 10)));
+    }
+
+    private void givenLectures(CatalogLecture... lectures) {
+        lectureAutocompleteIndex.rebuild(Arrays.asList(lectures));
+    }
+
+    private List<Long> ids(List<LectureSuggestionDto> suggestions) {
+        return suggestions.stream().map(LectureSuggestionDto::getLectureId).toList();
+    }
+
+    private CatalogLecture lecture(Long id, String title, String teacher, LocalDateTime createdAt) {
+        return new CatalogLecture(id, title, teacher, Platform.MEGA, Subject.MATH, null, 10, 600,
+            createdAt);
+    }
+}
@@ -0,0 +1,114 @@
+package com.landr.service.lecture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.landr.domain.lecture.Platform;
+import com.landr.domain.lecture.Subject;
+import com.landr.repository.lecture.LectureCatalogQueryRepository;
+import com.landr.repository.lecture.dto.CatalogLecture;
+import com.landr.repository.lecture.dto.CatalogLesson;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LectureCatalogServiceTest {
+
+    @Mock
+    private LectureCatalogQueryRepository lectureCatalogQueryRepository;
+
+    @Mock
+    private LectureSearchIndex lectureSearchIndex;
+
+    @Mock
+    private LectureAutocompleteIndex lectureAutocompleteIndex;
+
+    @InjectMocks
+    private LectureCatalogService lectureCatalogService;
+
+    private List<CatalogLecture> lectures;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 9, 0);
+        lectures = List.of(
+            new CatalogLecture(1L, "수학 기초", "김선생", Platform.MEGA, Subject.MATH, null, 1, 30,
+                createdAt),
+            new CatalogLecture(2L, "미적분", "이선생", Platform.MEGA, Subject.MATH, null, 0, 0,
+                createdAt));
+    }
+
+    @Test
+    @DisplayName("카탈로그를 적재하면 같은 강의 목록으로 검색/자동완성 색인도 다시 생성")
+    void load_RebuildsIndexesFromSameSnapshot() {
+        // Given
+        givenRows(List.of(1L));
+
+        // When
+        lectureCatalogService.load();
+
+        // Then
+        assertEquals("수학 기초", lectureCatalogService.findLecture(1L).orElseThrow().getTitle());
+        assertEquals(1L, lectureCatalogService.findLesson(10L).orElseThrow().getLectureId());
+        verify(lectureSearchIndex).rebuild(lectures);
+        verify(lectureAutocompleteIndex).rebuild(lectures);
+    }
+
+    @Test
+    @DisplayName("강의/수업이 바뀌지 않았으면 카탈로그와 색인을 다시 만들지 않음")
+    void refreshIfChanged_SkipsWhenUnchanged() {
+        // Given
+        givenRows(List.of(2L, 2L, 1L, 10L));
+        lectureCatalogService.load();
+
+        // When
+        lectureCatalogService.refreshIfChanged();
+
+        // Then
+        verify(lectureCatalogQueryRepository, times(1)).forEachLecture(any());
+        verify(lectureSearchIndex, times(1)).rebuild(any());
+        verify(lectureAutocompleteIndex, times(1)).rebuild(any());
+    }
+
+    @Test
+    @DisplayName("강의가 추가되었으면 카탈로그와 색인을 함께 다시 생성")
+    void refreshIfChanged_ReloadsWhenChanged() {
+        // Given
+        givenRows(List.of(2L, 2L, 1L, 10L));
+        lectureCatalogService.load();
+        when(lectureCatalogQueryRepository.findFingerprint()).thenReturn(List.of(3L, 3L, 1L, 10L));
+
+        // When
+        lectureCatalogService.refreshIfChanged();
+
+        // Then
+        verify(lectureCatalogQueryRepository, times(2)).forEachLecture(any());
+        verify(lectureSearchIndex, times(2)).rebuild(lectures);
+        verify(lectureAutocompleteIndex, times(2)).rebuild(lectures);
+    }
+
+    private void givenRows(List<Long> fingerprint) {
+        when(lectureCatalogQueryRepository.findFingerprint()).thenReturn(fingerprint);
+        doAnswer(invocation -> {
+            lectures.forEach(invocation.<Consumer<CatalogLecture>>getArgument(0));
+            return null;
+        }).when(lectureCatalogQueryRepository).forEachLecture(any());
+        doAnswer(invocation -> {
+            invocation.<Consumer<CatalogLesson>>getArgument(0)
+                .accept(new CatalogLesson(10L, 1L, 1, 30, "1강"));
+            return null;
+        }).when(lectureCatalogQueryRepository).forEachLesson(any());
+    }
+}
@@ -0,0 +1,173 @@
+package com.landr.service.lecture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.landr.domain.lecture.Platform;
+import com.landr.domain.lecture.Subject;
+import com.landr.repository.lecture.dto.CatalogLecture;
+import com.landr.repository.lecture.dto.CatalogLesson;
+import com.landr.repository.lecture.dto.CatalogLessonRange;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LectureCatalogTest {
+
+    private LocalDateTime createdAt;
+    private LectureCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        createdAt = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_456_000);
+
+        LectureCatalog.Builder builder = new LectureCatalog.Builder();
+        builder.addLecture(lecture(1L, "수학 기초"));
+        builder.addLecture(lecture(2L, "빈 강의"));
+        builder.addLecture(lecture(3L, "미적분"));
+        builder.addLesson(new CatalogLesson(10L, 1L, 1, 30, "1강"));
+        builder.addLesson(new CatalogLesson(11L, 1L, 2, 40, "2강"));
+        builder.addLesson(new CatalogLesson(31L, 3L, 1, 50, new String("1강")));
+        builder.addLesson(new CatalogLesson(30L, 3L, 2, 60, "2강"));
+        builder.addLesson(new CatalogLesson(32L, 3L, 3, 70, "3강"));
+        // 카탈로그에 없는 강의의 수업은 버림
+        builder.addLesson(new CatalogLesson(40L, 4L, 1, 10, "1강"));
+        catalog = builder.build(7L);
+    }
+
+    @Test
+    @DisplayName("강의를 ID로 조회")
+    void findLecture() {
+        // When
+        CatalogLecture lecture = catalog.findLecture(3L).orElseThrow();
+
+        // Then
+        assertEquals(7L, catalog.version());
+        assertEquals(3, catalog.lectureCount());
+        assertEquals(5, catalog.lessonCount());
+        assertEquals("미적분", lecture.getTitle());
+        assertEquals(Platform.MEGA, lecture.getPlatform());
+        assertEquals(Subject.MATH, lecture.getSubject());
+        assertEquals(createdAt, lecture.getCreatedAt());
+        assertTrue(catalog.findLecture(4L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("수업을 ID로 조회하면 소속 강의와 순서를 함께 반환")
+    void findLesson() {
+        // When
+        CatalogLesson lesson = catalog.findLesson(30L).orElseThrow();
+
+        // Then
+        assertEquals(3L, lesson.getLectureId());
+        assertEquals(2, lesson.getOrder());
+        assertEquals(60, lesson.getDuration());
+        assertEquals(1L, catalog.findLesson(11L).orElseThrow().getLectureId());
+        assertTrue(catalog.findLesson(40L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("강의의 수업을 순서 범위로 조회")
+    void findLessonsBetween() {
+        // When & Then
+        assertEquals(Arrays.asList(30L, 32L), ids(catalog.findLessonsBetween(3L, 2, 3).orElseThrow()));
+        assertEquals(Arrays.asList(31L, 30L, 32L), ids(catalog.findLessons(3L).orElseThrow()));
+        assertEquals(Arrays.asList(10L, 11L), ids(catalog.findLessons(1L).orElseThrow()));
+        assertTrue(catalog.findLessons(2L).orElseThrow().isEmpty());
+        assertTrue(catalog.findLessons(4L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("수업 구간의 수업 수와 총 시간을 누적합으로 계산")
+    void summarizeLessonsBetween() {
+        // When
+        CatalogLessonRange range = catalog.summarizeLessonsBetween(3L, 2, 3).orElseThrow();
+
+        // Then
+        assertEquals(2, range.getLessonCount());
+        assertEquals(130L, range.getTotalDuration());
+        assertEquals(87L, range.estimateDuration(1.5f));
+        assertEquals(70L, catalog.summarizeLessonsBetween(1L, 1, 2).orElseThrow().getTotalDuration());
+        assertEquals(0, catalog.summarizeLessonsBetween(2L, 1, 10).orElseThrow().getLessonCount());
+        assertEquals(0, catalog.summarizeLessonsBetween(3L, 3, 2).orElseThrow().getLessonCount());
+        assertTrue(catalog.summarizeLessonsBetween(4L, 1, 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("수업 순서가 비어 있어도 구간을 정확히 계산")
+    void summarizeLessonsBetween_OrderGaps() {
+        // Given
+        LectureCatalog.Builder builder = new LectureCatalog.Builder();
+        builder.addLecture(lecture(1L, "수학"));
+        builder.addLesson(new CatalogLesson(1L, 1L, 1, 10, "1강"));
+        builder.addLesson(new CatalogLesson(2L, 1L, 2, 20, "2강"));
+        builder.addLesson(new CatalogLesson(4L, 1L, 4, 40, "4강"));
+        builder.addLesson(new CatalogLesson(5L, 1L, 5, 50, "5강"));
+        LectureCatalog gapped = builder.build(1L);
+
+        // When & Then
+        assertEquals(2, gapped.summarizeLessonsBetween(1L, 2, 4).orElseThrow().getLessonCount());
+        assertEquals(90L, gapped.summarizeLessonsBetween(1L, 3, 5).orElseThrow().getTotalDuration());
+        assertEquals(Arrays.asList(4L, 5L), ids(gapped.findLessonsBetween(1L, 3, 9).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("순서가 같은 수업이 있어도 적재하고 구간에 모두 포함")
+    void duplicateOrders() {
+        // Given
+        LectureCatalog.Builder builder = new LectureCatalog.Builder();
+        builder.addLecture(lecture(1L, "수학"));
+        builder.addLesson(new CatalogLesson(1L, 1L, 1, 10, "1강"));
+        builder.addLesson(new CatalogLesson(2L, 1L, 2, 20, "2강"));
+        builder.addLesson(new CatalogLesson(3L, 1L, 2, 25, "2강 보충"));
+        builder.addLesson(new CatalogLesson(4L, 1L, 3, 30, "3강"));
+        LectureCatalog duplicated = builder.build(1L);
+
+        // When & Then
+        assertEquals(Arrays.asList(2L, 3L), ids(duplicated.findLessonsBetween(1L, 2, 2).orElseThrow()));
+        assertEquals(Arrays.asList(2L, 3L, 4L),
+            ids(duplicated.findLessonsBetween(1L, 2, 3).orElseThrow()));
+        assertEquals(3, duplicated.summarizeLessonsBetween(1L, 1, 2).orElseThrow().getLessonCount());
+        assertEquals(75L, duplicated.summarizeLessonsBetween(1L, 2, 3).orElseThrow().getTotalDuration());
+        assertEquals(2, duplicated.findLesson(3L).orElseThrow().getOrder());
+    }
+
+    @Test
+    @DisplayName("반복되는 문자열은 한 인스턴스로 공유")
+    void sharesRepeatedStrings() {
+        // When
+        CatalogLesson first = catalog.findLesson(10L).orElseThrow();
+        CatalogLesson second = catalog.findLesson(31L).orElseThrow();
+
+        // Then
+        assertSame(first.getTitle(), second.getTitle());
+    }
+
+    @Test
+    @DisplayName("정렬 순서를 지키지 않으면 예외 발생")
+    void builder_RejectsUnorderedInput() {
+        // Given
+        LectureCatalog.Builder builder = new LectureCatalog.Builder();
+        builder.addLecture(lecture(2L, "미적분"));
+        builder.addLesson(new CatalogLesson(21L, 2L, 2, 30, "2강"));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> builder.addLecture(lecture(1L, "수학")));
+        assertThrows(IllegalArgumentException.class,
+            () -> builder.addLesson(new CatalogLesson(20L, 2L, 1, 30, "1강")));
+    }
+
+    private List<Long> ids(List<CatalogLesson> lessons) {
+        return lessons.stream().map(CatalogLesson::getId).toList();
+    }
+
+    private CatalogLecture lecture(Long id, String title) {
+        return new CatalogLecture(id, title, "김선생", Platform.MEGA, Subject.MATH, "기초",
+            10, 600, createdAt);
+    }
+}
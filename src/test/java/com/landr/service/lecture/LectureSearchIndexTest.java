@@ -0,0 +1,151 @@
+package com.landr.service.lecture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.landr.controller.lecture.LectureSearchRequest;
+import com.landr.domain.lecture.Platform;
+import com.landr.domain.lecture.Subject;
+import com.landr.repository.lecture.dto.CatalogLecture;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LectureSearchIndexTest {
+
+    private LectureSearchIndex lectureSearchIndex;
+
+    private LocalDateTime now;
+    private LectureSearchRequest request;
+
+    @BeforeEach
+    void setUp() {
+        lectureSearchIndex = new LectureSearchIndex();
+        now = LocalDateTime.now();
+        request = new LectureSearchRequest();
+        request.setOffset(10);
+    }
+
+    @Test
+    @DisplayName("제목, 선생님, 태그에 검색어가 포함된 강의를 최신순으로 반환")
+    void search_MatchesTitleTeacherAndTag() {
+        // Given
+        givenLectures(
+            lecture(1L, "수학 기초", "김선생", "개념", Platform.MEGA, Subject.MATH, now.minusDays(3)),
+            lecture(2L, "영어 문법", "수학왕", "문법", Platform.ETOOS, Subject.ENG, now.minusDays(2)),
+            lecture(3L, "국어 독해", "박선생", "수학능력", Platform.EBSI, Subject.KOR, now.minusDays(1)),
+            lecture(4L, "물리 개념", "이선생", "과학", Platform.MEGA, Subject.MATH, now)
+        );
+
+        // When
+        request.setSearch("수학");
+        List<Long> ids = lectureSearchIndex.search(request);
+
+        // Then
+        assertEquals(Arrays.asList(3L, 2L, 1L), ids);
+    }
+
+    @Test
+    @DisplayName("두 글자 조각이 모두 있어도 연속되지 않으면 제외 (LIKE와 같은 결과)")
+    void search_RequiresContiguousMatch() {
+        // Given: "수학"과 "학기"를 모두 포함하지만 "수학기"는 없음
+        givenLectures(
+            lecture(1L, "수학 학기말", "김선생", null, Platform.MEGA, Subject.MATH, now),
+            lecture(2L, "수학기초", "이선생", null, Platform.MEGA, Subject.MATH, now.minusDays(1))
+        );
+
+        // When
+        request.setSearch("수학기");
+        List<Long> ids = lectureSearchIndex.search(request);
+
+        // Then
+        assertEquals(List.of(2L), ids);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색, 대소문자 무시, 분리된 한글 자모 입력 처리")
+    void search_SingleCharacterCaseAndNormalization() {
+        // Given
+        givenLectures(
+            lecture(1L, "EBS 수능특강", "김선생", null, Platform.EBSI, Subject.KOR, now),
+            lecture(2L, "영어 독해", "이선생", null, Platform.MEGA, Subject.ENG, now.minusDays(1))
+        );
+
+        // When & Then
+        request.setSearch("ebs");
+        assertEquals(List.of(1L), lectureSearchIndex.search(request));
+
+        request.setSearch("독");
+        assertEquals(List.of(2L), lectureSearchIndex.search(request));
+
+        request.setSearch(Normalizer.normalize("수능", Normalizer.Form.NFD));
+        assertEquals(List.of(1L), lectureSearchIndex.search(request));
+
+        request.setSearch("물리");
+        assertTrue(lectureSearchIndex.search(request).isEmpty());
+    }
+
+    @Test
+    @DisplayName("플랫폼, 과목 필터와 커서를 적용하고 offset + 1개까지 반환")
+    void search_AppliesFiltersCursorAndLimit() {
+        // Given
+        givenLectures(
+            lecture(1L, "수학 1", "김선생", null, Platform.MEGA, Subject.MATH, now.minusDays(4)),
+            lecture(2L, "수학 2", "김선생", null, Platform.MEGA, Subject.MATH, now.minusDays(3)),
+            lecture(3L, "수학 3", "김선생", null, Platform.ETOOS, Subject.MATH, now.minusDays(2)),
+            lecture(4L, "수학 4", "김선생", null, Platform.MEGA, Subject.MATH, now.minusDays(1)),
+            lecture(5L, "수학 5", "김선생", null, Platform.MEGA, Subject.MATH, now)
+        );
+        request.setSearch("수학");
+        request.setPlatform(Platform.MEGA);
+        request.setOffset(1);
+
+        // When
+        List<Long> firstPage = lectureSearchIndex.search(request);
+        request.setCursorLectureId(4L);
+        request.setCursorCreatedAt(now.minusDays(1));
+        List<Long> secondPage = lectureSearchIndex.search(request);
+
+        // Then
+        assertEquals(Arrays.asList(5L, 4L), firstPage);
+        assertEquals(Arrays.asList(2L, 1L), secondPage);
+    }
+
+    @Test
+    @DisplayName("다시 만들면 새 강의 목록으로 색인을 교체")
+    void rebuild_ReplacesIndex() {
+        // Given
+        CatalogLecture existing = lecture(1L, "수학 기초", "김선생", null, Platform.MEGA, Subject.MATH,
+            now.minusDays(1));
+        givenLectures(existing, lecture(3L, "수학 폐강", "박선생", null, Platform.MEGA, Subject.MATH,
+            now.minusDays(2)));
+
+        // When: 3번 강의가 빠지고 2번 강의가 추가된 스냅샷
+        givenLectures(existing,
+            lecture(2L, "수학 심화", "이선생", null, Platform.MEGA, Subject.MATH, now));
+
+        // Then
+        request.setSearch("수학");
+        assertEquals(Arrays.asList(2L, 1L), lectureSearchIndex.search(request));
+    }
+
+    @Test
+    @DisplayName("색인 생성 전에는 준비되지 않은 상태")
+    void isReady_BeforeRebuild() {
+        assertFalse(lectureSearchIndex.isReady());
+    }
+
+    private void givenLectures(CatalogLecture... lectures) {
+        lectureSearchIndex.rebuild(Arrays.asList(lectures));
+    }
+
+    private CatalogLecture lecture(Long id, String title, String teacher, String tag,
+        Platform platform, Subject subject, LocalDateTime createdAt) {
+        return new CatalogLecture(id, title, teacher, platform, subject, tag, 10, 600, createdAt);
+    }
+}
@@ -11,6 +11,7 @@ import com.landr.domain.lecture.Lesson;
 import com.landr.domain.lecture.Platform;
 import com.landr.domain.lecture.Subject;
 import com.landr.repository.lecture.LectureRepository;
+import com.landr.repository.lecture.dto.CatalogLesson;
 import com.landr.repository.lesson.LessonRepository;
 import com.landr.service.dto.lecture.CursorPageResponseDto;
 import com.landr.service.dto.lecture.LectureResponseDto;
@@ -18,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +37,15 @@ class LectureServiceTest {
     @Mock
     private LessonRepository lessonRepository;
 
+    @Mock
+    private LectureSearchIndex lectureSearchIndex;
+
+    @Mock
+    private LectureAutocompleteIndex lectureAutocompleteIndex;
+
+    @Mock
+    private LectureCatalogService lectureCatalogService;
+
     @InjectMocks
     private LectureService lectureService;
 
@@ -157,6 +168,26 @@ class LectureServiceTest {
         assertEquals("수학 기초", result.getData().get(0).getTitle());
     }
 
+    @Test
+    @DisplayName("강의 검색 - 색인에서 찾은 ID 순서대로 반환")
+    void searchLatestLectures_UsesIndex() {
+        // Given
+        searchRequest.setSearch("선생");
+        when(lectureSearchIndex.isReady()).thenReturn(true);
+        when(lectureSearchIndex.search(searchRequest)).thenReturn(Arrays.asList(3L, 1L));
+        when(lectureRepository.findAllById(Arrays.asList(3L, 1L)))
+            .thenReturn(Arrays.asList(lecture1, lecture3));
+
+        // When
+        CursorPageResponseDto<LectureResponseDto> result = lectureService.searchLatestLectures(searchRequest);
+
+        // Then
+        assertEquals(2, result.getData().size());
+        assertEquals("국어 독해", result.getData().get(0).getTitle());
+        assertEquals("수학 기초", result.getData().get(1).getTitle());
+        verify(lectureRepository, never()).findLatestLecturesBySearch(any(LectureSearchRequest.class));
+    }
+
     @Test
     @DisplayName("강의 검색 - 결과 없음")
     void searchLatestLectures_NoResults() {
@@ -205,4 +236,22 @@ class LectureServiceTest {
         assertNotNull(result);
         assertTrue(result.getLessons().isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("강의별 레슨 목록 조회 - 카탈로그에 있으면 DB를 조회하지 않음")
+    void getLessonsByLectureId_FromCatalog() {
+        // Given
+        Long lectureId = 1L;
+        when(lectureCatalogService.findLessons(lectureId)).thenReturn(Optional.of(Arrays.asList(
+            new CatalogLesson(1L, lectureId, 1, 30, "1강. 집합의 개념"),
+            new CatalogLesson(2L, lectureId, 2, 40, "2강. 명제"))));
+
+        // When
+        LessonsResponseDto result = lectureService.getLessonsByLectureId(lectureId);
+
+        // Then
+        assertEquals(2, result.getLessons().size());
+        assertEquals("1강. 집합의 개념", result.getLessons().get(0).getTitle());
+        verify(lessonRepository, never()).findLessonsByLectureId(any());
+    }
+}
@@ -4,7 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,13 +22,26 @@ import com.landr.domain.schedule.LessonSchedule;
 import com.landr.exception.ApiException;
 import com.landr.exception.ExceptionType;
 import com.landr.repository.lessonschedule.LessonScheduleRepository;
+import com.landr.repository.lessonschedule.dto.DailyCompletionCount;
+import com.landr.repository.planprogress.PlanProgressRepository;
+import com.landr.repository.statistics.StudyStatisticsRollupRepository;
+import com.landr.repository.studyactivity.StudyActivityRepository;
+import com.landr.service.dto.WeeklyAchievementDto;
+import jakarta.persistence.EntityManager;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +50,21 @@ class LessonScheduleServiceTest {
     @Mock
     private LessonScheduleRepository lessonScheduleRepository;
 
+    @Mock
+    private PlanProgressRepository planProgressRepository;
+
+    @Mock
+    private StudyActivityRepository studyActivityRepository;
+
+    @Mock
+    private StudyStatisticsRollupRepository studyStatisticsRollupRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private Clock clock = Clock.systemDefaultZone();
+
     @InjectMocks
     private LessonScheduleService lessonScheduleService;
 
@@ -66,6 +100,10 @@ class LessonScheduleServiceTest {
             java.lang.reflect.Field planField = DailySchedule.class.getDeclaredField("plan");
             planField.setAccessible(true);
             planField.set(dailySchedule, plan);
+
+            java.lang.reflect.Field dateField = DailySchedule.class.getDeclaredField("date");
+            dateField.setAccessible(true);
+            dateField.set(dailySchedule, LocalDate.now());
         } catch (Exception e) {
             // Handle reflection exceptions
         }
@@ -85,16 +123,26 @@ class LessonScheduleServiceTest {
         assertTrue(result);
         assertTrue(lessonSchedule.isCompleted());
         verify(lessonScheduleRepository, times(1)).findByIdAndUserId(lessonScheduleId, userId);
+        verify(planProgressRepository, times(1))
+            .incrementCompleted(any(), anyInt(), any(LocalDateTime.class));
+        verify(studyActivityRepository, times(1))
+            .incrementCompleted(userId, (int) lessonSchedule.getUpdatedAt().toLocalDate().toEpochDay());
+        verify(studyStatisticsRollupRepository, never()).rebuildUserMonth(any(), any());
     }
 
     @Test
     @DisplayName("수업 일정 체크 토글 성공 - 완료 → 미완료")
     void toggleCheck_FromTrueToFalse_Success() {
         // Given
+        LocalDateTime completedAt = LocalDateTime.of(2025, 3, 10, 21, 30);
         try {
             java.lang.reflect.Field completedField = LessonSchedule.class.getDeclaredField("completed");
             completedField.setAccessible(true);
             completedField.set(lessonSchedule, true);
+
+            java.lang.reflect.Field updatedAtField = LessonSchedule.class.getDeclaredField("updatedAt");
+            updatedAtField.setAccessible(true);
+            updatedAtField.set(lessonSchedule, completedAt);
         } catch (Exception e) {
             // Handle reflection exceptions
         }
@@ -109,6 +157,81 @@ class LessonScheduleServiceTest {
         assertFalse(result);
         assertFalse(lessonSchedule.isCompleted());
         verify(lessonScheduleRepository, times(1)).findByIdAndUserId(lessonScheduleId, userId);
+        verify(planProgressRepository, times(1)).decrementCompleted(any(), anyInt());
+        // 취소 시에는 원래 완료한 날짜의 학습 활동에서 차감
+        verify(studyActivityRepository, times(1))
+            .decrementCompleted(eq(userId), eq((int) completedAt.toLocalDate().toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("지난 달 수업 체크 시 해당 월 통계 집계를 다시 만든다")
+    void toggleCheck_PastMonth_RebuildsRollup() {
+        // Given
+        LocalDate lastMonthDate = LocalDate.now().minusMonths(1);
+        try {
+            java.lang.reflect.Field dateField = DailySchedule.class.getDeclaredField("date");
+            dateField.setAccessible(true);
+            dateField.set(lessonSchedule.getDailySchedule(), lastMonthDate);
+        } catch (Exception e) {
+            // Handle reflection exceptions
+        }
+
+        when(lessonScheduleRepository.findByIdAndUserId(lessonScheduleId, userId))
+            .thenReturn(Optional.of(lessonSchedule));
+
+        // When
+        lessonScheduleService.toggleCheck(lessonScheduleId, userId);
+
+        // Then
+        verify(studyStatisticsRollupRepository, times(1))
+            .rebuildUserMonth(userId, YearMonth.from(lastMonthDate));
+    }
+
+    @Test
+    @DisplayName("지난 달 수업 체크 취소 시 취소가 반영된 뒤에 통계 집계를 다시 만든다")
+    void toggleCheck_UncheckPastMonth_FlushesBeforeRebuild() {
+        // Given
+        LocalDate lastMonthDate = LocalDate.now().minusMonths(1);
+        try {
+            java.lang.reflect.Field completedField = LessonSchedule.class.getDeclaredField("completed");
+            completedField.setAccessible(true);
+            completedField.set(lessonSchedule, true);
+
+            java.lang.reflect.Field updatedAtField = LessonSchedule.class.getDeclaredField("updatedAt");
+            updatedAtField.setAccessible(true);
+            updatedAtField.set(lessonSchedule, lastMonthDate.atTime(21, 0));
+
+            java.lang.reflect.Field dateField = DailySchedule.class.getDeclaredField("date");
+            dateField.setAccessible(true);
+            dateField.set(lessonSchedule.getDailySchedule(), lastMonthDate);
+        } catch (Exception e) {
+            // Handle reflection exceptions
+        }
+
+        when(lessonScheduleRepository.findByIdAndUserId(lessonScheduleId, userId))
+            .thenReturn(Optional.of(lessonSchedule));
+
+        // flush 시점에 DB에 반영되는 완료 여부를 기록하고, 집계는 그 값만 보고 다시 만든다고 가정
+        boolean[] flushedCompleted = {true};
+        doAnswer(invocation -> {
+            flushedCompleted[0] = lessonSchedule.isCompleted();
+            return null;
+        }).when(entityManager).flush();
+        int[] rebuiltCompletedLessons = {-1};
+        doAnswer(invocation -> {
+            rebuiltCompletedLessons[0] = flushedCompleted[0] ? 1 : 0;
+            return null;
+        }).when(studyStatisticsRollupRepository).rebuildUserMonth(userId, YearMonth.from(lastMonthDate));
+
+        // When
+        lessonScheduleService.toggleCheck(lessonScheduleId, userId);
+
+        // Then
+        assertEquals(0, rebuiltCompletedLessons[0]);
+        InOrder inOrder = inOrder(entityManager, studyStatisticsRollupRepository);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(studyStatisticsRollupRepository)
+            .rebuildUserMonth(userId, YearMonth.from(lastMonthDate));
     }
 
     @Test
@@ -124,4 +247,26 @@ class LessonScheduleServiceTest {
         assertEquals(ExceptionType.LESSON_SCHEDULE_NOT_FOUND, exception.getExceptionType());
         verify(lessonScheduleRepository, times(1)).findByIdAndUserId(lessonScheduleId, userId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이번주 학습 성취율 - 한 번의 집계로 요일별 완료 여부 계산")
+    void getWeeklyAchievement_Success() {
+        // Given: 월요일 모두 완료, 화요일 일부 완료, 나머지 일정 없음
+        LocalDate monday = LocalDate.now().with(java.time.DayOfWeek.MONDAY);
+        when(lessonScheduleRepository.countDailyCompletionByUserIdAndDateRange(
+            userId, monday, monday.plusDays(6)))
+            .thenReturn(Arrays.asList(
+                new DailyCompletionCount(monday, 3L, 3L),
+                new DailyCompletionCount(monday.plusDays(1), 2L, 1L)
+            ));
+
+        // When
+        WeeklyAchievementDto result = lessonScheduleService.getWeeklyAchievement(userId);
+
+        // Then
+        assertTrue(result.isMondayAchieved());
+        assertFalse(result.isTuesdayAchieved());
+        assertFalse(result.isWednesdayAchieved());
+        assertFalse(result.isSundayAchieved());
+    }
+}
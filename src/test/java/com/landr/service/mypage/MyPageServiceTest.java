@@ -3,9 +3,9 @@ package com.landr.service.mypage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
@@ -13,26 +13,34 @@ import com.landr.domain.lecture.Lecture;
 import com.landr.domain.lecture.Platform;
 import com.landr.domain.lecture.Subject;
 import com.landr.domain.plan.Plan;
+import com.landr.domain.plan.PlanProgress;
 import com.landr.domain.schedule.DailySchedule;
-import com.landr.domain.schedule.LessonSchedule;
 import com.landr.domain.user.User;
-import com.landr.repository.lessonschedule.LessonScheduleRepository;
+import com.landr.exception.ApiException;
 import com.landr.repository.plan.PlanRepository;
+import com.landr.repository.planprogress.PlanProgressRepository;
+import com.landr.repository.statistics.StudyStatisticsQueryRepository;
+import com.landr.repository.statistics.StudyStatisticsRollupRepository;
+import com.landr.repository.statistics.dto.StudyTimeRow;
+import com.landr.repository.studyactivity.StudyActivityRepository;
 import com.landr.service.dto.DailyScheduleWithLessonsDto;
 import com.landr.service.mypage.dto.MyPage;
 import com.landr.service.mypage.dto.MyPageStatistics;
+import com.landr.service.mypage.dto.SubjectAchievementDto;
 import com.landr.service.schedule.ScheduleService;
+import java.time.Clock;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,18 +50,29 @@ class MyPageServiceTest {
     private PlanRepository planRepository;
 
     @Mock
-    private LessonScheduleRepository lessonScheduleRepository;
+    private PlanProgressRepository planProgressRepository;
 
     @Mock
     private ScheduleService scheduleService;
 
+    @Mock
+    private StudyStatisticsQueryRepository studyStatisticsQueryRepository;
+
+    @Mock
+    private StudyStatisticsRollupRepository studyStatisticsRollupRepository;
+
+    @Mock
+    private StudyActivityRepository studyActivityRepository;
+
+    @Spy
+    private Clock clock = Clock.systemDefaultZone();
+
     @InjectMocks
     private MyPageServiceImpl myPageService;
 
     private User user;
     private Plan plan1, plan2;
     private Lecture lecture1, lecture2;
-    private LessonSchedule lessonSchedule1, lessonSchedule2, lessonSchedule3;
     private DailySchedule dailySchedule;
 
     @BeforeEach
@@ -121,11 +140,9 @@ class MyPageServiceTest {
         when(scheduleService.getUserDailySchedules(user.getId(), LocalDate.now()))
             .thenReturn(todaySchedule);
 
-        when(lessonScheduleRepository.findByPlanIdAndUserId(eq(user.getId()), anyLong()))
-            .thenReturn(Collections.emptyList());
-
-        when(lessonScheduleRepository.existsCompletedLessonOnDate(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
-            .thenReturn(true);
+        int today = (int) LocalDate.now().toEpochDay();
+        when(studyActivityRepository.findActiveEpochDays(eq(user.getId()), anyInt(), eq(today)))
+            .thenReturn(Collections.singletonList(today));
 
         // When
         MyPage result = myPageService.getMyPageInfo(user);
@@ -142,18 +159,6 @@ class MyPageServiceTest {
     @DisplayName("마이페이지 정보 조회 - 완료된 계획이 있는 경우")
     void getMyPageInfo_WithCompletedPlans() {
         // Given
-        lessonSchedule1 = LessonSchedule.builder()
-            .id(1L)
-            .dailySchedule(dailySchedule)
-            .completed(true)
-            .build();
-
-        lessonSchedule2 = LessonSchedule.builder()
-            .id(2L)
-            .dailySchedule(dailySchedule)
-            .completed(true)
-            .build();
-
         when(planRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAt(user.getId()))
             .thenReturn(Arrays.asList(plan1, plan2));
 
@@ -161,12 +166,10 @@ class MyPageServiceTest {
             .thenReturn(null);
 
         // plan1은 완료, plan2는 진행중
-        when(lessonScheduleRepository.findByPlanIdAndUserId(user.getId(), plan1.getId()))
-            .thenReturn(Arrays.asList(lessonSchedule1, lessonSchedule2));
-
-        when(lessonScheduleRepository.findByPlanIdAndUserId(user.getId(), plan2.getId()))
+        when(planProgressRepository.findAllById(Arrays.asList(plan1.getId(), plan2.getId())))
             .thenReturn(Arrays.asList(
-                LessonSchedule.builder().completed(false).build()
+                PlanProgress.builder().planId(plan1.getId()).totalLessons(2).completedLessons(2).build(),
+                PlanProgress.builder().planId(plan2.getId()).totalLessons(1).completedLessons(0).build()
             ));
 
         // When
@@ -176,6 +179,15 @@ class MyPageServiceTest {
         assertEquals(1, result.getCompletedLectureCount());
         assertEquals(1, result.getInProgressLectureCount());
         assertEquals(1, result.getCompletedPlanList().size());
+        assertEquals(plan1.getId(), result.getCompletedPlanList().get(0).getPlanId());
+
+        // 과목별 성취율도 같은 진행 현황으로 계산
+        SubjectAchievementDto math = result.getSubjectAchievementList().stream()
+            .filter(dto -> dto.getSubject() == Subject.MATH)
+            .findFirst()
+            .orElseThrow();
+        assertEquals(2, math.getTotalLessons());
+        assertEquals(2, math.getCompletedLessons());
     }
 
     @Test
@@ -186,7 +198,7 @@ class MyPageServiceTest {
         LocalDate startDate = targetMonth.atDay(1);
         LocalDate endDate = targetMonth.atEndOfMonth();
 
-        when(lessonScheduleRepository.findCompletedLessonSchedulesInMonth(user.getId(), startDate, endDate))
+        when(studyStatisticsQueryRepository.findWeeklySubjectMinutes(user.getId(), startDate, endDate))
             .thenReturn(Arrays.asList());
 
         // When
@@ -200,6 +212,93 @@ class MyPageServiceTest {
         assertFalse(result.getWeeklyTimes().isEmpty());
     }
 
+    @Test
+    @DisplayName("월별 통계 조회 - 과목별, 주차별 집계 행으로 통계 생성")
+    void getMonthlyStatistics_AggregatesRows() {
+        // Given: 2025-06-01(일)은 1주차, 06-02(월)부터 2주차
+        YearMonth targetMonth = YearMonth.of(2025, 6);
+        when(studyStatisticsQueryRepository.findWeeklySubjectMinutes(
+            user.getId(), targetMonth.atDay(1), targetMonth.atEndOfMonth()))
+            .thenReturn(Arrays.asList(
+                new StudyTimeRow(Subject.MATH, LocalDate.of(2025, 6, 1), 30),
+                new StudyTimeRow(Subject.MATH, LocalDate.of(2025, 6, 2), 90),
+                new StudyTimeRow(Subject.ENG, LocalDate.of(2025, 6, 2), 40)
+            ));
+
+        // When
+        MyPageStatistics result = myPageService.getMonthlyStatistics(user.getId(), targetMonth);
+
+        // Then
+        assertEquals(160L, result.getTotalStudyMinutes());
+        assertEquals(Subject.MATH, result.getSubjectTimes().get(0).getSubject());
+        assertEquals(120L, result.getSubjectTimes().get(0).getTotalMinutes());
+        assertEquals(75.0, result.getSubjectTimes().get(0).getPercentage());
+        assertEquals(30L, result.getWeeklyTimes().get(0).getTotalMinutes());
+        assertEquals(130L, result.getWeeklyTimes().get(1).getTotalMinutes());
+        assertEquals(0L, result.getWeeklyTimes().get(2).getTotalMinutes());
+    }
+
+    @Test
+    @DisplayName("기간별 통계 조회 - 한 번의 조회를 월별로 나눔")
+    void getStatistics_Range() {
+        // Given
+        YearMonth from = YearMonth.of(2025, 1);
+        YearMonth to = YearMonth.of(2025, 3);
+        when(studyStatisticsQueryRepository.findWeeklySubjectMinutes(
+            user.getId(), from.atDay(1), to.atEndOfMonth()))
+            .thenReturn(Arrays.asList(
+                new StudyTimeRow(Subject.MATH, LocalDate.of(2025, 1, 27), 50),
+                new StudyTimeRow(Subject.MATH, LocalDate.of(2025, 3, 1), 20)
+            ));
+
+        // When
+        List<MyPageStatistics> result = myPageService.getStatistics(user.getId(), from, to);
+
+        // Then
+        assertEquals(3, result.size());
+        assertEquals(from, result.get(0).getDate());
+        assertEquals(50L, result.get(0).getTotalStudyMinutes());
+        assertEquals(0L, result.get(1).getTotalStudyMinutes());
+        assertTrue(result.get(1).getSubjectTimes().isEmpty());
+        assertEquals(20L, result.get(2).getTotalStudyMinutes());
+    }
+
+    @Test
+    @DisplayName("기간별 통계 조회 - 집계된 지난 달은 원본을 다시 읽지 않음")
+    void getStatistics_UsesRollupForClosedMonths() {
+        // Given: 두 달 전은 집계됨, 지난 달과 이번 달은 원본에서 합산
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth from = currentMonth.minusMonths(2);
+        YearMonth lastMonth = currentMonth.minusMonths(1);
+        when(studyStatisticsRollupRepository.findRows(user.getId(), from, lastMonth))
+            .thenReturn(Arrays.asList(
+                new StudyTimeRow(Subject.MATH, from.atDay(1), 100)
+            ));
+        when(studyStatisticsQueryRepository.findWeeklySubjectMinutes(
+            user.getId(), lastMonth.atDay(1), currentMonth.atEndOfMonth()))
+            .thenReturn(Arrays.asList(
+                new StudyTimeRow(Subject.ENG, lastMonth.atDay(1), 40),
+                new StudyTimeRow(Subject.ENG, currentMonth.atDay(1), 10)
+            ));
+
+        // When
+        List<MyPageStatistics> result = myPageService.getStatistics(user.getId(), from, currentMonth);
+
+        // Then
+        assertEquals(100L, result.get(0).getTotalStudyMinutes());
+        assertEquals(40L, result.get(1).getTotalStudyMinutes());
+        assertEquals(10L, result.get(2).getTotalStudyMinutes());
+    }
+
+    @Test
+    @DisplayName("기간별 통계 조회 - 12개월을 넘거나 순서가 잘못된 기간")
+    void getStatistics_InvalidRange() {
+        assertThrows(ApiException.class, () -> myPageService.getStatistics(
+            user.getId(), YearMonth.of(2025, 1), YearMonth.of(2026, 1)));
+        assertThrows(ApiException.class, () -> myPageService.getStatistics(
+            user.getId(), YearMonth.of(2025, 5), YearMonth.of(2025, 4)));
+    }
+
     @Test
     @DisplayName("연속 학습일 계산")
     void calculateStudyStreak_Success() {
@@ -210,13 +309,10 @@ class MyPageServiceTest {
         when(scheduleService.getUserDailySchedules(user.getId(), LocalDate.now()))
             .thenReturn(null);
 
-        when(lessonScheduleRepository.findByPlanIdAndUserId(eq(user.getId()), anyLong()))
-            .thenReturn(Collections.emptyList());
-
-        // 3일 연속 학습
-        when(lessonScheduleRepository.existsCompletedLessonOnDate(
-            eq(user.getId()), any(LocalDateTime.class), any(LocalDateTime.class)))
-            .thenReturn(true, true, true, false);
+        // 3일 연속 학습 (4일 전 학습은 하루가 비어 연속에 포함되지 않음)
+        int today = (int) LocalDate.now().toEpochDay();
+        when(studyActivityRepository.findActiveEpochDays(user.getId(), today - 365, today))
+            .thenReturn(Arrays.asList(today - 4, today, today - 2, today - 1));
 
         // When
         MyPage result = myPageService.getMyPageInfo(user);
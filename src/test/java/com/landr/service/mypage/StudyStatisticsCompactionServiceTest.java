@@ -0,0 +1,96 @@
+package com.landr.service.mypage;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.landr.repository.statistics.StudyStatisticsRollupRepository;
+import com.landr.service.scheduler.SchedulerLeaseService;
+import com.landr.service.scheduler.SchedulerLeaseService.ShardTask;
+import com.landr.service.scheduler.dto.ShardSlice;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StudyStatisticsCompactionServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2025, 4, 1);
+
+    @Mock
+    private StudyStatisticsRollupRepository studyStatisticsRollupRepository;
+
+    @Mock
+    private SchedulerLeaseService schedulerLeaseService;
+
+    private StudyStatisticsCompactionService studyStatisticsCompactionService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(TODAY.atStartOfDay(ZONE).toInstant(), ZONE);
+        studyStatisticsCompactionService = new StudyStatisticsCompactionService(
+            studyStatisticsRollupRepository, schedulerLeaseService, clock);
+    }
+
+    @Test
+    @DisplayName("실행권을 얻은 샤드의 사용자만 이번 달 이전까지 집계")
+    void sealClosedMonths_RunsUnderLease() {
+        // Given
+        when(schedulerLeaseService.runExclusively(
+            eq(StudyStatisticsCompactionService.STUDY_STATISTICS_ROLLUP_JOB), eq(TODAY.toString()), any()))
+            .thenAnswer(invocation -> {
+                ShardTask task = invocation.getArgument(2);
+                task.run(new ShardSlice(1, 4));
+                return 1;
+            });
+
+        // When
+        studyStatisticsCompactionService.sealClosedMonths();
+
+        // Then
+        verify(studyStatisticsRollupRepository).sealMissing(TODAY.withDayOfMonth(1), 4, 1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행권을 가져가면 집계하지 않음")
+    void sealClosedMonths_LeaseTaken() {
+        // Given
+        when(schedulerLeaseService.runExclusively(any(), any(), any())).thenReturn(0);
+
+        // When
+        studyStatisticsCompactionService.sealClosedMonths();
+
+        // Then
+        verify(studyStatisticsRollupRepository, never()).sealMissing(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("재시도 스케줄은 오늘 회차의 실패한 샤드만 다시 집계")
+    void retryFailedShards() {
+        // Given
+        when(schedulerLeaseService.retryIncomplete(
+            eq(StudyStatisticsCompactionService.STUDY_STATISTICS_ROLLUP_JOB), eq(TODAY.toString()), any()))
+            .thenAnswer(invocation -> {
+                ShardTask task = invocation.getArgument(2);
+                task.run(new ShardSlice(2, 4));
+                return 1;
+            });
+
+        // When
+        studyStatisticsCompactionService.retryFailedShards();
+
+        // Then
+        verify(studyStatisticsRollupRepository).sealMissing(TODAY.withDayOfMonth(1), 4, 2);
+        verify(schedulerLeaseService, never()).runExclusively(any(), any(), any());
+    }
+}
@@ -0,0 +1,44 @@
+package com.landr.service.mypage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StudyStreakTest {
+
+    private static final int TODAY = 20_000;
+
+    @Test
+    @DisplayName("오늘 학습하지 않았으면 연속 학습일은 0")
+    void count_NoActivityToday() {
+        assertEquals(0, StudyStreak.count(TODAY, Arrays.asList(TODAY - 1, TODAY - 2)));
+        assertEquals(0, StudyStreak.count(TODAY, Collections.emptyList()));
+    }
+
+    @Test
+    @DisplayName("빈 날이 나오기 전까지의 일 수를 센다")
+    void count_StopsAtGap() {
+        assertEquals(3, StudyStreak.count(TODAY, Arrays.asList(TODAY - 2, TODAY, TODAY - 1, TODAY - 4)));
+    }
+
+    @Test
+    @DisplayName("64일 경계를 넘어 이어지는 연속 학습일")
+    void count_AcrossWordBoundary() {
+        List<Integer> days = IntStream.range(0, 70).map(i -> TODAY - i).boxed().toList();
+
+        assertEquals(70, StudyStreak.count(TODAY, days));
+    }
+
+    @Test
+    @DisplayName("연속 학습일은 최대 366일까지만 센다")
+    void count_CappedAtMaxDays() {
+        List<Integer> days = IntStream.range(-3, 500).map(i -> TODAY - i).boxed().toList();
+
+        assertEquals(StudyStreak.MAX_DAYS, StudyStreak.count(TODAY, days));
+    }
+}
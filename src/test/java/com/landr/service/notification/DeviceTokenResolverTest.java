@@ -0,0 +1,84 @@
+package com.landr.service.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.landr.repository.userdevice.UserDeviceRepository;
+import com.landr.repository.userdevice.dto.LatestDeviceToken;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceTokenResolverTest {
+
+    @Mock
+    private UserDeviceRepository userDeviceRepository;
+
+    @InjectMocks
+    private DeviceTokenResolver deviceTokenResolver;
+
+    @Test
+    @DisplayName("중복 사용자 ID를 제거하고 사용자별 최신 토큰을 반환")
+    void resolveLatestTokens_DistinctUserIds() {
+        // Given
+        when(userDeviceRepository.findLatestTokensByUserIds(Arrays.asList(1L, 2L, 3L)))
+            .thenReturn(Arrays.asList(token(1L, "token-1"), token(2L, "token-2")));
+
+        // When
+        Map<Long, String> tokens = deviceTokenResolver.resolveLatestTokens(
+            Arrays.asList(1L, 2L, 1L, 3L));
+
+        // Then
+        assertEquals(Map.of(1L, "token-1", 2L, "token-2"), tokens);
+    }
+
+    @Test
+    @DisplayName("1000명 단위로 나누어 조회")
+    void resolveLatestTokens_SplitsIntoChunks() {
+        // Given
+        List<Long> userIds = LongStream.rangeClosed(1, 1200).boxed().toList();
+        when(userDeviceRepository.findLatestTokensByUserIds(anyList()))
+            .thenAnswer(invocation -> {
+                List<Long> chunk = invocation.getArgument(0);
+                return chunk.stream().map(userId -> token(userId, "token-" + userId)).toList();
+            });
+
+        // When
+        Map<Long, String> tokens = deviceTokenResolver.resolveLatestTokens(userIds);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userDeviceRepository, times(2)).findLatestTokensByUserIds(captor.capture());
+        assertEquals(Arrays.asList(1000, 200),
+            captor.getAllValues().stream().map(List::size).toList());
+        assertEquals(1200, tokens.size());
+        assertEquals("token-1200", tokens.get(1200L));
+    }
+
+    private LatestDeviceToken token(Long userId, String deviceIdentifier) {
+        return new LatestDeviceToken() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getDeviceIdentifier() {
+                return deviceIdentifier;
+            }
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package com.landr.service.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.landr.service.notification.dto.DispatchResult;
+import com.landr.service.notification.dto.PushNotification;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private FirebaseMessaging firebaseMessaging;
+
+    @Mock
+    private DeviceTokenResolver deviceTokenResolver;
+
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트에서는 호출 스레드에서 바로 실행
+        notificationDispatcher = new NotificationDispatcher(firebaseMessaging, deviceTokenResolver,
+            Runnable::run);
+    }
+
+    @Test
+    @DisplayName("사용자별 최신 토큰으로 한 번에 전송하고, 토큰이 없는 사용자는 제외")
+    void dispatch_UsesLatestTokenAndSkipsMissing() throws Exception {
+        // Given
+        when(deviceTokenResolver.resolveLatestTokens(Arrays.asList(1L, 2L, 3L)))
+            .thenReturn(Map.of(1L, "token-1", 2L, "token-2"));
+        BatchResponse response = batchResponse(2, 0);
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(response);
+
+        // When
+        DispatchResult result = notificationDispatcher.dispatch(Arrays.asList(
+            new PushNotification(1L, "title", "body"),
+            new PushNotification(2L, "title", "body"),
+            new PushNotification(3L, "title", "body")
+        ));
+
+        // Then
+        assertEquals(3, result.getRequested());
+        assertEquals(1, result.getMissingToken());
+        assertEquals(2, result.getSucceeded());
+        assertEquals(0, result.getFailed());
+        assertEquals(1, result.getBatches());
+        verify(firebaseMessaging, times(1)).sendEach(anyList());
+    }
+
+    @Test
+    @DisplayName("500건 단위로 나누어 sendEach 호출")
+    void dispatch_SplitsIntoBatches() throws Exception {
+        // Given
+        List<PushNotification> notifications = LongStream.rangeClosed(1, 1200)
+            .mapToObj(userId -> new PushNotification(userId, "title", "body"))
+            .toList();
+        when(deviceTokenResolver.resolveLatestTokens(anyList()))
+            .thenAnswer(invocation -> {
+                List<Long> userIds = invocation.getArgument(0);
+                return userIds.stream()
+                    .collect(Collectors.toMap(Function.identity(), userId -> "token-" + userId));
+            });
+        when(firebaseMessaging.sendEach(anyList()))
+            .thenAnswer(invocation -> {
+                List<Message> batch = invocation.getArgument(0);
+                return batchResponse(batch.size(), 0);
+            });
+
+        // When
+        DispatchResult result = notificationDispatcher.dispatch(notifications);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        verify(firebaseMessaging, times(3)).sendEach(captor.capture());
+        assertEquals(Arrays.asList(500, 500, 200),
+            captor.getAllValues().stream().map(List::size).toList());
+        assertEquals(1200, result.getSucceeded());
+        assertEquals(3, result.getBatches());
+    }
+
+    @Test
+    @DisplayName("배치 전송이 실패하면 배치 전체를 실패로 집계")
+    void dispatch_BatchFailure() throws Exception {
+        // Given
+        when(deviceTokenResolver.resolveLatestTokens(Arrays.asList(1L, 2L)))
+            .thenReturn(Map.of(1L, "token-1", 2L, "token-2"));
+        when(firebaseMessaging.sendEach(anyList())).thenThrow(new RuntimeException("FCM error"));
+
+        // When
+        DispatchResult result = notificationDispatcher.dispatch(Arrays.asList(
+            new PushNotification(1L, "title", "body"),
+            new PushNotification(2L, "title", "body")
+        ));
+
+        // Then
+        assertEquals(0, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+    }
+
+    private BatchResponse batchResponse(int successCount, int failureCount) {
+        BatchResponse response = mock(BatchResponse.class);
+        when(response.getSuccessCount()).thenReturn(successCount);
+        when(response.getFailureCount()).thenReturn(failureCount);
+        return response;
+    }
+}
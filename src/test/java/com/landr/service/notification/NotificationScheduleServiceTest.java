@@ -2,41 +2,61 @@
 package com.landr.service.notification;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.landr.domain.dday.DDay;
-import com.landr.domain.plan.Plan;
-import com.landr.domain.schedule.DailySchedule;
-import com.landr.domain.schedule.LessonSchedule;
 import com.landr.domain.user.User;
 import com.landr.repository.dday.DDayRepository;
-import com.landr.repository.lessonschedule.LessonScheduleRepository;
+import com.landr.repository.dday.dto.DueDDay;
+import com.landr.repository.lessonschedule.dto.IncompleteLessonCount;
+import com.landr.service.notification.dto.PushNotification;
+import com.landr.service.scheduler.SchedulerLeaseService;
+import com.landr.service.scheduler.SchedulerLeaseService.ShardTask;
+import com.landr.service.scheduler.dto.ShardSlice;
 import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationScheduleServiceTest {
 
     @Mock
-    private FcmService fcmService;
+    private SchedulerLeaseService schedulerLeaseService;
 
     @Mock
-    private LessonScheduleRepository lessonScheduleRepository;
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private NotificationTargetReader notificationTargetReader;
 
     @Mock
     private DDayRepository dDayRepository;
@@ -45,9 +65,6 @@ class NotificationScheduleServiceTest {
     private NotificationScheduleService notificationScheduleService;
 
     private User user1, user2;
-    private Plan plan1, plan2;
-    private DailySchedule dailySchedule1, dailySchedule2;
-    private LessonSchedule completedLesson, incompleteLesson1, incompleteLesson2;
     private DDay dDay1, dDay2, pastDDay;
 
     @BeforeEach
@@ -55,38 +72,13 @@ class NotificationScheduleServiceTest {
         user1 = User.builder().id(1L).name("User1").build();
         user2 = User.builder().id(2L).name("User2").build();
 
-        plan1 = Plan.builder().id(1L).user(user1).build();
-        plan2 = Plan.builder().id(2L).user(user2).build();
-
-        dailySchedule1 = DailySchedule.builder()
-            .id(1L)
-            .plan(plan1)
-            .date(LocalDate.now())
-            .build();
-
-        dailySchedule2 = DailySchedule.builder()
-            .id(2L)
-            .plan(plan2)
-            .date(LocalDate.now())
-            .build();
-
-        completedLesson = LessonSchedule.builder()
-            .id(1L)
-            .dailySchedule(dailySchedule1)
-            .completed(true)
-            .build();
-
-        incompleteLesson1 = LessonSchedule.builder()
-            .id(2L)
-            .dailySchedule(dailySchedule1)
-            .completed(false)
-            .build();
-
-        incompleteLesson2 = LessonSchedule.builder()
-            .id(3L)
-            .dailySchedule(dailySchedule2)
-            .completed(false)
-            .build();
+        // 실행권을 얻어 전체 사용자를 한 샤드로 처리
+        when(schedulerLeaseService.runExclusively(anyString(), anyString(), any()))
+            .thenAnswer(invocation -> {
+                ShardTask task = invocation.getArgument(2);
+                task.run(ShardSlice.ALL);
+                return 1;
+            });
 
         dDay1 = DDay.builder()
             .id(1L)
@@ -114,87 +106,64 @@ class NotificationScheduleServiceTest {
     @DisplayName("미완료 강의 알림 전송 - 성공")
     void sendIncompleteLessonNotification_Success() {
         // Given
-        when(lessonScheduleRepository.findTodayLessonSchedules(LocalDate.now()))
-            .thenReturn(Arrays.asList(completedLesson, incompleteLesson1, incompleteLesson2));
-        when(fcmService.sendNotificationToUser(anyLong(), anyString(), anyString()))
-            .thenReturn(true);
-
-        // When
-        assertDoesNotThrow(() -> notificationScheduleService.sendIncompleteLessonNotification());
-
-        // Then
-        verify(fcmService, times(1)).sendNotificationToUser(eq(user1.getId()), anyString(), contains("1개"));
-        verify(fcmService, times(1)).sendNotificationToUser(eq(user2.getId()), anyString(), contains("1개"));
-        verify(fcmService, times(2)).sendNotificationToUser(anyLong(), anyString(), anyString());
-    }
-
-    @Test
-    @DisplayName("미완료 강의 알림 전송 - 모든 강의 완료")
-    void sendIncompleteLessonNotification_AllCompleted() {
-        // Given
-        when(lessonScheduleRepository.findTodayLessonSchedules(LocalDate.now()))
-            .thenReturn(Arrays.asList(completedLesson));
+        givenIncompleteLessonCounts(
+            new IncompleteLessonCount(user1.getId(), 1L),
+            new IncompleteLessonCount(user2.getId(), 1L));
 
         // When
         assertDoesNotThrow(() -> notificationScheduleService.sendIncompleteLessonNotification());
 
-        // Then
-        verify(fcmService, never()).sendNotificationToUser(anyLong(), anyString(), anyString());
+        // Then: 한 번의 일괄 전송으로 사용자별 알림 전달
+        Map<Long, String> bodies = captureDispatchedBodies();
+        assertEquals(2, bodies.size());
+        assertTrue(bodies.get(user1.getId()).contains("1개"));
+        assertTrue(bodies.get(user2.getId()).contains("1개"));
     }
 
     @Test
-    @DisplayName("미완료 강의 알림 전송 - 오늘 강의 없음")
-    void sendIncompleteLessonNotification_NoLessonsToday() {
+    @DisplayName("미완료 강의 알림 전송 - 미완료 강의가 있는 사용자 없음")
+    void sendIncompleteLessonNotification_NoIncompleteLessons() {
         // Given
-        when(lessonScheduleRepository.findTodayLessonSchedules(LocalDate.now()))
-            .thenReturn(Collections.emptyList());
+        givenIncompleteLessonCounts();
 
         // When
         assertDoesNotThrow(() -> notificationScheduleService.sendIncompleteLessonNotification());
 
         // Then
-        verify(fcmService, never()).sendNotificationToUser(anyLong(), anyString(), anyString());
+        verify(notificationDispatcher, never()).dispatch(anyList());
     }
 
     @Test
     @DisplayName("미완료 강의 알림 전송 - 여러 미완료 강의")
     void sendIncompleteLessonNotification_MultipleLessons() {
         // Given
-        LessonSchedule incompleteLesson3 = LessonSchedule.builder()
-            .id(4L)
-            .dailySchedule(dailySchedule1)
-            .completed(false)
-            .build();
-
-        when(lessonScheduleRepository.findTodayLessonSchedules(LocalDate.now()))
-            .thenReturn(Arrays.asList(incompleteLesson1, incompleteLesson3, incompleteLesson2));
-        when(fcmService.sendNotificationToUser(anyLong(), anyString(), anyString()))
-            .thenReturn(true);
+        givenIncompleteLessonCounts(
+            new IncompleteLessonCount(user1.getId(), 2L),
+            new IncompleteLessonCount(user2.getId(), 1L));
 
         // When
         assertDoesNotThrow(() -> notificationScheduleService.sendIncompleteLessonNotification());
 
         // Then
-        verify(fcmService, times(1)).sendNotificationToUser(eq(user1.getId()), anyString(), contains("2개"));
-        verify(fcmService, times(1)).sendNotificationToUser(eq(user2.getId()), anyString(), contains("1개"));
+        Map<Long, String> bodies = captureDispatchedBodies();
+        assertTrue(bodies.get(user1.getId()).contains("2개"));
+        assertTrue(bodies.get(user2.getId()).contains("1개"));
     }
 
     @Test
     @DisplayName("D-Day 알림 전송 - 성공")
     void sendDDayNotification_Success() {
         // Given
-        when(dDayRepository.findAll())
-            .thenReturn(Arrays.asList(dDay1, dDay2));
-        when(fcmService.sendNotificationToUser(anyLong(), anyString(), anyString()))
-            .thenReturn(true);
+        givenDDays(dDay1, dDay2);
 
         // When
         assertDoesNotThrow(() -> notificationScheduleService.sendDDayNotification());
 
         // Then
-        verify(fcmService, times(1)).sendNotificationToUser(eq(user1.getId()), anyString(), contains("7일 남았어요"));
-        verify(fcmService, times(1)).sendNotificationToUser(eq(user2.getId()), anyString(), contains("1일 남았어요"));
-        verify(fcmService, times(2)).sendNotificationToUser(anyLong(), anyString(), anyString());
+        Map<Long, String> bodies = captureDispatchedBodies();
+        assertEquals(2, bodies.size());
+        assertTrue(bodies.get(user1.getId()).contains("7일 남았어요"));
+        assertTrue(bodies.get(user2.getId()).contains("1일 남았어요"));
     }
 
     @Test
@@ -208,33 +177,28 @@ class NotificationScheduleServiceTest {
             .goalDate(LocalDate.now())
             .build();
 
-        when(dDayRepository.findAll())
-            .thenReturn(Arrays.asList(todayDDay));
-        when(fcmService.sendNotificationToUser(anyLong(), anyString(), anyString()))
-            .thenReturn(true);
+        givenDDays(todayDDay);
 
         // When
         assertDoesNotThrow(() -> notificationScheduleService.sendDDayNotification());
 
         // Then
-        verify(fcmService, times(1)).sendNotificationToUser(eq(user1.getId()), anyString(), contains("당일입니다"));
+        assertTrue(captureDispatchedBodies().get(user1.getId()).contains("당일입니다"));
     }
 
     @Test
     @DisplayName("D-Day 알림 전송 - 과거 D-Day 제외")
     void sendDDayNotification_ExcludePastDDays() {
         // Given
-        when(dDayRepository.findAll())
-            .thenReturn(Arrays.asList(dDay1, pastDDay));
-        when(fcmService.sendNotificationToUser(anyLong(), anyString(), anyString()))
-            .thenReturn(true);
+        givenDDays(dDay1, pastDDay);
 
         // When
         assertDoesNotThrow(() -> notificationScheduleService.sendDDayNotification());
 
         // Then
-        verify(fcmService, times(1)).sendNotificationToUser(eq(user1.getId()), anyString(), anyString());
-        verify(fcmService, never()).sendNotificationToUser(eq(user1.getId()), anyString(), contains("지난 시험"));
+        List<PushNotification> notifications = captureDispatched();
+        assertEquals(1, notifications.size());
+        assertFalse(notifications.get(0).getBody().contains("지난 시험"));
     }
 
     @Test
@@ -249,62 +213,119 @@ class NotificationScheduleServiceTest {
         DDay dDay0 = DDay.builder().id(10L).user(user1).title("당일").goalDate(LocalDate.now()).build();
         DDay dDay5 = DDay.builder().id(11L).user(user1).title("5일전").goalDate(LocalDate.now().plusDays(5)).build(); // 알림 안함
 
-        when(dDayRepository.findAll())
-            .thenReturn(Arrays.asList(dDay28, dDay14, dDay7, dDay3, dDay1, dDay0, dDay5));
-        when(fcmService.sendNotificationToUser(anyLong(), anyString(), anyString()))
-            .thenReturn(true);
+        givenDDays(dDay28, dDay14, dDay7, dDay3, dDay1, dDay0, dDay5);
 
         // When
         assertDoesNotThrow(() -> notificationScheduleService.sendDDayNotification());
 
         // Then
-        verify(fcmService, times(6)).sendNotificationToUser(eq(user1.getId()), anyString(), anyString()); // 5일전은 제외
-        verify(fcmService, never()).sendNotificationToUser(eq(user1.getId()), anyString(), contains("5일 남았어요"));
+        List<PushNotification> notifications = captureDispatched();
+        assertEquals(6, notifications.size()); // 5일전은 제외
+        assertTrue(notifications.stream().noneMatch(n -> n.getBody().contains("5일 남았어요")));
     }
 
     @Test
     @DisplayName("D-Day 알림 전송 - D-Day 없음")
     void sendDDayNotification_NoDDays() {
         // Given
-        when(dDayRepository.findAll())
-            .thenReturn(Collections.emptyList());
+        givenDDays();
 
         // When
         assertDoesNotThrow(() -> notificationScheduleService.sendDDayNotification());
 
         // Then
-        verify(fcmService, never()).sendNotificationToUser(anyLong(), anyString(), anyString());
+        verify(notificationDispatcher, never()).dispatch(anyList());
+    }
+
+    @Test
+    @DisplayName("D-Day 알림 전송 - 페이지 단위로 나누어 전송")
+    void sendDDayNotification_Paged() {
+        // Given
+        DDay[] dDays = LongStream.rangeClosed(1, 501)
+            .mapToObj(id -> DDay.builder().id(id).user(user1).title("시험" + id)
+                .goalDate(LocalDate.now().plusDays(7)).build())
+            .toArray(DDay[]::new);
+        givenDDays(dDays);
+
+        // When
+        assertDoesNotThrow(() -> notificationScheduleService.sendDDayNotification());
+
+        // Then: 500건 + 1건
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PushNotification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationDispatcher, times(2)).dispatch(captor.capture());
+        assertEquals(Arrays.asList(500, 1),
+            captor.getAllValues().stream().map(List::size).toList());
     }
 
     @Test
     @DisplayName("알림 전송 실패 시 로그만 남기고 계속 진행")
     void sendNotification_FailureHandling() {
         // Given
-        when(lessonScheduleRepository.findTodayLessonSchedules(LocalDate.now()))
-            .thenReturn(Arrays.asList(incompleteLesson1, incompleteLesson2));
-        when(fcmService.sendNotificationToUser(eq(user1.getId()), anyString(), anyString()))
-            .thenReturn(false); // 실패
-        when(fcmService.sendNotificationToUser(eq(user2.getId()), anyString(), anyString()))
-            .thenReturn(true); // 성공
+        givenIncompleteLessonCounts(
+            new IncompleteLessonCount(user1.getId(), 1L),
+            new IncompleteLessonCount(user2.getId(), 1L));
+        when(notificationDispatcher.dispatch(anyList()))
+            .thenThrow(new RuntimeException("FCM error"));
 
         // When
         assertDoesNotThrow(() -> notificationScheduleService.sendIncompleteLessonNotification());
 
         // Then
-        verify(fcmService, times(2)).sendNotificationToUser(anyLong(), anyString(), anyString());
+        verify(notificationDispatcher, times(1)).dispatch(anyList());
     }
 
     @Test
     @DisplayName("예외 발생 시 로그만 남기고 계속 진행")
     void sendNotification_ExceptionHandling() {
         // Given
-        when(lessonScheduleRepository.findTodayLessonSchedules(LocalDate.now()))
-            .thenThrow(new RuntimeException("Database error"));
+        doThrow(new RuntimeException("Database error"))
+            .when(notificationTargetReader).forEachIncompleteLessonCount(eq(LocalDate.now()), eq(ShardSlice.ALL), any());
 
         // When
         assertDoesNotThrow(() -> notificationScheduleService.sendIncompleteLessonNotification());
 
         // Then
-        verify(fcmService, never()).sendNotificationToUser(anyLong(), anyString(), anyString());
+        verify(notificationDispatcher, never()).dispatch(anyList());
+    }
+
+    /**
+     * goal_date IN 조건과 keyset 페이징을 흉내 내어 D-Day 조회를 스텁합니다.
+     */
+    private void givenDDays(DDay... dDays) {
+        when(dDayRepository.findDueDDaysAfter(anyCollection(), eq(1), eq(0), anyLong(),
+            any(Pageable.class)))
+            .thenAnswer(invocation -> {
+                Collection<LocalDate> goalDates = invocation.getArgument(0);
+                Long lastId = invocation.getArgument(3);
+                Pageable pageable = invocation.getArgument(4);
+                return Arrays.stream(dDays)
+                    .filter(d -> goalDates.contains(d.getGoalDate()) && d.getId() > lastId)
+                    .sorted(Comparator.comparing(DDay::getId))
+                    .limit(pageable.getPageSize())
+                    .map(d -> new DueDDay(d.getId(), d.getUser().getId(), d.getTitle(), d.getGoalDate()))
+                    .toList();
+            });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenIncompleteLessonCounts(IncompleteLessonCount... counts) {
+        doAnswer(invocation -> {
+            Consumer<IncompleteLessonCount> consumer = invocation.getArgument(2);
+            Arrays.stream(counts).forEach(consumer);
+            return null;
+        }).when(notificationTargetReader).forEachIncompleteLessonCount(eq(LocalDate.now()), eq(ShardSlice.ALL), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PushNotification> captureDispatched() {
+        ArgumentCaptor<List<PushNotification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationDispatcher, times(1)).dispatch(captor.capture());
+        return captor.getValue();
+    }
+
+    private Map<Long, String> captureDispatchedBodies() {
+        return captureDispatched().stream()
+            .collect(Collectors.toMap(PushNotification::getUserId, PushNotification::getBody));
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.landr.service.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.landr.repository.lessonschedule.LessonScheduleRepository;
+import com.landr.repository.lessonschedule.dto.IncompleteLessonCount;
+import com.landr.service.scheduler.dto.ShardSlice;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationTargetReaderTest {
+
+    @Mock
+    private LessonScheduleRepository lessonScheduleRepository;
+
+    @InjectMocks
+    private NotificationTargetReader notificationTargetReader;
+
+    @Test
+    @DisplayName("사용자별 미완료 수업 집계를 순서대로 전달하고 커서를 닫음")
+    void forEachIncompleteLessonCount_ClosesStream() {
+        // Given
+        LocalDate today = LocalDate.now();
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(lessonScheduleRepository.streamIncompleteLessonCountsByDate(today, 1, 0))
+            .thenReturn(Stream.of(
+                new IncompleteLessonCount(1L, 2L),
+                new IncompleteLessonCount(2L, 1L)
+            ).onClose(() -> closed.set(true)));
+
+        // When
+        List<Long> userIds = new ArrayList<>();
+        notificationTargetReader.forEachIncompleteLessonCount(today, ShardSlice.ALL,
+            count -> userIds.add(count.getUserId()));
+
+        // Then
+        assertEquals(List.of(1L, 2L), userIds);
+        assertTrue(closed.get());
+    }
+}
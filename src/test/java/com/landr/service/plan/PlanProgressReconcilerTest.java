@@ -0,0 +1,84 @@
+package com.landr.service.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.landr.repository.planprogress.PlanProgressRepository;
+import com.landr.service.scheduler.SchedulerLeaseService;
+import com.landr.service.scheduler.SchedulerLeaseService.ShardTask;
+import com.landr.service.scheduler.dto.ShardSlice;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PlanProgressReconcilerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 1, 12, 10, 3);
+
+    @Mock
+    private PlanProgressRepository planProgressRepository;
+
+    @Mock
+    private SchedulerLeaseService schedulerLeaseService;
+
+    private PlanProgressReconciler planProgressReconciler;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+        planProgressReconciler = new PlanProgressReconciler(planProgressRepository,
+            schedulerLeaseService, clock, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("실행권을 얻은 샤드에서 lookback 안에 바뀐 계획의 진행 현황을 다시 집계")
+    void reconcile_RecalculatesChangedPlans() {
+        // Given
+        LocalDateTime runAt = LocalDateTime.of(2025, 4, 1, 12, 10);
+        when(schedulerLeaseService.runExclusively(
+            eq(PlanProgressReconciler.PLAN_PROGRESS_RECONCILE_JOB), eq(runAt.toString()), any()))
+            .thenAnswer(invocation -> {
+                ShardTask task = invocation.getArgument(2);
+                assertEquals(2, task.run(new ShardSlice(1, 4)));
+                return 1;
+            });
+        when(planProgressRepository.findPlanIdsToReconcile(runAt.minusMinutes(30), 4, 1))
+            .thenReturn(Arrays.asList(10L, 20L));
+
+        // When
+        planProgressReconciler.reconcile();
+
+        // Then
+        verify(planProgressRepository).recalculate(10L);
+        verify(planProgressRepository).recalculate(20L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행권을 가져가면 다시 집계하지 않음")
+    void reconcile_LeaseTaken() {
+        // Given
+        when(schedulerLeaseService.runExclusively(any(), any(), any())).thenReturn(0);
+
+        // When
+        planProgressReconciler.reconcile();
+
+        // Then
+        verify(planProgressRepository, never()).findPlanIdsToReconcile(any(), anyInt(), anyInt());
+        verify(planProgressRepository, never()).recalculate(any());
+    }
+}
@@ -4,10 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,21 +23,38 @@ import com.landr.domain.lecture.Lesson;
 import com.landr.domain.lecture.Platform;
 import com.landr.domain.plan.DayOfWeek;
 import com.landr.domain.plan.Plan;
+import com.landr.domain.plan.PlanProgress;
 import com.landr.domain.plan.PlanType;
+import com.landr.domain.plan.ScheduleStatus;
 import com.landr.domain.schedule.DailySchedule;
+import com.landr.domain.schedule.LessonSchedule;
 import com.landr.domain.user.User;
 import com.landr.exception.ApiException;
 import com.landr.exception.ExceptionType;
 import com.landr.repository.dailyschedule.DailyScheduleRepository;
 import com.landr.repository.lecture.LectureRepository;
+import com.landr.repository.lecture.dto.CatalogLecture;
+import com.landr.repository.lecture.dto.CatalogLesson;
+import com.landr.repository.lecture.dto.CatalogLessonRange;
 import com.landr.repository.lesson.LessonRepository;
 import com.landr.repository.lessonschedule.LessonScheduleRepository;
 import com.landr.repository.plan.PlanRepository;
+import com.landr.repository.planprogress.PlanProgressRepository;
+import com.landr.repository.schedule.ScheduleBulkRepository;
+import com.landr.repository.statistics.StudyStatisticsRollupRepository;
 import com.landr.repository.studygroup.StudyGroupMemberRepository;
 import com.landr.service.dto.PlanDetailResponse;
+import com.landr.service.dto.PlanPreviewResponse;
 import com.landr.service.dto.PlanSummaryDto;
+import com.landr.service.lecture.LectureCatalogService;
+import com.landr.service.schedule.ScheduleGenerationRequestedEvent;
 import com.landr.service.schedule.ScheduleGeneratorService;
+import com.landr.service.schedule.ScheduleGeneratorService.ScheduleGenerationResult;
+import jakarta.persistence.EntityManager;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -44,9 +65,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class PlanServiceTest {
@@ -65,6 +90,20 @@ class PlanServiceTest {
     private ScheduleGeneratorService scheduleGeneratorService;
     @Mock
     private StudyGroupMemberRepository studyGroupMemberRepository;
+    @Mock
+    private ScheduleBulkRepository scheduleBulkRepository;
+    @Mock
+    private PlanProgressRepository planProgressRepository;
+    @Mock
+    private StudyStatisticsRollupRepository studyStatisticsRollupRepository;
+    @Mock
+    private LectureCatalogService lectureCatalogService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private Clock clock = Clock.systemDefaultZone();
 
     @InjectMocks
     private PlanService planService;
@@ -99,6 +138,7 @@ class PlanServiceTest {
             .startLesson(startLesson)
             .endLesson(endLesson)
             .studyDays(studyDays)
+            .rescheduleTracked(true)
             .isDeleted(false)
             .build();
     }
@@ -152,14 +192,202 @@ class PlanServiceTest {
         verify(scheduleGeneratorService, times(1)).generateSchedules(any(Plan.class));
     }
 
+    @Test
+    @DisplayName("계획 미리보기 - 저장 없이 배분 결과만 반환")
+    void previewPlan_Success() {
+        // Given
+        createRequest = CreatePlanRequest.builder()
+            .lectureId(1L)
+            .planType(PlanType.TIME)
+            .startLessonId(1L)
+            .endLessonId(10L)
+            .studyDayOfWeeks(new HashSet<>(Arrays.asList(DayOfWeek.MON, DayOfWeek.WED)))
+            .dailyTime(60)
+            .playbackSpeed(1.0f)
+            .build();
+        LocalDate firstDay = LocalDate.of(2025, 3, 3);
+        List<DailySchedule> dailySchedules = Arrays.asList(
+            DailySchedule.builder().date(firstDay).dayOfWeek(DayOfWeek.MON)
+                .totalLessons(2).totalDuration(60).build(),
+            DailySchedule.builder().date(firstDay.plusDays(2)).dayOfWeek(DayOfWeek.WED)
+                .totalLessons(1).totalDuration(45).build());
+
+        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+        when(lessonRepository.findById(1L)).thenReturn(Optional.of(startLesson));
+        when(lessonRepository.findById(10L)).thenReturn(Optional.of(endLesson));
+        when(scheduleGeneratorService.previewSchedules(any(Plan.class)))
+            .thenReturn(new ScheduleGenerationResult(dailySchedules,
+                Arrays.asList(LessonSchedule.builder().build(), LessonSchedule.builder().build(),
+                    LessonSchedule.builder().build())));
+
+        // When
+        PlanPreviewResponse result = planService.previewPlan(createRequest, user);
+
+        // Then
+        assertEquals(3, result.getTotalLessons());
+        assertEquals(2, result.getDayCount());
+        assertEquals(105, result.getTotalDuration());
+        assertEquals(60, result.getMaxDailyDuration());
+        assertEquals(firstDay, result.getStartDate());
+        assertEquals(firstDay.plusDays(2), result.getEndDate());
+        assertEquals(45, result.getDailySchedules().get(1).getTotalDuration());
+        verify(planRepository, never()).save(any(Plan.class));
+        verify(scheduleGeneratorService, never()).generateSchedules(any(Plan.class));
+    }
+
+    @Test
+    @DisplayName("계획 미리보기 - TIME 타입인데 dailyTime이 없으면 예외 발생")
+    void previewPlan_TimeTypeWithoutDailyTime() {
+        // Given
+        createRequest = CreatePlanRequest.builder()
+            .lectureId(1L)
+            .planType(PlanType.TIME)
+            .startLessonId(1L)
+            .endLessonId(10L)
+            .studyDayOfWeeks(new HashSet<>(Arrays.asList(DayOfWeek.MON)))
+            .playbackSpeed(1.0f)
+            .build();
+
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class,
+            () -> planService.previewPlan(createRequest, user));
+        assertEquals(ExceptionType.BAD_REQUEST, exception.getExceptionType());
+        verify(scheduleGeneratorService, never()).previewSchedules(any(Plan.class));
+    }
+
+    @Test
+    @DisplayName("계획 비동기 생성 - 스케줄은 생성하지 않고 PENDING 상태로 저장")
+    void createPlanAsync_Success() {
+        // Given
+        createRequest = CreatePlanRequest.builder()
+            .lectureId(1L)
+            .planType(PlanType.TIME)
+            .startLessonId(1L)
+            .endLessonId(10L)
+            .studyDayOfWeeks(new HashSet<>(Arrays.asList(DayOfWeek.MON, DayOfWeek.WED)))
+            .dailyTime(60)
+            .playbackSpeed(1.0f)
+            .build();
+
+        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+        when(lessonRepository.findById(1L)).thenReturn(Optional.of(startLesson));
+        when(lessonRepository.findById(10L)).thenReturn(Optional.of(endLesson));
+        when(planRepository.save(any(Plan.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Plan result = planService.createPlanAsync(createRequest, user);
+
+        // Then
+        assertEquals(ScheduleStatus.PENDING, result.resolveScheduleStatus());
+        verify(eventPublisher, times(1)).publishEvent(any(ScheduleGenerationRequestedEvent.class));
+        verify(scheduleGeneratorService, never()).generateSchedules(any(Plan.class));
+    }
+
+    @Test
+    @DisplayName("계획 복사 - 재스케줄링된 적 없는 PERIOD 계획은 원본 스케줄을 복사하고 배분 알고리즘은 실행하지 않음")
+    void copyPlan_CopiesSchedules() {
+        // Given
+        ReflectionTestUtils.setField(plan, "planType", PlanType.PERIOD);
+        User member = User.builder().id(2L).name("Member").build();
+        when(planRepository.save(any(Plan.class))).thenAnswer(invocation -> {
+            Plan saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 2L);
+            return saved;
+        });
+        when(scheduleBulkRepository.copySchedules(plan.getId(), 2L)).thenReturn(12);
+
+        // When
+        Plan result = planService.copyPlan(plan, member);
+
+        // Then
+        assertEquals(member, result.getUser());
+        assertEquals(lecture, result.getLecture());
+        assertEquals(plan.getStudyDays(), result.getStudyDays());
+        verify(scheduleBulkRepository, times(1)).copySchedules(plan.getId(), 2L);
+        verify(planProgressRepository, times(1)).recalculate(2L);
+        verify(scheduleGeneratorService, never()).generateSchedules(any(Plan.class));
+    }
+
+    @Test
+    @DisplayName("계획 복사 - TIME 계획은 오늘부터 배분해야 하므로 복사하지 않고 새로 생성")
+    void copyPlan_TimePlanGenerates() {
+        // Given
+        ReflectionTestUtils.setField(plan, "planType", PlanType.TIME);
+        User member = User.builder().id(2L).name("Member").build();
+        when(planRepository.save(any(Plan.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Plan result = planService.copyPlan(plan, member);
+
+        // Then
+        verify(scheduleBulkRepository, never()).copySchedules(any(), any());
+        verify(scheduleGeneratorService, times(1)).generateSchedules(result);
+    }
+
+    @Test
+    @DisplayName("계획 복사 - 재스케줄링된 PERIOD 계획은 복사하지 않고 새로 생성")
+    void copyPlan_RescheduledPlanGenerates() {
+        // Given
+        ReflectionTestUtils.setField(plan, "planType", PlanType.PERIOD);
+        plan.markRescheduled();
+        User member = User.builder().id(2L).name("Member").build();
+        when(planRepository.save(any(Plan.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Plan result = planService.copyPlan(plan, member);
+
+        // Then
+        verify(scheduleBulkRepository, never()).copySchedules(any(), any());
+        verify(scheduleGeneratorService, times(1)).generateSchedules(result);
+        assertFalse(result.isRescheduled());
+    }
+
+    @Test
+    @DisplayName("계획 복사 - 재스케줄링 이력을 기록하기 전에 생성된 계획은 복사하지 않고 새로 생성")
+    void copyPlan_UntrackedPlanGenerates() {
+        // Given
+        ReflectionTestUtils.setField(plan, "planType", PlanType.PERIOD);
+        ReflectionTestUtils.setField(plan, "rescheduleTracked", null);
+        User member = User.builder().id(2L).name("Member").build();
+        when(planRepository.save(any(Plan.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Plan result = planService.copyPlan(plan, member);
+
+        // Then
+        verify(scheduleBulkRepository, never()).copySchedules(any(), any());
+        verify(scheduleGeneratorService, times(1)).generateSchedules(result);
+    }
+
+    @Test
+    @DisplayName("계획 복사 - 원본 스케줄이 없으면 새로 생성")
+    void copyPlan_GeneratesWhenSourceHasNoSchedules() {
+        // Given
+        ReflectionTestUtils.setField(plan, "planType", PlanType.PERIOD);
+        User member = User.builder().id(2L).name("Member").build();
+        when(planRepository.save(any(Plan.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(scheduleBulkRepository.copySchedules(eq(plan.getId()), any())).thenReturn(0);
+
+        // When
+        Plan result = planService.copyPlan(plan, member);
+
+        // Then
+        verify(scheduleGeneratorService, times(1)).generateSchedules(result);
+    }
+
     @Test
     @DisplayName("나의 계획 목록 조회 성공")
     void getMyPlans_Success() {
         // Given
         when(planRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAt(user.getId()))
             .thenReturn(Arrays.asList(plan));
-        when(lessonScheduleRepository.countCompletedLessonSchedulesByPlanId(plan.getId()))
-            .thenReturn(5L);
+        when(planProgressRepository.findAllById(List.of(plan.getId())))
+            .thenReturn(List.of(PlanProgress.builder()
+                .planId(plan.getId())
+                .userId(user.getId())
+                .totalLessons(10)
+                .completedLessons(5)
+                .build()));
         when(studyGroupMemberRepository.findPlanIdsByUserId(user.getId()))
             .thenReturn(Collections.emptyList());
 
@@ -170,9 +398,44 @@ class PlanServiceTest {
         assertEquals(1, result.size());
         assertEquals(plan.getId(), result.get(0).getPlanId());
         assertEquals(5L, result.get(0).getCompletedLessons());
+        assertNull(result.get(0).getEstimatedDuration());
         assertFalse(result.get(0).isStudyGroup());
     }
 
+    @Test
+    @DisplayName("나의 계획 목록 조회 - 강의 정보와 수업 수는 카탈로그에서 조회")
+    void getMyPlans_FromCatalog() {
+        // Given
+        ReflectionTestUtils.setField(plan, "playbackSpeed", 1.5f);
+        when(planRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAt(user.getId()))
+            .thenReturn(Arrays.asList(plan));
+        when(planProgressRepository.findAllById(List.of(plan.getId())))
+            .thenReturn(Collections.emptyList());
+        when(studyGroupMemberRepository.findPlanIdsByUserId(user.getId()))
+            .thenReturn(Collections.emptyList());
+        when(lectureCatalogService.findLecture(lecture.getId()))
+            .thenReturn(Optional.of(new CatalogLecture(lecture.getId(), "카탈로그 강의", "카탈로그 선생님",
+                Platform.MEGA, null, null, 10, 600, LocalDateTime.now())));
+        when(lectureCatalogService.findLesson(startLesson.getId()))
+            .thenReturn(Optional.of(new CatalogLesson(startLesson.getId(), lecture.getId(), 1, 60, "1강")));
+        when(lectureCatalogService.findLesson(endLesson.getId()))
+            .thenReturn(Optional.of(new CatalogLesson(endLesson.getId(), lecture.getId(), 10, 60, "10강")));
+        // 중간에 빠진 순서가 있어 실제 수업 수는 순서 차이(10)보다 적음
+        when(lectureCatalogService.summarizeLessonsBetween(lecture.getId(), 1, 10))
+            .thenReturn(Optional.of(new CatalogLessonRange(lecture.getId(), 1, 10, 8, 480L)));
+
+        // When
+        List<PlanSummaryDto> result = planService.getMyPlans(user.getId());
+
+        // Then
+        assertEquals("카탈로그 강의", result.get(0).getLectureTitle());
+        assertEquals("카탈로그 선생님", result.get(0).getTeacher());
+        assertEquals(8, result.get(0).getTotalLessons());
+        // 480분을 1.5배속으로 수강
+        assertEquals(320L, result.get(0).getEstimatedDuration());
+        assertEquals(0L, result.get(0).getCompletedLessons());
+    }
+
     @Test
     @DisplayName("계획 상세 조회 성공")
     void getPlan_Success() {
@@ -205,14 +468,45 @@ class PlanServiceTest {
     @DisplayName("계획 삭제 성공")
     void deletePlan_Success() {
         // Given
+        YearMonth lastMonth = YearMonth.now().minusMonths(1);
+        YearMonth twoMonthsAgo = YearMonth.now().minusMonths(2);
         when(planRepository.findByIdAndUserId(plan.getId(), user.getId()))
             .thenReturn(Optional.of(plan));
+        when(studyStatisticsRollupRepository.findMonthsOfPlan(plan.getId(),
+            LocalDate.now().withDayOfMonth(1)))
+            .thenReturn(Arrays.asList(twoMonthsAgo, lastMonth));
 
         // When
         assertDoesNotThrow(() -> planService.deletePlan(plan.getId(), user.getId()));
 
+        // Then
+        // 삭제 전에 계획의 지난 달을 조회하고, 삭제가 DB에 반영된 뒤에 그 달만 다시 집계
+        InOrder inOrder = inOrder(planRepository, planProgressRepository, entityManager,
+            studyStatisticsRollupRepository);
+        inOrder.verify(studyStatisticsRollupRepository)
+            .findMonthsOfPlan(plan.getId(), LocalDate.now().withDayOfMonth(1));
+        inOrder.verify(planRepository).delete(plan);
+        inOrder.verify(planProgressRepository).deleteById(plan.getId());
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(studyStatisticsRollupRepository).rebuildUserMonth(user.getId(), twoMonthsAgo);
+        inOrder.verify(studyStatisticsRollupRepository).rebuildUserMonth(user.getId(), lastMonth);
+    }
+
+    @Test
+    @DisplayName("계획 삭제 - 이번 달 일정만 있으면 통계 집계를 다시 만들지 않음")
+    void deletePlan_NoClosedMonths() {
+        // Given
+        when(planRepository.findByIdAndUserId(plan.getId(), user.getId()))
+            .thenReturn(Optional.of(plan));
+        when(studyStatisticsRollupRepository.findMonthsOfPlan(anyLong(), any()))
+            .thenReturn(Collections.emptyList());
+
+        // When
+        planService.deletePlan(plan.getId(), user.getId());
+
         // Then
         verify(planRepository, times(1)).delete(plan);
+        verify(studyStatisticsRollupRepository, never()).rebuildUserMonth(any(), any());
     }
 
     @Test
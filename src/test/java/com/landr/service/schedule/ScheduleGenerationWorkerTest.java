@@ -0,0 +1,149 @@
+package com.landr.service.schedule;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.landr.domain.plan.ScheduleStatus;
+import com.landr.repository.plan.PlanRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleGenerationWorkerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 1, 12, 0);
+
+    @Mock
+    private ScheduleGeneratorService scheduleGeneratorService;
+
+    @Mock
+    private PlanRepository planRepository;
+
+    @Mock
+    private Executor scheduleGenerationExecutor;
+
+    private ScheduleGenerationWorker scheduleGenerationWorker;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+        scheduleGenerationWorker = new ScheduleGenerationWorker(scheduleGeneratorService,
+            planRepository, scheduleGenerationExecutor, clock, Duration.ofMinutes(5),
+            Duration.ofHours(1), 100);
+    }
+
+    @Test
+    @DisplayName("커밋 후 이벤트를 받으면 워커 풀에서 스케줄 생성")
+    void handle_GeneratesOnWorker() {
+        // Given
+        runInline();
+
+        // When
+        scheduleGenerationWorker.handle(new ScheduleGenerationRequestedEvent(1L));
+
+        // Then
+        verify(scheduleGeneratorService).generatePendingSchedules(1L);
+        verify(scheduleGeneratorService, never()).markScheduleFailed(any());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차 거절되면 PENDING으로 남겨 둠")
+    void handle_RejectedLeavesPending() {
+        // Given
+        doThrow(new RejectedExecutionException()).when(scheduleGenerationExecutor).execute(any());
+
+        // When
+        scheduleGenerationWorker.handle(new ScheduleGenerationRequestedEvent(1L));
+
+        // Then
+        verify(scheduleGeneratorService, never()).generatePendingSchedules(any());
+        verify(scheduleGeneratorService, never()).markScheduleFailed(any());
+    }
+
+    @Test
+    @DisplayName("생성 중 오류가 나면 FAILED로 변경")
+    void generate_FailureMarksFailed() {
+        // Given
+        doThrow(new IllegalStateException()).when(scheduleGeneratorService)
+            .generatePendingSchedules(1L);
+
+        // When
+        scheduleGenerationWorker.generate(1L);
+
+        // Then
+        verify(scheduleGeneratorService).markScheduleFailed(1L);
+    }
+
+    @Test
+    @DisplayName("다른 워커가 같은 Plan을 잠그고 있으면 FAILED로 바꾸지 않고 건너뜀")
+    void generate_LockedByAnotherWorkerSkips() {
+        // Given
+        doThrow(new PessimisticLockingFailureException("locked")).when(scheduleGeneratorService)
+            .generatePendingSchedules(1L);
+
+        // When
+        scheduleGenerationWorker.generate(1L);
+
+        // Then
+        verify(scheduleGeneratorService, never()).markScheduleFailed(any());
+    }
+
+    @Test
+    @DisplayName("오래된 PENDING Plan은 다시 투입하고, 만료된 Plan은 FAILED로 변경")
+    void sweepStalePending() {
+        // Given
+        runInline();
+        when(scheduleGeneratorService.markExpiredPendingFailed(NOW.minusHours(1))).thenReturn(2);
+        when(planRepository.findIdsByScheduleStatusAndCreatedAtBefore(ScheduleStatus.PENDING,
+            NOW.minusMinutes(5), PageRequest.of(0, 100))).thenReturn(Arrays.asList(1L, 2L));
+
+        // When
+        scheduleGenerationWorker.sweepStalePending();
+
+        // Then
+        verify(scheduleGeneratorService).generatePendingSchedules(1L);
+        verify(scheduleGeneratorService).generatePendingSchedules(2L);
+    }
+
+    @Test
+    @DisplayName("sweep 중 큐가 가득 차면 나머지는 다음 sweep으로 미룸")
+    void sweepStalePending_StopsWhenRejected() {
+        // Given
+        when(planRepository.findIdsByScheduleStatusAndCreatedAtBefore(eq(ScheduleStatus.PENDING),
+            any(), any())).thenReturn(Arrays.asList(1L, 2L, 3L));
+        doThrow(new RejectedExecutionException()).when(scheduleGenerationExecutor).execute(any());
+
+        // When
+        scheduleGenerationWorker.sweepStalePending();
+
+        // Then
+        verify(scheduleGenerationExecutor, times(1)).execute(any());
+    }
+
+    private void runInline() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(scheduleGenerationExecutor).execute(any());
+    }
+}
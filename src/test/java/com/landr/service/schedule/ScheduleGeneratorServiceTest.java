@@ -9,19 +9,27 @@ import com.landr.domain.lecture.Lesson;
 import com.landr.domain.plan.DayOfWeek;
 import com.landr.domain.plan.Plan;
 import com.landr.domain.plan.PlanType;
+import com.landr.domain.schedule.DailySchedule;
+import com.landr.domain.schedule.LessonSchedule;
 import com.landr.domain.user.User;
 import com.landr.exception.ApiException;
 import com.landr.exception.ExceptionType;
 import com.landr.repository.dailyschedule.DailyScheduleRepository;
 import com.landr.repository.lesson.LessonRepository;
 import com.landr.repository.lessonschedule.LessonScheduleRepository;
+import com.landr.repository.lessonschedule.dto.CompletedDailySummary;
 import com.landr.repository.plan.PlanRepository;
+import com.landr.repository.planprogress.PlanProgressRepository;
+import com.landr.repository.schedule.ScheduleBulkRepository;
+import com.landr.service.lecture.LectureCatalogService;
 import com.landr.service.schedule.ScheduleGeneratorService.ScheduleGenerationResult;
 import jakarta.persistence.EntityManager;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,7 +53,15 @@ class ScheduleGeneratorServiceTest {
     @Mock
     private PlanRepository planRepository;
     @Mock
+    private ScheduleBulkRepository scheduleBulkRepository;
+    @Mock
     private EntityManager entityManager;
+    @Mock
+    private PlanProgressRepository planProgressRepository;
+    @Mock
+    private LectureCatalogService lectureCatalogService;
+    @Spy
+    private SchedulePlanner schedulePlanner = new SchedulePlanner(Clock.systemDefaultZone());
 
     @InjectMocks
     private ScheduleGeneratorService scheduleGeneratorService;
@@ -104,10 +121,9 @@ class ScheduleGeneratorServiceTest {
         when(lessonRepository.findByLectureIdAndOrderBetweenOrderByOrder(
             lecture.getId(), 1, 3))
             .thenReturn(lessons);
-        when(dailyScheduleRepository.saveAll(anyList()))
-            .thenAnswer(invocation -> invocation.getArgument(0));
-        when(lessonScheduleRepository.saveAll(anyList()))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(scheduleBulkRepository.insertSchedules(eq(periodPlan.getId()), anyList(), anyList()))
+            .thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).size()
+                + ((List<?>) invocation.getArgument(2)).size());
 
         // When
         ScheduleGenerationResult result = scheduleGeneratorService.generateSchedules(periodPlan);
@@ -117,6 +133,32 @@ class ScheduleGeneratorServiceTest {
         assertFalse(result.getDailySchedules().isEmpty());
         assertFalse(result.getLessonSchedules().isEmpty());
         assertEquals(lessons.size(), result.getLessonSchedules().size());
+        verify(scheduleBulkRepository, times(1))
+            .insertSchedules(periodPlan.getId(), result.getDailySchedules(), result.getLessonSchedules());
+        verify(planProgressRepository, times(1)).save(argThat(progress ->
+            progress.getPlanId().equals(periodPlan.getId())
+                && progress.getTotalLessons() == lessons.size()
+                && progress.getCompletedLessons() == 0));
+        verify(dailyScheduleRepository, never()).saveAll(anyList());
+        verify(lessonScheduleRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("스케줄 미리보기 - 배분만 계산하고 저장하지 않음")
+    void previewSchedules_DoesNotPersist() {
+        // Given
+        when(lessonRepository.findByLectureIdAndOrderBetweenOrderByOrder(
+            lecture.getId(), 1, 3))
+            .thenReturn(lessons);
+
+        // When
+        ScheduleGenerationResult result = scheduleGeneratorService.previewSchedules(timePlan);
+
+        // Then
+        assertEquals(lessons.size(), result.getLessonSchedules().size());
+        assertFalse(result.getDailySchedules().isEmpty());
+        verify(scheduleBulkRepository, never()).insertSchedules(anyLong(), anyList(), anyList());
+        verify(planProgressRepository, never()).save(any());
     }
 
     @Test
@@ -158,4 +200,121 @@ class ScheduleGeneratorServiceTest {
 
         assertEquals(ExceptionType.PLAN_END_DATE_PASSED, exception.getExceptionType());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("재스케줄링 - 미완료 강의가 없으면 스케줄을 변경하지 않음")
+    void rescheduleIncompleteLessons_NoUncompletedLessons() {
+        // Given
+        when(planRepository.findByIdAndUserId(periodPlan.getId(), user.getId()))
+            .thenReturn(Optional.of(periodPlan));
+        when(lessonScheduleRepository.findUncompletedLessonSchedulesByPlanId(periodPlan.getId()))
+            .thenReturn(List.of());
+
+        // When
+        scheduleGeneratorService.rescheduleIncompleteLessons(user.getId(), periodPlan.getId());
+
+        // Then
+        verify(dailyScheduleRepository, never()).findByPlanId(anyLong());
+        verify(dailyScheduleRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(scheduleBulkRepository, never()).insertDailySchedules(anyLong(), anyList());
+        // 스터디 그룹 참여 시 이 계획의 스케줄을 복사하지 않도록 기록
+        assertTrue(periodPlan.isRescheduled());
+    }
+
+    @Test
+    @DisplayName("재스케줄링 - 달라진 강의만 옮기고, 기존 일정 합계를 다시 계산하고, 비게 된 일정은 삭제")
+    void rescheduleIncompleteLessons_MovesOnlyChangedLessons() {
+        // Given: 매일 60분씩 공부하는 TIME 계획, 강의 3개 모두 60분
+        LocalDate today = LocalDate.ofEpochDay(schedulePlanner.today());
+        Plan plan = Plan.builder()
+            .id(4L)
+            .user(user)
+            .lecture(lecture)
+            .planType(PlanType.TIME)
+            .dailyTime(60)
+            .studyDays(new HashSet<>(Arrays.asList(DayOfWeek.values())))
+            .playbackSpeed(1.0f)
+            .build();
+        List<Lesson> sameLengthLessons = Arrays.asList(
+            Lesson.builder().id(1L).order(1).duration(60).lecture(lecture).build(),
+            Lesson.builder().id(2L).order(2).duration(60).lecture(lecture).build(),
+            Lesson.builder().id(3L).order(3).duration(60).lecture(lecture).build());
+
+        // 완료 강의만 있는 지난 날, 밀린 강의 1개가 있는 어제, 완료 강의 1개가 있는 오늘, 강의 2개가 있는 내일
+        DailySchedule completedOnly = spy(dailySchedule(99L, plan, today.minusDays(2), 1, 40));
+        DailySchedule yesterday = spy(dailySchedule(100L, plan, today.minusDays(1), 1, 60));
+        DailySchedule todaySchedule = spy(dailySchedule(101L, plan, today, 1, 30));
+        DailySchedule tomorrow = spy(dailySchedule(102L, plan, today.plusDays(1), 2, 120));
+
+        LessonSchedule overdue = spy(lessonSchedule(yesterday, sameLengthLessons.get(0), 1));
+        LessonSchedule onTrack = spy(lessonSchedule(tomorrow, sameLengthLessons.get(1), 1));
+        LessonSchedule crowded = spy(lessonSchedule(tomorrow, sameLengthLessons.get(2), 2));
+
+        // 모레 일정은 새로 INSERT 되며, 합계를 다시 읽지 않도록 프록시만 사용
+        DailySchedule inserted = mock(DailySchedule.class);
+        when(inserted.getId()).thenReturn(200L);
+
+        when(planRepository.findByIdAndUserId(plan.getId(), user.getId())).thenReturn(Optional.of(plan));
+        when(lessonScheduleRepository.findUncompletedLessonSchedulesByPlanId(plan.getId()))
+            .thenReturn(Arrays.asList(overdue, onTrack, crowded));
+        when(dailyScheduleRepository.findByPlanId(plan.getId()))
+            .thenReturn(Arrays.asList(completedOnly, yesterday, todaySchedule, tomorrow));
+        when(lessonScheduleRepository.summarizeCompletedByPlanId(plan.getId()))
+            .thenReturn(Arrays.asList(
+                new CompletedDailySummary(99L, 1L, 40L, 1),
+                new CompletedDailySummary(101L, 1L, 30L, 1)));
+        when(scheduleBulkRepository.insertDailySchedules(eq(plan.getId()), anyList()))
+            .thenReturn(Map.of(today.plusDays(2), 200L));
+        when(entityManager.getReference(DailySchedule.class, 200L)).thenReturn(inserted);
+
+        // When
+        scheduleGeneratorService.rescheduleIncompleteLessons(user.getId(), plan.getId());
+
+        // Then
+        // 어제 강의는 오늘의 완료 강의 뒤로 이동
+        verify(overdue).reschedule(todaySchedule, 60, 2);
+        // 이미 내일 첫 번째인 강의는 그대로 둠
+        verify(onTrack, never()).reschedule(any(), anyInt(), anyInt());
+        // 내일의 두 번째 강의는 새로 만든 모레 일정으로 이동
+        verify(crowded).reschedule(inserted, 60, 1);
+        verify(scheduleBulkRepository).insertDailySchedules(eq(plan.getId()), argThat(list ->
+            list.size() == 1
+                && list.get(0).getDate().equals(today.plusDays(2))
+                && list.get(0).getTotalLessons() == 1
+                && list.get(0).getTotalDuration() == 60));
+
+        // 기존 일정은 완료 + 미완료 강의로 합계를 다시 계산하고, 달라진 경우에만 갱신
+        verify(todaySchedule).updateTotals(2, 90);
+        verify(tomorrow).updateTotals(1, 60);
+        verify(completedOnly, never()).updateTotals(anyInt(), anyInt());
+
+        // 새로 INSERT 한 일정은 합계를 다시 읽지 않음 (프록시 초기화 없음)
+        verify(inserted, never()).getTotalLessons();
+        verify(inserted, never()).getTotalDuration();
+        verify(inserted, never()).updateTotals(anyInt(), anyInt());
+
+        // 비게 된 어제 일정만 삭제
+        verify(dailyScheduleRepository).deleteAllByIdInBatch(List.of(100L));
+        verify(yesterday, never()).updateTotals(anyInt(), anyInt());
+    }
+
+    private DailySchedule dailySchedule(Long id, Plan plan, LocalDate date, int totalLessons,
+        int totalDuration) {
+        return DailySchedule.builder()
+            .id(id)
+            .plan(plan)
+            .date(date)
+            .totalLessons(totalLessons)
+            .totalDuration(totalDuration)
+            .build();
+    }
+
+    private LessonSchedule lessonSchedule(DailySchedule dailySchedule, Lesson lesson, int displayOrder) {
+        return LessonSchedule.builder()
+            .dailySchedule(dailySchedule)
+            .lesson(lesson)
+            .adjustedDuration(lesson.getDuration())
+            .displayOrder(displayOrder)
+            .build();
+    }
+}
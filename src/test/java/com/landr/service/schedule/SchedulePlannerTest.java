@@ -0,0 +1,173 @@
+package com.landr.service.schedule;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.landr.domain.plan.DayOfWeek;
+import com.landr.domain.plan.DistributionStrategy;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SchedulePlannerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private SchedulePlanner schedulePlanner;
+    private int monWedFri;
+
+    @BeforeEach
+    void setUp() {
+        // 2024-01-02 (화요일)
+        Clock clock = Clock.fixed(LocalDate.of(2024, 1, 2).atStartOfDay(ZONE).toInstant(), ZONE);
+        schedulePlanner = new SchedulePlanner(clock);
+        monWedFri = SchedulePlanner.studyDayMask(EnumSet.of(DayOfWeek.MON, DayOfWeek.WED, DayOfWeek.FRI));
+    }
+
+    private static int epochDay(int year, int month, int day) {
+        return (int) LocalDate.of(year, month, day).toEpochDay();
+    }
+
+    @Test
+    @DisplayName("epoch day의 요일 인덱스는 월요일이 0")
+    void dayOfWeekIndex() {
+        assertEquals(0, SchedulePlanner.dayOfWeekIndex(epochDay(2024, 1, 1)));
+        assertEquals(6, SchedulePlanner.dayOfWeekIndex(epochDay(2024, 1, 7)));
+        assertEquals(3, SchedulePlanner.dayOfWeekIndex(0));
+        assertEquals(epochDay(2024, 1, 2), schedulePlanner.today());
+    }
+
+    @Test
+    @DisplayName("기간 내 공부 요일 수 계산")
+    void countStudyDays() {
+        int from = epochDay(2024, 1, 1);
+        for (int to = from - 1; to < from + 40; to++) {
+            int expected = 0;
+            for (int day = from; day <= to; day++) {
+                if (SchedulePlanner.isStudyDay(monWedFri, day)) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, SchedulePlanner.countStudyDays(from, to, monWedFri));
+        }
+    }
+
+    @Test
+    @DisplayName("PERIOD 배분 - 평균의 1.4배를 넘으면 다음 공부일로 넘어감")
+    void planPeriod() {
+        int[] durations = {30, 30, 30, 30};
+
+        // 2024-01-01(월) ~ 2024-01-03(수): 공부일 2일, 일별 한도 84분
+        PlannedSchedule planned = schedulePlanner.planPeriod(
+            durations, epochDay(2024, 1, 1), epochDay(2024, 1, 3), monWedFri);
+
+        assertEquals(2, planned.dayCount());
+        assertEquals(4, planned.lessonCount());
+        assertEquals(epochDay(2024, 1, 1), planned.dayEpoch(0));
+        assertEquals(2, planned.lessonsOnDay(0));
+        assertEquals(60, planned.dayMinutes(0));
+        assertEquals(epochDay(2024, 1, 3), planned.dayEpoch(1));
+        assertEquals(2, planned.lessonsOnDay(1));
+    }
+
+    @Test
+    @DisplayName("PERIOD 배분 - 마지막 공부일에는 남은 강의를 모두 배정")
+    void planPeriod_LastDayTakesRemaining() {
+        int[] durations = {100, 10, 10, 10, 10};
+
+        PlannedSchedule planned = schedulePlanner.planPeriod(
+            durations, epochDay(2024, 1, 1), epochDay(2024, 1, 3), monWedFri);
+
+        assertEquals(2, planned.dayCount());
+        assertEquals(1, planned.lessonsOnDay(0));
+        assertEquals(4, planned.lessonsOnDay(1));
+        assertEquals(40, planned.dayMinutes(1));
+    }
+
+    @Test
+    @DisplayName("PERIOD 배분 - 공부일이 없으면 빈 결과")
+    void planPeriod_NoStudyDays() {
+        PlannedSchedule planned = schedulePlanner.planPeriod(
+            new int[]{30}, epochDay(2024, 1, 2), epochDay(2024, 1, 2), monWedFri);
+
+        assertTrue(planned.isEmpty());
+        assertEquals(0, planned.lessonCount());
+    }
+
+    @Test
+    @DisplayName("PERIOD 균등 배분 - 하루 최대 공부 시간을 최소화")
+    void planPeriodBalanced() {
+        int[] durations = {70, 70, 10, 10, 10, 10, 10, 10};
+        int from = epochDay(2024, 1, 1);
+        int to = epochDay(2024, 1, 5);
+
+        PlannedSchedule greedy = schedulePlanner.planPeriod(
+            durations, from, to, monWedFri, DistributionStrategy.GREEDY);
+        PlannedSchedule balanced = schedulePlanner.planPeriod(
+            durations, from, to, monWedFri, DistributionStrategy.BALANCED);
+
+        assertEquals(90, maxDayMinutes(greedy));
+        assertEquals(70, maxDayMinutes(balanced));
+        assertEquals(3, balanced.dayCount());
+        assertEquals(durations.length, balanced.lessonCount());
+        assertEquals(60, balanced.dayMinutes(2));
+    }
+
+    @Test
+    @DisplayName("PERIOD 균등 배분 - 강의 수가 충분하면 뒤쪽 공부일을 비우지 않음")
+    void planPeriodBalanced_FillsTrailingDays() {
+        int[] durations = {5, 5, 5, 50};
+
+        // 2024-01-01(월) ~ 2024-01-08(월): 공부일 4일
+        PlannedSchedule planned = schedulePlanner.planPeriodBalanced(
+            durations, epochDay(2024, 1, 1), epochDay(2024, 1, 8), monWedFri);
+
+        assertEquals(4, planned.dayCount());
+        assertEquals(epochDay(2024, 1, 8), planned.dayEpoch(3));
+        assertEquals(50, planned.dayMinutes(3));
+    }
+
+    @Test
+    @DisplayName("TIME 배분 - 오늘 이후 공부 요일마다 dailyTime 이내로 배정")
+    void planTime() {
+        int[] durations = {60, 60, 60, 150};
+
+        PlannedSchedule planned = schedulePlanner.planTime(
+            durations, schedulePlanner.today(), 120, monWedFri);
+
+        assertEquals(3, planned.dayCount());
+        assertEquals(epochDay(2024, 1, 3), planned.dayEpoch(0));
+        assertEquals(2, planned.lessonsOnDay(0));
+        assertEquals(120, planned.dayMinutes(0));
+        assertEquals(epochDay(2024, 1, 5), planned.dayEpoch(1));
+        assertEquals(1, planned.lessonsOnDay(1));
+        // dailyTime보다 긴 강의는 단독으로 배정
+        assertEquals(epochDay(2024, 1, 8), planned.dayEpoch(2));
+        assertEquals(150, planned.dayMinutes(2));
+    }
+
+    @Test
+    @DisplayName("TIME 배분 - 공부 요일이 없으면 빈 결과")
+    void planTime_NoStudyDays() {
+        PlannedSchedule planned = schedulePlanner.planTime(new int[]{30}, schedulePlanner.today(), 120, 0);
+
+        assertTrue(planned.isEmpty());
+    }
+
+    private static int maxDayMinutes(PlannedSchedule planned) {
+        int max = 0;
+        for (int day = 0; day < planned.dayCount(); day++) {
+            max = Math.max(max, planned.dayMinutes(day));
+        }
+        return max;
+    }
+
+    @Test
+    @DisplayName("재생 속도를 반영한 강의 시간 계산")
+    void adjustDurations() {
+        assertArrayEquals(new int[]{40, 60}, SchedulePlanner.adjustDurations(new int[]{60, 90}, 1.5f));
+    }
+}
@@ -17,6 +17,8 @@ import com.landr.domain.schedule.LessonSchedule;
 import com.landr.domain.user.User;
 import com.landr.repository.dailyschedule.DailyScheduleRepository;
 import com.landr.repository.lessonschedule.LessonScheduleRepository;
+import com.landr.repository.planprogress.PlanProgressRepository;
+import com.landr.repository.planprogress.dto.PlanProgressSummary;
 import com.landr.service.dto.DailyScheduleWithLessonsDto;
 import com.landr.service.dto.UserProgressDto;
 import java.time.LocalDate;
@@ -39,6 +41,9 @@ class ScheduleServiceTest {
     @Mock
     private LessonScheduleRepository lessonScheduleRepository;
 
+    @Mock
+    private PlanProgressRepository planProgressRepository;
+
     @InjectMocks
     private ScheduleService scheduleService;
 
@@ -207,15 +212,18 @@ class ScheduleServiceTest {
     @DisplayName("사용자 진행 상황 조회 성공 - 여러 강의")
     void getUserProgress_MultipleSubjects_Success() {
         // Given
-        when(lessonScheduleRepository.findAllByUserIdGroupedByLecture(user.getId()))
-            .thenReturn(Arrays.asList(lessonSchedule1, lessonSchedule2, lessonSchedule3, lessonSchedule4));
+        when(planProgressRepository.findSummariesByUserId(user.getId()))
+            .thenReturn(Arrays.asList(
+                new PlanProgressSummary(plan1.getId(), "수학", "수학 기초", 2, 1),
+                new PlanProgressSummary(plan2.getId(), "영어", "영어 문법", 2, 1)
+            ));
 
         // When
         UserProgressDto result = scheduleService.getUserProgress(user.getId());
 
         // Then
         assertNotNull(result);
-        assertEquals(2, result.getTotalCompletedLessons()); // lessonSchedule2, lessonSchedule4만 완료
+        assertEquals(2, result.getTotalCompletedLessons());
         assertEquals(4, result.getTotalLessons());
         assertEquals(2, result.getLectureProgress().size()); // plan1, plan2
 
@@ -228,26 +236,11 @@ class ScheduleServiceTest {
     @DisplayName("사용자 진행 상황 조회 - 모든 강의가 완료된 경우")
     void getUserProgress_AllCompleted() {
         // Given
-        lessonSchedule1 = LessonSchedule.builder()
-            .id(1L)
-            .dailySchedule(dailySchedule1)
-            .lesson(lesson1)
-            .adjustedDuration(60)
-            .displayOrder(1)
-            .completed(true)
-            .build();
-
-        lessonSchedule3 = LessonSchedule.builder()
-            .id(3L)
-            .dailySchedule(dailySchedule2)
-            .lesson(lesson3)
-            .adjustedDuration(80)
-            .displayOrder(1)
-            .completed(true)
-            .build();
-
-        when(lessonScheduleRepository.findAllByUserIdGroupedByLecture(user.getId()))
-            .thenReturn(Arrays.asList(lessonSchedule1, lessonSchedule2, lessonSchedule3, lessonSchedule4));
+        when(planProgressRepository.findSummariesByUserId(user.getId()))
+            .thenReturn(Arrays.asList(
+                new PlanProgressSummary(plan1.getId(), "수학", "수학 기초", 2, 2),
+                new PlanProgressSummary(plan2.getId(), "영어", "영어 문법", 2, 2)
+            ));
 
         // When
         UserProgressDto result = scheduleService.getUserProgress(user.getId());
@@ -263,7 +256,7 @@ class ScheduleServiceTest {
     @DisplayName("사용자 진행 상황 조회 - 레슨이 없는 경우")
     void getUserProgress_NoLessons() {
         // Given
-        when(lessonScheduleRepository.findAllByUserIdGroupedByLecture(user.getId()))
+        when(planProgressRepository.findSummariesByUserId(user.getId()))
             .thenReturn(Collections.emptyList());
 
         // When
@@ -280,44 +273,11 @@ class ScheduleServiceTest {
     @DisplayName("진행률 정렬 테스트")
     void getUserProgress_SortByProgressRate() {
         // Given
-        // plan1: 1/3 완료 (33%), plan2: 0/1 완료 (0%)
-        Plan plan3 = Plan.builder()
-            .id(3L)
-            .user(user)
-            .lecture(lecture1)
-            .lectureName("수학 고급")
-            .build();
-
-        DailySchedule dailySchedule3 = DailySchedule.builder()
-            .id(3L)
-            .plan(plan3)
-            .build();
-
-        LessonSchedule lessonSchedule5 = LessonSchedule.builder()
-            .id(5L)
-            .dailySchedule(dailySchedule3)
-            .lesson(lesson1)
-            .completed(true)
-            .build();
-
-        LessonSchedule lessonSchedule6 = LessonSchedule.builder()
-            .id(6L)
-            .dailySchedule(dailySchedule3)
-            .lesson(lesson2)
-            .completed(false)
-            .build();
-
-        LessonSchedule lessonSchedule7 = LessonSchedule.builder()
-            .id(7L)
-            .dailySchedule(dailySchedule3)
-            .lesson(lesson3)
-            .completed(false)
-            .build();
-
-        when(lessonScheduleRepository.findAllByUserIdGroupedByLecture(user.getId()))
+        // plan3: 1/3 완료 (33%), plan2: 0/1 완료 (0%)
+        when(planProgressRepository.findSummariesByUserId(user.getId()))
             .thenReturn(Arrays.asList(
-                lessonSchedule5, lessonSchedule6, lessonSchedule7, // plan3: 33% (1/3)
-                lessonSchedule3 // plan2: 0% (0/1)
+                new PlanProgressSummary(3L, "수학 고급", "수학 기초", 3, 1),
+                new PlanProgressSummary(plan2.getId(), "영어", "영어 문법", 1, 0)
             ));
 
         // When
@@ -337,28 +297,12 @@ class ScheduleServiceTest {
     @DisplayName("같은 진행률인 경우 정렬 순서")
     void getUserProgress_SameProgressRate() {
         // Given
-        Plan plan3 = Plan.builder()
-            .id(3L)
-            .user(user)
-            .lecture(lecture2)
-            .lectureName("영어 고급")
-            .build();
-
-        DailySchedule dailySchedule3 = DailySchedule.builder()
-            .id(3L)
-            .plan(plan3)
-            .build();
-
         // 두 계획 모두 0% 진행률
-        LessonSchedule lessonSchedule5 = LessonSchedule.builder()
-            .id(5L)
-            .dailySchedule(dailySchedule3)
-            .lesson(lesson3)
-            .completed(false)
-            .build();
-
-        when(lessonScheduleRepository.findAllByUserIdGroupedByLecture(user.getId()))
-            .thenReturn(Arrays.asList(lessonSchedule3, lessonSchedule5));
+        when(planProgressRepository.findSummariesByUserId(user.getId()))
+            .thenReturn(Arrays.asList(
+                new PlanProgressSummary(plan2.getId(), "영어", "영어 문법", 1, 0),
+                new PlanProgressSummary(3L, "영어 고급", "영어 문법", 1, 0)
+            ));
 
         // When
         UserProgressDto result = scheduleService.getUserProgress(user.getId());
@@ -366,9 +310,10 @@ class ScheduleServiceTest {
         // Then
         assertEquals(2, result.getLectureProgress().size());
         // 모두 0% 진행률이므로 순서는 Plan 순서에 따라
+        assertEquals(plan2.getId(), result.getLectureProgress().get(0).getPlanId());
         result.getLectureProgress().forEach(progress -> {
             assertEquals(0, progress.getCompletedLessons());
             assertEquals(1, progress.getTotalLessons());
         });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,153 @@
+package com.landr.service.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.landr.repository.scheduler.SchedulerRunRepository;
+import com.landr.service.scheduler.dto.ShardSlice;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLeaseServiceTest {
+
+    private static final String JOB = "test-job";
+    private static final String RUN_KEY = "2025-01-01";
+    private static final String NODE_ID = "node-1";
+
+    @Mock
+    private SchedulerRunRepository schedulerRunRepository;
+
+    @Test
+    @DisplayName("실행권을 얻으면 전체 사용자를 처리하고 완료를 기록")
+    void runExclusively_Acquired() {
+        // Given
+        SchedulerLeaseService service = service(1);
+        when(schedulerRunRepository.tryAcquire(JOB, RUN_KEY, 0, 1, NODE_ID, 1800L))
+            .thenReturn(true);
+
+        // When
+        List<ShardSlice> slices = new ArrayList<>();
+        int completed = service.runExclusively(JOB, RUN_KEY, slice -> {
+            slices.add(slice);
+            return 3;
+        });
+
+        // Then
+        assertEquals(1, completed);
+        assertEquals(1, slices.size());
+        assertEquals(0, slices.get(0).getIndex());
+        assertEquals(1, slices.get(0).getCount());
+        verify(schedulerRunRepository).complete(JOB, RUN_KEY, 0, NODE_ID, 3);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행권을 가졌으면 작업을 실행하지 않음")
+    void runExclusively_NotAcquired() {
+        // Given
+        SchedulerLeaseService service = service(1);
+        when(schedulerRunRepository.tryAcquire(JOB, RUN_KEY, 0, 1, NODE_ID, 1800L))
+            .thenReturn(false);
+
+        // When
+        int completed = service.runExclusively(JOB, RUN_KEY, slice -> {
+            throw new AssertionError("실행되면 안 됨");
+        });
+
+        // Then
+        assertEquals(0, completed);
+        verify(schedulerRunRepository, never())
+            .complete(anyString(), anyString(), anyInt(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("샤드 모드에서는 실행권을 얻은 샤드만 처리하고, 실패한 샤드는 lease를 풀고 계속 진행")
+    void runExclusively_Sharded() {
+        // Given: 샤드 3개 중 하나는 다른 노드가 처리 중
+        SchedulerLeaseService service = service(3);
+        when(schedulerRunRepository.tryAcquire(eq(JOB), eq(RUN_KEY), anyInt(), eq(3), eq(NODE_ID),
+            anyLong()))
+            .thenAnswer(invocation -> (int) invocation.getArgument(2) != 1);
+
+        // When
+        List<Integer> processedShards = new ArrayList<>();
+        int completed = service.runExclusively(JOB, RUN_KEY, slice -> {
+            if (slice.getIndex() == 2) {
+                throw new IllegalStateException("FCM error");
+            }
+            processedShards.add(slice.getIndex());
+            return 1;
+        });
+
+        // Then
+        assertEquals(1, completed);
+        assertEquals(List.of(0), processedShards);
+        verify(schedulerRunRepository).complete(JOB, RUN_KEY, 0, NODE_ID, 1);
+        verify(schedulerRunRepository).release(JOB, RUN_KEY, 2, NODE_ID);
+    }
+
+    @Test
+    @DisplayName("샤드 수가 1보다 작으면 예외")
+    void constructor_InvalidShardCount() {
+        assertThrows(IllegalArgumentException.class, () -> service(0));
+    }
+
+    @Test
+    @DisplayName("시작된 회차에 완료되지 않은 샤드가 있으면 다시 실행")
+    void retryIncomplete_RetriesFailedShard() {
+        // Given: 샤드 2개 중 샤드 1만 실패해 lease가 풀려 있음
+        SchedulerLeaseService service = service(2);
+        when(schedulerRunRepository.hasIncompleteShards(JOB, RUN_KEY, 2)).thenReturn(true);
+        when(schedulerRunRepository.tryAcquire(eq(JOB), eq(RUN_KEY), anyInt(), eq(2), eq(NODE_ID),
+            anyLong())).thenAnswer(invocation -> invocation.<Integer>getArgument(2) == 1);
+
+        // When
+        List<ShardSlice> slices = new ArrayList<>();
+        int completed = service.retryIncomplete(JOB, RUN_KEY, slice -> {
+            slices.add(slice);
+            return 5;
+        });
+
+        // Then
+        assertEquals(1, completed);
+        assertEquals(1, slices.size());
+        assertEquals(1, slices.get(0).getIndex());
+        verify(schedulerRunRepository).complete(JOB, RUN_KEY, 1, NODE_ID, 5);
+    }
+
+    @Test
+    @DisplayName("회차가 시작되지 않았거나 모두 완료되었으면 재시도하지 않음")
+    void retryIncomplete_NothingToRetry() {
+        // Given
+        SchedulerLeaseService service = service(2);
+        when(schedulerRunRepository.hasIncompleteShards(JOB, RUN_KEY, 2)).thenReturn(false);
+
+        // When
+        int completed = service.retryIncomplete(JOB, RUN_KEY, slice -> {
+            throw new AssertionError("실행되면 안 됨");
+        });
+
+        // Then
+        assertEquals(0, completed);
+        verify(schedulerRunRepository, never())
+            .tryAcquire(anyString(), anyString(), anyInt(), anyInt(), anyString(), anyLong());
+    }
+
+    private SchedulerLeaseService service(int shardCount) {
+        return new SchedulerLeaseService(schedulerRunRepository, NODE_ID, Duration.ofMinutes(30),
+            shardCount);
+    }
+}
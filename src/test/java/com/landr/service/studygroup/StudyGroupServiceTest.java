@@ -163,7 +163,7 @@ class StudyGroupServiceTest {
         when(studyGroupMemberRepository.existsByStudyGroupIdAndUserId(studyGroup.getId(),
             member.getId()))
             .thenReturn(false);
-        when(planService.createPlan(any(CreatePlanRequest.class), eq(member)))
+        when(planService.copyPlan(basePlan, member))
             .thenReturn(newPlan);
         when(studyGroupMemberRepository.save(any(StudyGroupMember.class)))
             .thenAnswer(invocation -> invocation.getArgument(0));
@@ -172,7 +172,8 @@ class StudyGroupServiceTest {
         assertDoesNotThrow(() -> studyGroupService.joinStudyGroup(request, member));
 
         // Then
-        verify(planService, times(1)).createPlan(any(CreatePlanRequest.class), eq(member));
+        verify(planService, times(1)).copyPlan(basePlan, member);
+        verify(planService, never()).createPlan(any(CreatePlanRequest.class), any());
         verify(studyGroupMemberRepository, times(1)).save(any(StudyGroupMember.class));
     }
 
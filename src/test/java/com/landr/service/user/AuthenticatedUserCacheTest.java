@@ -0,0 +1,84 @@
+package com.landr.service.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.landr.domain.user.User;
+import com.landr.repository.user.UserRepository;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticatedUserCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private AuthenticatedUserCache authenticatedUserCache;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        authenticatedUserCache = new AuthenticatedUserCache(userRepository, 100, Duration.ofMinutes(5));
+        user = User.builder()
+            .id(1L)
+            .email("test@test.com")
+            .name("testuser")
+            .build();
+    }
+
+    @Test
+    @DisplayName("같은 사용자는 한 번만 DB에서 조회")
+    void get_CachesUser() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // When
+        authenticatedUserCache.get(1L);
+        Optional<User> result = authenticatedUserCache.get(1L);
+
+        // Then
+        assertEquals(user, result.orElseThrow());
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("evict 후에는 DB에서 다시 조회")
+    void evict_ReloadsUser() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        authenticatedUserCache.get(1L);
+
+        // When
+        authenticatedUserCache.evict(1L);
+        authenticatedUserCache.get(1L);
+
+        // Then
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐시하지 않음")
+    void get_MissingUserNotCached() {
+        // Given
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // When
+        Optional<User> first = authenticatedUserCache.get(2L);
+        authenticatedUserCache.get(2L);
+
+        // Then
+        assertTrue(first.isEmpty());
+        verify(userRepository, times(2)).findById(2L);
+    }
+}
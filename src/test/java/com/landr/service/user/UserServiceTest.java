@@ -30,6 +30,9 @@ class UserServiceTest {
     @Mock
     private UserDeviceRepository userDeviceRepository;
 
+    @Mock
+    private AuthenticatedUserCache authenticatedUserCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -116,6 +119,7 @@ class UserServiceTest {
         // Then
         assertEquals(newName, existingUser.getName());
         verify(userRepository, times(1)).findById(userId);
+        verify(authenticatedUserCache, times(1)).evict(userId);
     }
 
     @Test